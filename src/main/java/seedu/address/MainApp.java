@@ -13,6 +13,7 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MemoryWatcher;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
@@ -27,6 +28,8 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -50,6 +53,7 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
     protected UserPrefs userPrefs;
+    protected MemoryWatcher memoryWatcher;
 
 
     @Override
@@ -61,14 +65,17 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs.getAddressBookFilePath());
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, config.getSaveDebounce());
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model);
+        LogicManager logicManager = new LogicManager(model, config);
+        memoryWatcher = new MemoryWatcher(MemoryWatcher.DEFAULT_USAGE_THRESHOLD, logicManager::shrinkUndoHistory);
+        memoryWatcher.start();
+        logic = logicManager;
 
         ui = new UiManager(logic, config, userPrefs);
 
@@ -105,6 +112,17 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the storage for the address book file at {@code filePath}, in the binary format if its name ends in
+     * {@value BinaryAddressBookStorage#FILE_EXTENSION}, or else in the journaled XML format.
+     */
+    private AddressBookStorage initAddressBookStorage(String filePath) {
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            return new BinaryAddressBookStorage(filePath);
+        }
+        return new JournaledAddressBookStorage(new XmlAddressBookStorage(filePath));
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -191,11 +209,17 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        memoryWatcher.stop();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.checkpoint();
+        } catch (IOException e) {
+            logger.severe("Failed to save data file in full " + StringUtil.getDetails(e));
+        }
         Platform.exit();
         System.exit(0);
     }
@@ -9,11 +9,17 @@ import java.util.logging.Level;
 public class Config {
 
     public static final String DEFAULT_CONFIG_FILE = "config.json";
+    public static final int DEFAULT_UNDO_LIMIT = 100;
+    public static final long DEFAULT_UNDO_BYTE_BUDGET = 32L * 1024 * 1024;
+    public static final long DEFAULT_SAVE_DEBOUNCE = 200;
 
     // Config values customizable through config file
     private String appTitle = "Address App";
     private Level logLevel = Level.INFO;
     private String userPrefsFilePath = "preferences.json";
+    private int undoLimit = DEFAULT_UNDO_LIMIT;
+    private long undoByteBudget = DEFAULT_UNDO_BYTE_BUDGET;
+    private long saveDebounce = DEFAULT_SAVE_DEBOUNCE;
 
     public String getAppTitle() {
         return appTitle;
@@ -39,6 +45,39 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the most commands that can be undone in a row.
+     */
+    public int getUndoLimit() {
+        return undoLimit;
+    }
+
+    public void setUndoLimit(int undoLimit) {
+        this.undoLimit = undoLimit;
+    }
+
+    /**
+     * Returns roughly how many bytes the changes kept for undoing commands may take up.
+     */
+    public long getUndoByteBudget() {
+        return undoByteBudget;
+    }
+
+    public void setUndoByteBudget(long undoByteBudget) {
+        this.undoByteBudget = undoByteBudget;
+    }
+
+    /**
+     * Returns how many milliseconds changes to the address book are gathered for before they are saved together.
+     */
+    public long getSaveDebounce() {
+        return saveDebounce;
+    }
+
+    public void setSaveDebounce(long saveDebounce) {
+        this.saveDebounce = saveDebounce;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -52,12 +91,15 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && undoLimit == o.undoLimit
+                && undoByteBudget == o.undoByteBudget
+                && saveDebounce == o.saveDebounce;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, undoLimit, undoByteBudget, saveDebounce);
     }
 
     @Override
@@ -66,6 +108,9 @@ public class Config {
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nUndo limit : " + undoLimit);
+        sb.append("\nUndo byte budget : " + undoByteBudget);
+        sb.append("\nSave debounce : " + saveDebounce);
         return sb.toString();
     }
 
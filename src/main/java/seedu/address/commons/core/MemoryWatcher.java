@@ -0,0 +1,72 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.logging.Logger;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+
+/**
+ * Watches the heap, and runs a given action whenever it is still nearly full right after a garbage collection.
+ *
+ * This relies on the collection usage thresholds of the heap memory pools, so it costs nothing between
+ * garbage collections. The action is run on a thread of the JVM's management service, not on the JavaFX thread.
+ */
+public class MemoryWatcher {
+
+    /** The fraction of a memory pool that may be in use after a garbage collection before memory is low. */
+    public static final double DEFAULT_USAGE_THRESHOLD = 0.8;
+
+    private static final Logger logger = LogsCenter.getLogger(MemoryWatcher.class);
+
+    private final NotificationEmitter emitter = (NotificationEmitter) ManagementFactory.getMemoryMXBean();
+    private final NotificationListener listener;
+    private final double usageThreshold;
+
+    /**
+     * Creates a watcher that runs {@code onLowMemory} once {@code usageThreshold} of any heap memory pool is still
+     * in use after a garbage collection.
+     */
+    public MemoryWatcher(double usageThreshold, Runnable onLowMemory) {
+        requireNonNull(onLowMemory);
+        this.usageThreshold = usageThreshold;
+        listener = (notification, handback) -> {
+            if (MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notification.getType())) {
+                logger.warning("Heap memory is running low");
+                onLowMemory.run();
+            }
+        };
+    }
+
+    /**
+     * Sets the thresholds of the heap memory pools and starts watching them.
+     */
+    public void start() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage usage = pool.getUsage();
+            if (pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported()
+                    && usage.getMax() > 0) {
+                pool.setCollectionUsageThreshold((long) (usage.getMax() * usageThreshold));
+            }
+        }
+        emitter.addNotificationListener(listener, null, null);
+    }
+
+    /**
+     * Stops watching the heap memory pools.
+     */
+    public void stop() {
+        try {
+            emitter.removeNotificationListener(listener);
+        } catch (ListenerNotFoundException e) {
+            logger.fine("The memory watcher was not started");
+        }
+    }
+}
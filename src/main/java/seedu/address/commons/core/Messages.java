@@ -12,6 +12,8 @@ public class Messages {
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
     public static final String MESSAGE_PETS_LISTED_OVERVIEW = "%1$d pets listed!";
     public static final String MESSAGE_INVALID_APPOINTMENT_INDEX = "The appointment index provided is invalid";
+    public static final String MESSAGE_INVALID_RECURRING_APPOINTMENT_INDEX =
+            "The recurring appointment index provided is invalid";
     public static final String MESSAGE_INVALID_PET_INDEX = "The pet index provided is invalid";
     public static final String MESSAGE_APPOINTMENT_TAKEN = "The appointment has been booked";
     public static final String MESSAGE_APPOINTMENT_LIST_EMPTY = "The appointment list is empty right now.";
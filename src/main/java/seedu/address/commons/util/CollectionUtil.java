@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -48,4 +50,24 @@ public class CollectionUtil {
         }
         return true;
     }
+
+    /**
+     * Returns the position in {@code sortedList} at which {@code toInsert} keeps the list sorted by
+     * {@code comparator}, after every element that compares equal to it.
+     * {@code sortedList} must already be sorted by {@code comparator}.
+     */
+    public static <T> int insertionIndexOf(List<? extends T> sortedList, T toInsert,
+                                           Comparator<? super T> comparator) {
+        int low = 0;
+        int high = sortedList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(sortedList.get(mid), toInsert) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
 }
@@ -0,0 +1,252 @@
+package seedu.address.commons.util;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list, which is changed by making a changed copy of it.
+ *
+ * The elements are kept in a balanced binary tree (an AVL tree) in list order, in which every node counts the
+ * elements under it. A changed copy shares all but O(log n) of its nodes with the original, so getting, replacing,
+ * inserting and removing an element all take O(log n) time, and the original stays valid as it is.
+ * Any attempt to modify the list in place throws {@code UnsupportedOperationException}.
+ */
+public final class PersistentList<T> extends AbstractList<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements in {@code elements}, in iteration order, in O(n) time.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> of(Collection<? extends T> elements) {
+        if (elements instanceof PersistentList) {
+            return (PersistentList<T>) elements;
+        }
+        Object[] array = elements.toArray();
+        return new PersistentList<>(build((T[]) array, 0, array.length));
+    }
+
+    @Override
+    public T get(int index) {
+        checkElementIndex(index);
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns a copy of this list with {@code element} inserted at {@code index}.
+     */
+    public PersistentList<T> plus(int index, T element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list without the element at {@code index}.
+     */
+    public PersistentList<T> minus(int index) {
+        checkElementIndex(index);
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns a copy of this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<T> with(int index, T element) {
+        checkElementIndex(index);
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private final Deque<Node<T>> path = new ArrayDeque<>();
+
+            {
+                pushLeftmostPath(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> node = path.pop();
+                pushLeftmostPath(node.right);
+                return node.value;
+            }
+
+            private void pushLeftmostPath(Node<T> node) {
+                for (Node<T> current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+        };
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    /**
+     * Returns a balanced tree of {@code elements} from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    private static <T> Node<T> build(T[] elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(build(elements, from, mid), elements[mid], build(elements, mid + 1, to));
+    }
+
+    /**
+     * Returns a copy of the tree at {@code node} with {@code element} inserted at {@code index}.
+     */
+    private static <T> Node<T> insert(Node<T> node, int index, T element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.value, node.right);
+        }
+        return balance(node.left, node.value, insert(node.right, index - leftSize - 1, element));
+    }
+
+    /**
+     * Returns a copy of the tree at {@code node} without the element at {@code index}.
+     */
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.value, node.right);
+        }
+        if (index > leftSize) {
+            return balance(node.left, node.value, remove(node.right, index - leftSize - 1));
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(node.left, successor.value, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a copy of the tree at {@code node} with the element at {@code index} replaced by {@code element}.
+     */
+    private static <T> Node<T> replace(Node<T> node, int index, T element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(replace(node.left, index, element), node.value, node.right);
+        }
+        if (index > leftSize) {
+            return new Node<>(node.left, node.value, replace(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(node.left, element, node.right);
+    }
+
+    /**
+     * Returns a node with {@code value} between {@code left} and {@code right}, rotated to restore the balance
+     * if the heights of {@code left} and {@code right} differ by two, as they can after a single insertion or removal.
+     */
+    private static <T> Node<T> balance(Node<T> left, T value, Node<T> right) {
+        int heightDifference = heightOf(left) - heightOf(right);
+        if (heightDifference > 1) {
+            if (heightOf(left.left) < heightOf(left.right)) {
+                left = rotateLeft(left.left, left.value, left.right);
+            }
+            return rotateRight(left, value, right);
+        }
+        if (heightDifference < -1) {
+            if (heightOf(right.right) < heightOf(right.left)) {
+                right = rotateRight(right.left, right.value, right.right);
+            }
+            return rotateLeft(left, value, right);
+        }
+        return new Node<>(left, value, right);
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> left, T value, Node<T> right) {
+        return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> left, T value, Node<T> right) {
+        return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, which is never changed once it is made.
+     */
+    private static final class Node<T> {
+        private final Node<T> left;
+        private final T value;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<T> left, T value, Node<T> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            size = sizeOf(left) + 1 + sizeOf(right);
+            height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+}
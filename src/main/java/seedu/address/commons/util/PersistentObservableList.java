@@ -0,0 +1,95 @@
+package seedu.address.commons.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} that keeps its elements in a {@link PersistentList}, so that a snapshot of the list
+ * can be taken in constant time.
+ *
+ * Getting, replacing, inserting and removing an element take O(log n) time.
+ */
+public class PersistentObservableList<T> extends ModifiableObservableListBase<T> {
+
+    private PersistentList<T> contents = PersistentList.empty();
+
+    /**
+     * Returns the elements currently in the list, which stay the same however the list is changed later.
+     */
+    public PersistentList<T> snapshot() {
+        return contents;
+    }
+
+    @Override
+    public T get(int index) {
+        return contents.get(index);
+    }
+
+    @Override
+    public int size() {
+        return contents.size();
+    }
+
+    @Override
+    protected void doAdd(int index, T element) {
+        contents = contents.plus(index, element);
+    }
+
+    @Override
+    protected T doSet(int index, T element) {
+        T replaced = contents.get(index);
+        contents = contents.with(index, element);
+        return replaced;
+    }
+
+    @Override
+    protected T doRemove(int index) {
+        T removed = contents.get(index);
+        contents = contents.minus(index);
+        return removed;
+    }
+
+    /**
+     * Replaces the elements with {@code elements} in O(n) time, as a single change to the list.
+     */
+    @Override
+    public boolean setAll(Collection<? extends T> elements) {
+        PersistentList<T> removed = contents;
+        contents = PersistentList.of(elements);
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (!contents.isEmpty()) {
+            nextAdd(0, contents.size());
+        }
+        endChange();
+        return true;
+    }
+
+    /**
+     * Runs {@code changes}, which may change the list several times, and reports them as a single change to the list.
+     */
+    public void runAsSingleChange(Runnable changes) {
+        beginChange();
+        try {
+            changes.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Sorts the list with {@code comparator}, as a single change to the list.
+     */
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        List<T> sorted = new ArrayList<>(contents);
+        sorted.sort(comparator);
+        setAll(sorted);
+    }
+}
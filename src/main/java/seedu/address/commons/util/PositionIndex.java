@@ -0,0 +1,82 @@
+package seedu.address.commons.util;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index from each element of a list of unique elements to its position in the list,
+ * so that checking for an element and finding its position take constant time.
+ * Keeping the index up to date is not as cheap: an insertion or a removal rewrites the position of every element
+ * after it, so it takes time linear in the number of those elements. Only a replacement takes constant time.
+ *
+ * The index does not observe the list; its owner must report every change it makes to the list.
+ * Elements must have a {@code hashCode} that is consistent with {@code equals}.
+ */
+public class PositionIndex<T> {
+
+    private final Map<T, Integer> positions = new HashMap<>();
+
+    /**
+     * Returns true if the list contains an element equal to {@code element}.
+     */
+    public boolean contains(T element) {
+        return positions.containsKey(element);
+    }
+
+    /**
+     * Returns the position of the element equal to {@code element} in the list, or -1 if there is none.
+     */
+    public int indexOf(T element) {
+        return positions.getOrDefault(element, -1);
+    }
+
+    /**
+     * Records that the element at {@code index} in {@code list} has just been inserted,
+     * moving every later element one position back.
+     */
+    public void inserted(List<T> list, int index) {
+        reindexFrom(list, index);
+    }
+
+    /**
+     * Records that {@code removed} has just been removed from {@code index} in {@code list},
+     * moving every later element one position forward.
+     */
+    public void removed(List<T> list, T removed, int index) {
+        positions.remove(removed);
+        reindexFrom(list, index);
+    }
+
+    /**
+     * Records that every element of {@code removed} has just been removed from {@code list}, none of them from
+     * before {@code index}, moving every later element forward.
+     */
+    public void removedAll(List<T> list, Collection<? extends T> removed, int index) {
+        removed.forEach(positions::remove);
+        reindexFrom(list, index);
+    }
+
+    /**
+     * Records that {@code replaced} has just been replaced by the element at {@code index} in {@code list}.
+     */
+    public void replaced(List<T> list, T replaced, int index) {
+        positions.remove(replaced);
+        positions.put(list.get(index), index);
+    }
+
+    /**
+     * Rebuilds the index from {@code list}, after the list has been reordered or replaced as a whole.
+     */
+    public void rebuild(List<T> list) {
+        positions.clear();
+        reindexFrom(list, 0);
+    }
+
+    private void reindexFrom(List<T> list, int index) {
+        for (int i = index; i < list.size(); i++) {
+            positions.put(list.get(i), i);
+        }
+    }
+}
@@ -5,12 +5,22 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.CollationKey;
+import java.text.Collator;
+import java.text.ParseException;
+import java.text.RuleBasedCollator;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final Collator COLLATOR = createCollator();
+    /** Collators are not thread-safe, and names are converted on several threads at once when a file is loaded. */
+    private static final ThreadLocal<Collator> THREAD_COLLATOR =
+            ThreadLocal.withInitial(() -> (Collator) COLLATOR.clone());
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -68,4 +78,30 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns an English collator that ignores case, and that sorts a space before any letter or digit
+     * so that "Carl Kurz" comes before "Carla".
+     */
+    private static Collator createCollator() {
+        RuleBasedCollator english = (RuleBasedCollator) Collator.getInstance(Locale.ENGLISH);
+        try {
+            // spaces are ignored by the English rules unless they are made a character of their own
+            RuleBasedCollator collator = new RuleBasedCollator(english.getRules() + "& '\0' < ' '");
+            collator.setStrength(Collator.SECONDARY);
+            return collator;
+        } catch (ParseException pe) {
+            throw new AssertionError("The collation rules should be valid", pe);
+        }
+    }
+
+    /**
+     * Returns the key by which {@code s} is sorted alphabetically, ignoring case.
+     * Comparing two keys is much cheaper than comparing the strings themselves,
+     * so the key of a string that is sorted often should be kept rather than computed again.
+     */
+    public static CollationKey getCollationKey(String s) {
+        requireNonNull(s);
+        return THREAD_COLLATOR.get().getCollationKey(s);
+    }
 }
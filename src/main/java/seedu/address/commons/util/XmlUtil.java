@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -15,6 +17,21 @@ import javax.xml.bind.Unmarshaller;
  */
 public class XmlUtil {
 
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the JAXB context for {@code type}, which is created only once as creating it is slow.
+     */
+    public static JAXBContext getContext(Class<?> type) throws JAXBException {
+        requireNonNull(type);
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            contexts.putIfAbsent(type, context);
+        }
+        return context;
+    }
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -36,8 +53,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getContext(classToConvert).createUnmarshaller();
 
         return ((T) um.unmarshal(file));
     }
@@ -60,8 +76,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
+        Marshaller m = getContext(data.getClass()).createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
         m.marshal(data, file);
@@ -5,6 +5,7 @@ import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.autocomplete.AutoCompleteManager;
 import seedu.address.logic.commands.Command;
@@ -34,10 +35,14 @@ public class LogicManager extends ComponentManager implements Logic {
     private int currList = 0;
 
     public LogicManager(Model model) {
+        this(model, new Config());
+    }
+
+    public LogicManager(Model model, Config config) {
         this.model = model;
         history = new CommandHistory();
         addressBookParser = new AddressBookParser();
-        undoRedoStack = new UndoRedoStack();
+        undoRedoStack = new UndoRedoStack(config.getUndoLimit(), config.getUndoByteBudget());
         autoCompleteManager = new AutoCompleteManager();
     }
 
@@ -55,6 +60,13 @@ public class LogicManager extends ComponentManager implements Logic {
         }
     }
 
+    /**
+     * Discards the older half of the commands that can be undone, to free memory when it is running low.
+     */
+    public void shrinkUndoHistory() {
+        undoRedoStack.shrink();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
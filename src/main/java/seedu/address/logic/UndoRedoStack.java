@@ -1,7 +1,10 @@
 package seedu.address.logic;
 
 import java.util.Stack;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.UndoCommand;
@@ -10,12 +13,34 @@ import seedu.address.logic.commands.UndoableCommand;
 /**
  * Maintains the undo-stack (the stack of commands that can be undone) and the redo-stack (the stack of
  * commands that can be undone).
+ *
+ * The undo-stack is bounded by a number of commands and by a rough number of bytes kept for undoing them;
+ * the oldest commands are discarded first once either is exceeded.
+ * Its methods are synchronized, as {@link #shrink()} may be called from a thread watching the memory.
  */
 public class UndoRedoStack {
+    private static final Logger logger = LogsCenter.getLogger(UndoRedoStack.class);
+
+    private final int undoLimit;
+    private final long byteBudget;
     private Stack<UndoableCommand> undoStack;
     private Stack<UndoableCommand> redoStack;
 
     public UndoRedoStack() {
+        this(Config.DEFAULT_UNDO_LIMIT, Config.DEFAULT_UNDO_BYTE_BUDGET);
+    }
+
+    /**
+     * Creates a stack that keeps at most {@code undoLimit} commands that can be undone, and discards the oldest
+     * of them once they keep more than about {@code byteBudget} bytes from being freed.
+     * The latest command can always be undone, however many bytes it keeps.
+     */
+    public UndoRedoStack(int undoLimit, long byteBudget) {
+        if (undoLimit < 1 || byteBudget < 0) {
+            throw new IllegalArgumentException("The undo limit should be positive and the byte budget not negative");
+        }
+        this.undoLimit = undoLimit;
+        this.byteBudget = byteBudget;
         undoStack = new Stack<>();
         redoStack = new Stack<>();
     }
@@ -24,7 +49,7 @@ public class UndoRedoStack {
      * Pushes {@code command} onto the undo-stack if it is of type {@code UndoableCommand}. Clears the redo-stack
      * if {@code command} is not of type {@code UndoCommand} or {@code RedoCommand}.
      */
-    public void push(Command command) {
+    public synchronized void push(Command command) {
         if (!(command instanceof UndoCommand) && !(command instanceof RedoCommand)) {
             redoStack.clear();
         }
@@ -34,12 +59,45 @@ public class UndoRedoStack {
         }
 
         undoStack.add((UndoableCommand) command);
+        discardOverBudget();
+    }
+
+    /**
+     * Discards the oldest commands in the undo-stack until it is within the undo limit and the byte budget.
+     */
+    private void discardOverBudget() {
+        long retainedBytes = undoStack.stream().mapToLong(UndoableCommand::getEstimatedRetainedBytes).sum();
+        int discarded = 0;
+        while (undoStack.size() > undoLimit || (retainedBytes > byteBudget && undoStack.size() > 1)) {
+            retainedBytes -= undoStack.remove(0).getEstimatedRetainedBytes();
+            discarded++;
+        }
+        if (discarded > 0) {
+            logger.fine("Discarded the " + discarded + " oldest command(s) from the undo history");
+        }
+    }
+
+    /**
+     * Discards the older half of the undo-stack, to free memory when it is running low.
+     * The latest command can still be undone.
+     */
+    public synchronized void shrink() {
+        int toDiscard = undoStack.size() / 2;
+        undoStack.subList(0, toDiscard).clear();
+        logger.info("Memory is running low; discarded the " + toDiscard + " oldest command(s) from the undo history");
+    }
+
+    /**
+     * Returns the number of commands that can be undone in a row.
+     */
+    public synchronized int getUndoLevels() {
+        return undoStack.size();
     }
 
     /**
      * Pops and returns the next {@code UndoableCommand} to be undone in the stack.
      */
-    public UndoableCommand popUndo() {
+    public synchronized UndoableCommand popUndo() {
         UndoableCommand toUndo = undoStack.pop();
         redoStack.push(toUndo);
         return toUndo;
@@ -48,7 +106,7 @@ public class UndoRedoStack {
     /**
      * Pops and returns the next {@code UndoableCommand} to be redone in the stack.
      */
-    public UndoableCommand popRedo() {
+    public synchronized UndoableCommand popRedo() {
         UndoableCommand toRedo = redoStack.pop();
         undoStack.push(toRedo);
         return toRedo;
@@ -57,14 +115,14 @@ public class UndoRedoStack {
     /**
      * Returns true if there are more commands that can be undone.
      */
-    public boolean canUndo() {
+    public synchronized boolean canUndo() {
         return !undoStack.empty();
     }
 
     /**
      * Returns true if there are more commands that can be redone.
      */
-    public boolean canRedo() {
+    public synchronized boolean canRedo() {
         return !redoStack.empty();
     }
 
@@ -17,20 +17,24 @@ import seedu.address.logic.commands.DeletePetCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FreeSlotsCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListAllCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListRecurringCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemoveAppointmentFromPetCommand;
 import seedu.address.logic.commands.RemoveVetTechFromAppointmentCommand;
 import seedu.address.logic.commands.RescheduleCommand;
 import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.ScheduleRecurringCommand;
 import seedu.address.logic.commands.SortAppointmentCommand;
 import seedu.address.logic.commands.SortClientCommand;
 import seedu.address.logic.commands.SortPetCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UnscheduleCommand;
+import seedu.address.logic.commands.UnscheduleRecurringCommand;
 import seedu.address.logic.parser.Prefix;
 
 //@@author jonathanwj
@@ -71,6 +75,10 @@ public class AutoCompleteManager {
         commandTrie.insertWord(ScheduleCommand.COMMAND_WORD);
         commandTrie.insertWord(RescheduleCommand.COMMAND_WORD);
         commandTrie.insertWord(UnscheduleCommand.COMMAND_WORD);
+        commandTrie.insertWord(FreeSlotsCommand.COMMAND_WORD);
+        commandTrie.insertWord(ScheduleRecurringCommand.COMMAND_WORD);
+        commandTrie.insertWord(UnscheduleRecurringCommand.COMMAND_WORD);
+        commandTrie.insertWord(ListRecurringCommand.COMMAND_WORD);
         commandTrie.insertWord(UndoCommand.COMMAND_WORD);
 
         commandTrie.insertWord(AddAppointmentToPetCommand.COMMAND_WORD);
@@ -8,12 +8,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OCCURRENCES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PET_AGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PET_GENDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PET_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PET_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT_INTERVAL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VETTECH_INDEX;
@@ -26,9 +28,11 @@ import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddPetCommand;
 import seedu.address.logic.commands.AddVetTechToAppointmentCommand;
 import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FreeSlotsCommand;
 import seedu.address.logic.commands.RemoveAppointmentFromPetCommand;
 import seedu.address.logic.commands.RescheduleCommand;
 import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.ScheduleRecurringCommand;
 import seedu.address.logic.parser.Prefix;
 
 //@@author jonathanwj
@@ -62,6 +66,12 @@ public class CommandParameterSyntaxHandler {
     public static final ArrayList<Prefix> RESCHEDULE_COMMAND_PREFIXES = getListOfPrefix(PREFIX_DATE,
             PREFIX_TIME, PREFIX_DURATION, PREFIX_DESCRIPTION);
 
+    public static final ArrayList<Prefix> FREE_SLOTS_COMMAND_PREFIXES = getListOfPrefix(PREFIX_DATE, PREFIX_TIME,
+            PREFIX_DURATION);
+
+    public static final ArrayList<Prefix> SCHEDULE_RECURRING_COMMAND_PREFIXES = getListOfPrefix(PREFIX_DATE,
+            PREFIX_TIME, PREFIX_DURATION, PREFIX_DESCRIPTION, PREFIX_REPEAT_INTERVAL, PREFIX_OCCURRENCES);
+
     /**
      * Returns ArrayList of prefixes from given prefixes
      */
@@ -142,6 +152,22 @@ public class CommandParameterSyntaxHandler {
             });
             break;
 
+        case FreeSlotsCommand.COMMAND_WORD:
+            FREE_SLOTS_COMMAND_PREFIXES.forEach(prefix -> {
+                if (!input.contains(prefix.getPrefix())) {
+                    missingPrefixes.add(prefix);
+                }
+            });
+            break;
+
+        case ScheduleRecurringCommand.COMMAND_WORD:
+            SCHEDULE_RECURRING_COMMAND_PREFIXES.forEach(prefix -> {
+                if (!input.contains(prefix.getPrefix())) {
+                    missingPrefixes.add(prefix);
+                }
+            });
+            break;
+
         default:
             break;
         }
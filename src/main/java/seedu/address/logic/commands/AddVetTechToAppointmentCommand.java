@@ -17,6 +17,7 @@ import seedu.address.model.appointment.exceptions.AppointmentAlreadyHasVetTechni
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
 import seedu.address.model.vettechnician.VetTechnician;
+import seedu.address.model.vettechnician.exceptions.TechnicianHasOverlappingAppointmentException;
 
 //@@author jonathanwj-reused
 /**
@@ -38,6 +39,9 @@ public class AddVetTechToAppointmentCommand extends UndoableCommand {
 
     public static final String MESSAGE_APPOINTMENT_HAS_TECH = "Appointment already has a vet technician";
 
+    public static final String MESSAGE_TECH_HAS_OVERLAPPING_APPOINTMENT = "Vet technician already has another "
+            + "appointment at this time";
+
     private final Index vetTechIndex;
     private final Index appointmentIndex;
 
@@ -72,6 +76,8 @@ public class AddVetTechToAppointmentCommand extends UndoableCommand {
             throw new AssertionError("The target appointment cannot be missing");
         } catch (AppointmentAlreadyHasVetTechnicianException e) {
             throw new CommandException(MESSAGE_APPOINTMENT_HAS_TECH);
+        } catch (TechnicianHasOverlappingAppointmentException e) {
+            throw new CommandException(MESSAGE_TECH_HAS_OVERLAPPING_APPOINTMENT);
         }
 
         return new CommandResult(String.format(MESSAGE_ADD_TECH_TO_APPOINTMENT_SUCCESS,
@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_VETTECH_INDEX;
+
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.Duration;
+import seedu.address.model.appointment.FreeSlot;
+import seedu.address.model.appointment.Time;
+import seedu.address.model.vettechnician.VetTechnician;
+
+/**
+ * Lists the earliest free slots that are long enough for an appointment of the given duration.
+ */
+public class FreeSlotsCommand extends Command {
+
+    public static final String COMMAND_WORD = "freeslots";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the earliest free slots that can fit "
+            + "an appointment of the given duration, starting from the given date and time. "
+            + "If a vet technician index is given, only that vet technician's appointments are considered.\n"
+            + "Parameters: "
+            + PREFIX_DATE + "DATE "
+            + PREFIX_TIME + "TIME "
+            + PREFIX_DURATION + "DURATION "
+            + "[" + PREFIX_VETTECH_INDEX + "VETTECH_INDEX]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DATE + "2018-05-01 "
+            + PREFIX_TIME + "09:00 "
+            + PREFIX_DURATION + "60";
+
+    public static final String MESSAGE_SUCCESS = "Free slots of at least %1$s minutes from %2$s %3$s:";
+    public static final int NUMBER_OF_SLOTS = 5;
+
+    private final Date date;
+    private final Time time;
+    private final Duration duration;
+    private final Optional<Index> vetTechIndex;
+
+    /**
+     * Creates a FreeSlotsCommand to find free slots of at least {@code duration} from {@code date} and {@code time}.
+     */
+    public FreeSlotsCommand(Date date, Time time, Duration duration, Optional<Index> vetTechIndex) {
+        requireNonNull(date);
+        requireNonNull(time);
+        requireNonNull(duration);
+        requireNonNull(vetTechIndex);
+        this.date = date;
+        this.time = time;
+        this.duration = duration;
+        this.vetTechIndex = vetTechIndex;
+    }
+
+    @Override
+    public CommandResult execute() throws CommandException {
+        requireNonNull(model);
+        Optional<VetTechnician> vetTech = Optional.empty();
+        if (vetTechIndex.isPresent()) {
+            List<VetTechnician> lastShownListVetTech = model.getFilteredVetTechnicianList();
+            if (vetTechIndex.get().getZeroBased() >= lastShownListVetTech.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            vetTech = Optional.of(lastShownListVetTech.get(vetTechIndex.get().getZeroBased()));
+        }
+
+        long from = (long) date.getEpochDay() * Time.MINUTES_PER_DAY + time.getMinuteOfDay();
+        List<FreeSlot> freeSlots = model.getFreeSlots(from, duration.getDurationValue(), NUMBER_OF_SLOTS, vetTech);
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, duration, date, time));
+        for (int i = 0; i < freeSlots.size(); i++) {
+            builder.append("\n").append(Index.fromZeroBased(i).getOneBased()).append(". ").append(freeSlots.get(i));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof FreeSlotsCommand)) {
+            return false;
+        }
+
+        FreeSlotsCommand otherCommand = (FreeSlotsCommand) other;
+        return date.equals(otherCommand.date)
+                && time.equals(otherCommand.time)
+                && duration.equals(otherCommand.duration)
+                && vetTechIndex.equals(otherCommand.vetTechIndex);
+    }
+}
@@ -1,6 +1,6 @@
 package seedu.address.logic.commands;
 
-import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.List;
@@ -18,6 +18,7 @@ public class HistoryCommand extends Command {
     public static final String COMMAND_ALIAS = "hist";
     public static final String MESSAGE_SUCCESS = "Entered commands (from most recent to earliest):\n%1$s";
     public static final String MESSAGE_NO_HISTORY = "You have not yet entered any commands.";
+    public static final String MESSAGE_UNDO_LEVELS = "\nCommands that can be undone: %1$d";
 
     @Override
     public CommandResult execute() {
@@ -28,12 +29,14 @@ public class HistoryCommand extends Command {
         }
 
         Collections.reverse(previousCommands);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", previousCommands)));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", previousCommands))
+                + String.format(MESSAGE_UNDO_LEVELS, undoRedoStack.getUndoLevels()));
     }
 
     @Override
     public void setData(Model model, CommandHistory history, UndoRedoStack undoRedoStack) {
-        requireNonNull(history);
+        requireAllNonNull(history, undoRedoStack);
         this.history = history;
+        this.undoRedoStack = undoRedoStack;
     }
 }
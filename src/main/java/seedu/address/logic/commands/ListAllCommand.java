@@ -8,7 +8,6 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.events.ui.NewListAllDisplayAvailableEvent;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.appointment.Appointment;
-import seedu.address.model.association.ClientOwnPet;
 import seedu.address.model.client.Client;
 import seedu.address.model.pet.Pet;
 
@@ -53,28 +52,12 @@ public class ListAllCommand extends Command {
     }
 
     private void setPets(Client client) {
-        ObservableList<ClientOwnPet> clientOwnPets = model.getFilteredClientPetAssociationList();
-
-        for (ClientOwnPet clientOwnPet : clientOwnPets) {
-            if (clientOwnPet.getClient().equals(client)) {
-                Pet currPet = clientOwnPet.getPet();
-                displayPet.add(currPet);
-            }
-        }
+        displayPet.addAll(model.getPetsOf(client));
     }
 
     private void setAppts(ObservableList<Pet> pets) {
-        ObservableList<Appointment> appointmentList = model.getFilteredAppointmentList();
-
-        for (Pet clientOwnPet : displayPet) {
-            for (Appointment currAppt : appointmentList) {
-                if (currAppt.getClientOwnPet() == null) {
-                    continue;
-                }
-                if (currAppt.getClientOwnPet().getPet().equals(clientOwnPet)) {
-                    displayAppt.add(currAppt);
-                }
-            }
+        for (Pet clientOwnPet : pets) {
+            displayAppt.addAll(model.getAppointmentsOf(clientOwnPet));
         }
     }
 }
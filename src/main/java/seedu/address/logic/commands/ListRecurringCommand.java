@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.RecurringAppointment;
+import seedu.address.model.appointment.Time;
+
+/**
+ * Lists all recurring appointments, together with the index used to refer to them,
+ * and their occurrences in the coming days.
+ */
+public class ListRecurringCommand extends Command {
+
+    public static final String COMMAND_WORD = "listrecurring";
+
+    public static final String MESSAGE_SUCCESS = "Listed %1$d recurring appointments";
+    public static final String MESSAGE_UPCOMING_OCCURRENCES = "Occurrences in the next %1$d days:";
+    public static final int UPCOMING_DAYS = 7;
+
+    /** Used to find the coming days, whose occurrences are the only ones worked out. */
+    private final Clock clock;
+
+    public ListRecurringCommand() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a ListRecurringCommand that takes the current time from {@code clock}.
+     */
+    public ListRecurringCommand(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
+    @Override
+    public CommandResult execute() {
+        requireNonNull(model);
+        List<RecurringAppointment> recurringAppointments = model.getRecurringAppointmentList();
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, recurringAppointments.size()));
+        for (int i = 0; i < recurringAppointments.size(); i++) {
+            builder.append("\n").append(Index.fromZeroBased(i).getOneBased()).append(". ")
+                    .append(recurringAppointments.get(i));
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        long from = now.toLocalDate().toEpochDay() * Time.MINUTES_PER_DAY
+                + now.getHour() * Time.MINUTES_PER_HOUR + now.getMinute();
+        List<Appointment> occurrences = model.getRecurringOccurrencesBetween(from,
+                from + UPCOMING_DAYS * Time.MINUTES_PER_DAY);
+        if (!occurrences.isEmpty()) {
+            builder.append("\n").append(String.format(MESSAGE_UPCOMING_OCCURRENCES, UPCOMING_DAYS));
+            for (Appointment occurrence : occurrences) {
+                builder.append("\n").append(occurrence);
+            }
+        }
+        return new CommandResult(builder.toString());
+    }
+}
@@ -6,10 +6,11 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 
-import javafx.collections.ObservableList;
+import java.util.Optional;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.appointment.Appointment;
-import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.FreeSlot;
 import seedu.address.model.appointment.Time;
 import seedu.address.model.appointment.exceptions.AppointmentCloseToNextException;
 import seedu.address.model.appointment.exceptions.AppointmentCloseToPreviousException;
@@ -46,9 +47,8 @@ public class ScheduleCommand extends UndoableCommand {
     public static final String MESSAGE_CANNOT_SCHEDULE_AT_THIS_TIME = "The new appointment is within"
             + " the duration of another appointment, you need at least 15 minutes for an appointment\n";
     public static final String MESSAGE_SUGGESTION_DURATION = "This appointment can last at most: ";
+    public static final String MESSAGE_SUGGESTION_NEXT_SLOT = "The next available slot is at: ";
     private static final String MINUTE_SUFFIX = " minutes";
-    private static final int MINIMUM_INTERVAL = 1440;
-    private static final int CORRECT_DURATION = 120;
 
     private final Appointment toAdd;
 
@@ -62,72 +62,19 @@ public class ScheduleCommand extends UndoableCommand {
     }
 
     /**
-     * Returns an integer value of duration
-     */
-    public int getSuggestedDelayDuration(ObservableList<Appointment> existingAppointmentList,
-                                              Appointment appointment) {
-        Date newAppointmentDate = appointment.getDate();
-        Time newAppointmentTime = appointment.getTime();
-        int min = newAppointmentTime.getMinute();
-        int hour = newAppointmentTime.getHour();
-
-        int interval;
-        int minInterval = MINIMUM_INTERVAL;
-        int correctDuration = CORRECT_DURATION;
-
-        for (Appointment earlierAppointment : existingAppointmentList) {
-            Date earlierAppointmentDate = earlierAppointment.getDate();
-            Time earlierAppointmentTime = earlierAppointment.getTime();
-
-            if (newAppointmentDate.equals(earlierAppointmentDate)) {
-                if (earlierAppointmentTime.getHour() < hour
-                        || (earlierAppointmentTime.getHour() == hour && earlierAppointmentTime.getMinute() < min)) {
-                    interval = appointment.calDurationDifferencePositive(earlierAppointment);
-                    if (interval < minInterval) {
-                        minInterval = interval;
-                        correctDuration = calInterval(earlierAppointment.getDuration().getDurationValue(), minInterval);
-                    }
-                }
-            }
-        }
-        return correctDuration;
-    }
-
-    /**
-     * Returns an integer value of duration.
+     * Returns the longest duration {@code toAdd} can have without running into the next appointment.
      */
-    public int getSuggestedMaxDuration(ObservableList<Appointment> existingAppointmentList,
-                                            Appointment appointment) {
-        Date newAppointmentDate = appointment.getDate();
-        Time newAppointmentTime = appointment.getTime();
-        int min = newAppointmentTime.getMinute();
-        int hour = newAppointmentTime.getHour();
-        int interval;
-        int minInterval = appointment.getDuration().getDurationValue();
-
-        for (Appointment laterAppointment : existingAppointmentList) {
-            Date laterAppointmentDate = laterAppointment.getDate();
-            Time laterAppointmentTime = laterAppointment.getTime();
-
-            if (newAppointmentDate.equals(laterAppointmentDate)) {
-                if (laterAppointmentTime.getHour() > hour
-                        || (laterAppointmentTime.getHour() == hour && min < laterAppointmentTime.getMinute())) {
-
-                    interval = appointment.calDurationDifferenceNegative(laterAppointment);
-                    if (interval < minInterval) {
-                        minInterval = interval;
-                    }
-                }
-            }
-        }
-        return minInterval;
+    private int getSuggestedMaxDuration() {
+        FreeSlot slot = model.getFreeSlots(toAdd.getStart(), 1, 1, Optional.empty()).get(0);
+        return slot.getStart() == toAdd.getStart() ? slot.getLength() : 0;
     }
 
     /**
-     * Return the interval between two given integer values
+     * Returns the earliest free slot from the start of {@code toAdd} that is long enough for it.
      */
-    public int calInterval(int first, int second) {
-        return first - second;
+    private FreeSlot getNextAvailableSlot() {
+        return model.getFreeSlots(toAdd.getStart(), toAdd.getDuration().getDurationValue(), 1, Optional.empty())
+                .get(0);
     }
 
     @Override
@@ -139,13 +86,19 @@ public class ScheduleCommand extends UndoableCommand {
         } catch (DuplicateAppointmentException e1) {
             throw new CommandException(MESSAGE_DUPLICATE_APPOINTMENT);
         } catch (AppointmentCloseToPreviousException e2) {
-            int suggestedDelayDuration = getSuggestedDelayDuration(model.getFilteredAppointmentList(), toAdd);
-            throw new CommandException(MESSAGE_CLOSE_APPOINTMENT_PREVIOUS + MESSAGE_SUGGESTION_TIME
-                    + Integer.toString(suggestedDelayDuration) + MINUTE_SUFFIX);
+            FreeSlot nextAvailableSlot = getNextAvailableSlot();
+            if (nextAvailableSlot.getStart() / Time.MINUTES_PER_DAY == toAdd.getStart() / Time.MINUTES_PER_DAY) {
+                long suggestedDelayDuration = nextAvailableSlot.getStart() - toAdd.getStart();
+                throw new CommandException(MESSAGE_CLOSE_APPOINTMENT_PREVIOUS + MESSAGE_SUGGESTION_TIME
+                        + Long.toString(suggestedDelayDuration) + MINUTE_SUFFIX);
+            }
+            throw new CommandException(MESSAGE_CLOSE_APPOINTMENT_PREVIOUS + MESSAGE_SUGGESTION_NEXT_SLOT
+                    + nextAvailableSlot);
         } catch (AppointmentCloseToNextException e3) {
-            int suggestedMaxDuration = getSuggestedMaxDuration(model.getFilteredAppointmentList(), toAdd);
+            int suggestedMaxDuration = getSuggestedMaxDuration();
             throw new CommandException(MESSAGE_CLOSE_APPOINTMENT_NEXT + MESSAGE_SUGGESTION_DURATION
-                        + Integer.toString(suggestedMaxDuration) + MINUTE_SUFFIX);
+                        + Integer.toString(suggestedMaxDuration) + MINUTE_SUFFIX + "\n"
+                        + MESSAGE_SUGGESTION_NEXT_SLOT + getNextAvailableSlot());
         }
     }
 
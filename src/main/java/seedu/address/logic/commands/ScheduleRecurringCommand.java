@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OCCURRENCES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT_INTERVAL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.appointment.RecurringAppointment;
+import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.appointment.exceptions.RecurringAppointmentClashException;
+
+/**
+ * Schedules an appointment that repeats every given number of days.
+ */
+public class ScheduleRecurringCommand extends UndoableCommand {
+
+    public static final String COMMAND_WORD = "schedulerecurring";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Schedule an appointment that repeats every "
+            + "given number of days, for the given number of times. "
+            + "Parameters: "
+            + PREFIX_DATE + "DATE "
+            + PREFIX_TIME + "TIME "
+            + PREFIX_DURATION + "DURATION "
+            + PREFIX_DESCRIPTION + "DESCRIPTION "
+            + PREFIX_REPEAT_INTERVAL + "DAYS "
+            + PREFIX_OCCURRENCES + "TIMES\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DATE + "2018-05-01 "
+            + PREFIX_TIME + "09:00 "
+            + PREFIX_DURATION + "30 "
+            + PREFIX_DESCRIPTION + "Physiotherapy for Garfield "
+            + PREFIX_REPEAT_INTERVAL + "7 "
+            + PREFIX_OCCURRENCES + "10";
+
+    public static final String MESSAGE_SUCCESS = "New recurring appointment scheduled: %1$s";
+    public static final String MESSAGE_DUPLICATE_RECURRING_APPOINTMENT = "This recurring appointment already exists";
+    public static final String MESSAGE_RECURRING_APPOINTMENT_CLASH = "An occurrence of this recurring appointment "
+            + "clashes with another appointment";
+
+    private final RecurringAppointment toAdd;
+
+    /**
+     * Creates a ScheduleRecurringCommand to add the specified {@code recurringAppointment}
+     */
+    public ScheduleRecurringCommand(RecurringAppointment recurringAppointment) {
+        requireNonNull(recurringAppointment);
+        this.toAdd = recurringAppointment;
+    }
+
+    @Override
+    protected CommandResult executeUndoableCommand() throws CommandException {
+        requireNonNull(model);
+        try {
+            model.scheduleRecurringAppointment(toAdd);
+            return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+        } catch (DuplicateAppointmentException e) {
+            throw new CommandException(MESSAGE_DUPLICATE_RECURRING_APPOINTMENT);
+        } catch (RecurringAppointmentClashException e) {
+            throw new CommandException(MESSAGE_RECURRING_APPOINTMENT_CLASH);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ScheduleRecurringCommand // instanceof handles nulls
+                && toAdd.equals(((ScheduleRecurringCommand) other).toAdd));
+    }
+}
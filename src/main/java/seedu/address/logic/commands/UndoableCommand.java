@@ -11,23 +11,27 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TECHNICIAN;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.events.ui.NewApptAvailableEvent;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
-import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.AddressBookChange;
 
 /**
  * Represents a command which can be undone and redone.
  */
 public abstract class UndoableCommand extends Command {
-    private ReadOnlyAddressBook previousAddressBook;
+    private AddressBookChange changes;
 
     protected abstract CommandResult executeUndoableCommand() throws CommandException;
 
     /**
-     * Stores the current state of {@code model#addressBook}.
+     * Executes the command, recording the changes it makes to {@code model#addressBook} so that they can be undone.
      */
-    private void saveAddressBookSnapshot() {
+    private CommandResult executeAndRecordChanges() throws CommandException {
         requireNonNull(model);
-        this.previousAddressBook = new AddressBook(model.getAddressBook());
+        changes = model.startRecordingChanges();
+        try {
+            return executeUndoableCommand();
+        } finally {
+            model.stopRecordingChanges();
+        }
     }
 
     /**
@@ -42,8 +46,10 @@ public abstract class UndoableCommand extends Command {
      * show all persons.
      */
     protected final void undo() {
-        requireAllNonNull(model, previousAddressBook);
-        model.resetData(previousAddressBook);
+        requireAllNonNull(model, changes);
+        model.undoChanges(changes);
+        // redoing executes the command again, so the undone changes are no longer needed
+        changes = null;
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
         model.updateFilteredVetTechnicianList(PREDICATE_SHOW_ALL_TECHNICIAN);
@@ -57,9 +63,8 @@ public abstract class UndoableCommand extends Command {
      * list to show all persons.
      */
     protected final void redo() {
-        requireNonNull(model);
         try {
-            executeUndoableCommand();
+            executeAndRecordChanges();
         } catch (CommandException ce) {
             throw new AssertionError("The command has been successfully executed previously; "
                     + "it should not fail now");
@@ -72,10 +77,17 @@ public abstract class UndoableCommand extends Command {
         EventsCenter.getInstance().post(new NewApptAvailableEvent("Redo addressbook"));
     }
 
+    /**
+     * Returns roughly how many bytes of memory are kept from being freed so that this command can be undone.
+     */
+    public long getEstimatedRetainedBytes() {
+        return changes == null ? 0 : changes.getEstimatedRetainedBytes();
+    }
+
     @Override
     public final CommandResult execute() throws CommandException {
-        saveAddressBookSnapshot();
+        requireNonNull(model);
         preprocessUndoableCommand();
-        return executeUndoableCommand();
+        return executeAndRecordChanges();
     }
 }
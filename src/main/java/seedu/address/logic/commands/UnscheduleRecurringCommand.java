@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.appointment.RecurringAppointment;
+import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
+
+/**
+ * Deletes a recurring appointment, and all its occurrences, identified using its index in the recurring appointment
+ * listing.
+ */
+public class UnscheduleRecurringCommand extends UndoableCommand {
+
+    public static final String COMMAND_WORD = "unschedulerecurring";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Deletes the recurring appointment identified by the index number used in the "
+            + ListRecurringCommand.COMMAND_WORD + " listing.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_UNSCHEDULE_RECURRING_APPOINTMENT_SUCCESS =
+            "Unscheduled recurring appointment: %1$s";
+
+    private final Index targetIndex;
+
+    private RecurringAppointment recurringAppointmentToDelete;
+
+    public UnscheduleRecurringCommand(Index targetIndex) {
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult executeUndoableCommand() {
+        requireNonNull(recurringAppointmentToDelete);
+        try {
+            model.unscheduleRecurringAppointment(recurringAppointmentToDelete);
+        } catch (AppointmentNotFoundException e) {
+            throw new AssertionError("The target cannot be missing.");
+        }
+        return new CommandResult(String.format(MESSAGE_UNSCHEDULE_RECURRING_APPOINTMENT_SUCCESS,
+                recurringAppointmentToDelete));
+    }
+
+    @Override
+    protected void preprocessUndoableCommand() throws CommandException {
+        List<RecurringAppointment> recurringAppointments = model.getRecurringAppointmentList();
+
+        if (targetIndex.getZeroBased() >= recurringAppointments.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_RECURRING_APPOINTMENT_INDEX);
+        }
+
+        recurringAppointmentToDelete = recurringAppointments.get(targetIndex.getZeroBased());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof UnscheduleRecurringCommand)) {
+            return false;
+        }
+
+        UnscheduleRecurringCommand otherCommand = (UnscheduleRecurringCommand) other;
+        return targetIndex.equals(otherCommand.targetIndex)
+                && Objects.equals(recurringAppointmentToDelete, otherCommand.recurringAppointmentToDelete);
+    }
+}
@@ -17,20 +17,24 @@ import seedu.address.logic.commands.DeletePetCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FreeSlotsCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListAllCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListRecurringCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemoveAppointmentFromPetCommand;
 import seedu.address.logic.commands.RemoveVetTechFromAppointmentCommand;
 import seedu.address.logic.commands.RescheduleCommand;
 import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.ScheduleRecurringCommand;
 import seedu.address.logic.commands.SortAppointmentCommand;
 import seedu.address.logic.commands.SortClientCommand;
 import seedu.address.logic.commands.SortPetCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UnscheduleCommand;
+import seedu.address.logic.commands.UnscheduleRecurringCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -108,6 +112,18 @@ public class AddressBookParser {
         case UnscheduleCommand.COMMAND_WORD:
             return new UnscheduleCommandParser().parse(arguments);
 
+        case FreeSlotsCommand.COMMAND_WORD:
+            return new FreeSlotsCommandParser().parse(arguments);
+
+        case ScheduleRecurringCommand.COMMAND_WORD:
+            return new ScheduleRecurringCommandParser().parse(arguments);
+
+        case UnscheduleRecurringCommand.COMMAND_WORD:
+            return new UnscheduleRecurringCommandParser().parse(arguments);
+
+        case ListRecurringCommand.COMMAND_WORD:
+            return new ListRecurringCommand();
+
         case AddPetCommand.COMMAND_WORD:
             return new AddPetCommandParser().parse(arguments);
 
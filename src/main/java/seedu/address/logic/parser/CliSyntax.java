@@ -23,5 +23,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_CLIENT_INDEX = new Prefix("c/");
     public static final Prefix PREFIX_VETTECH_INDEX = new Prefix("vt/");
     public static final Prefix PREFIX_APPOINTMENT_INDEX = new Prefix("appt/");
+    public static final Prefix PREFIX_REPEAT_INTERVAL = new Prefix("rpt/");
+    public static final Prefix PREFIX_OCCURRENCES = new Prefix("occ/");
 
 }
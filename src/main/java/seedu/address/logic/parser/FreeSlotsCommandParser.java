@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_VETTECH_INDEX;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.FreeSlotsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.Duration;
+import seedu.address.model.appointment.Time;
+
+/**
+ * Parses input arguments and creates a new {@code FreeSlotsCommand} object
+ */
+public class FreeSlotsCommandParser implements Parser<FreeSlotsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code FreeSlotsCommand}
+     * and returns a {@code FreeSlotsCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FreeSlotsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_TIME,
+                PREFIX_DURATION, PREFIX_VETTECH_INDEX);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_DATE, PREFIX_TIME, PREFIX_DURATION)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE));
+        }
+
+        Optional<Index> vetTechIndex = Optional.empty();
+        if (argMultimap.getValue(PREFIX_VETTECH_INDEX).isPresent()) {
+            try {
+                vetTechIndex = Optional.of(ParserUtil.parseIndex(argMultimap.getValue(PREFIX_VETTECH_INDEX).get()));
+            } catch (IllegalValueException ive) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        FreeSlotsCommand.MESSAGE_USAGE));
+            }
+        }
+
+        try {
+            Date date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE)).get();
+            Time time = ParserUtil.parseTime(argMultimap.getValue(PREFIX_TIME)).get();
+            Duration duration = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+            return new FreeSlotsCommand(date, time, duration, vetTechIndex);
+        } catch (IllegalValueException ive) {
+            throw new ParseException(ive.getMessage(), ive);
+        }
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
@@ -13,6 +13,7 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.model.appointment.Date;
 import seedu.address.model.appointment.Description;
 import seedu.address.model.appointment.Duration;
+import seedu.address.model.appointment.RecurringAppointment;
 import seedu.address.model.appointment.Time;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -299,6 +300,38 @@ public class ParserUtil {
     }
     //@@author
 
+    /**
+     * Parses a {@code String interval} into the number of days between the occurrences of a recurring appointment.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws IllegalValueException if the given {@code interval} is invalid.
+     */
+    public static int parseRepeatInterval(String interval) throws IllegalValueException {
+        requireNonNull(interval);
+        String trimmedInterval = interval.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedInterval)
+                || !RecurringAppointment.isValidInterval(Integer.parseInt(trimmedInterval))) {
+            throw new IllegalValueException(RecurringAppointment.MESSAGE_INTERVAL_CONSTRAINTS);
+        }
+        return Integer.parseInt(trimmedInterval);
+    }
+
+    /**
+     * Parses a {@code String occurrences} into the number of occurrences of a recurring appointment.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws IllegalValueException if the given {@code occurrences} is invalid.
+     */
+    public static int parseOccurrences(String occurrences) throws IllegalValueException {
+        requireNonNull(occurrences);
+        String trimmedOccurrences = occurrences.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedOccurrences)
+                || !RecurringAppointment.isValidOccurrences(Integer.parseInt(trimmedOccurrences))) {
+            throw new IllegalValueException(RecurringAppointment.MESSAGE_OCCURRENCES_CONSTRAINTS);
+        }
+        return Integer.parseInt(trimmedOccurrences);
+    }
+
     /**
      * Parses a {@code String petName} into {@code PetName}.
      * Leading and trailing whitespaces will be trimmed.
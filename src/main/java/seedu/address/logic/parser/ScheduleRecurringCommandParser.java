@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OCCURRENCES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT_INTERVAL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import java.util.stream.Stream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.ScheduleRecurringCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.Description;
+import seedu.address.model.appointment.Duration;
+import seedu.address.model.appointment.RecurringAppointment;
+import seedu.address.model.appointment.Time;
+
+/**
+ * Parses input arguments and creates a new {@code ScheduleRecurringCommand} object
+ */
+public class ScheduleRecurringCommandParser implements Parser<ScheduleRecurringCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code ScheduleRecurringCommand}
+     * and returns a {@code ScheduleRecurringCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ScheduleRecurringCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_TIME,
+                PREFIX_DURATION, PREFIX_DESCRIPTION, PREFIX_REPEAT_INTERVAL, PREFIX_OCCURRENCES);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_DATE, PREFIX_TIME, PREFIX_DURATION, PREFIX_DESCRIPTION,
+                PREFIX_REPEAT_INTERVAL, PREFIX_OCCURRENCES)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ScheduleRecurringCommand.MESSAGE_USAGE));
+        }
+        try {
+            Date date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE)).get();
+            Time time = ParserUtil.parseTime(argMultimap.getValue(PREFIX_TIME)).get();
+            Duration duration = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+            Description description = ParserUtil.parseDescription(argMultimap.getValue(PREFIX_DESCRIPTION).get());
+            int interval = ParserUtil.parseRepeatInterval(argMultimap.getValue(PREFIX_REPEAT_INTERVAL).get());
+            int occurrences = ParserUtil.parseOccurrences(argMultimap.getValue(PREFIX_OCCURRENCES).get());
+            if (!RecurringAppointment.isValidSpan(date, interval, occurrences)) {
+                throw new IllegalValueException(RecurringAppointment.MESSAGE_SPAN_CONSTRAINTS);
+            }
+
+            return new ScheduleRecurringCommand(new RecurringAppointment(date, time, duration, description,
+                    interval, occurrences));
+        } catch (IllegalValueException ive) {
+            throw new ParseException(ive.getMessage(), ive);
+        }
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.UnscheduleRecurringCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UnscheduleRecurringCommand object.
+ */
+public class UnscheduleRecurringCommandParser implements Parser<UnscheduleRecurringCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UnscheduleRecurringCommand
+     * and returns an UnscheduleRecurringCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public UnscheduleRecurringCommand parse(String args) throws ParseException {
+        try {
+            Index index = ParserUtil.parseIndex(args);
+            return new UnscheduleRecurringCommand(index);
+        } catch (IllegalValueException ive) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnscheduleRecurringCommand.MESSAGE_USAGE));
+        }
+    }
+}
@@ -3,23 +3,25 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
-import org.fxmisc.easybind.EasyBind;
-
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.FreeSlot;
+import seedu.address.model.appointment.RecurringAppointment;
 import seedu.address.model.appointment.UniqueAppointmentList;
+import seedu.address.model.appointment.UniqueRecurringAppointmentList;
 import seedu.address.model.appointment.exceptions.AppointmentAlreadyHasVetTechnicianException;
 import seedu.address.model.appointment.exceptions.AppointmentCloseToNextException;
 import seedu.address.model.appointment.exceptions.AppointmentCloseToPreviousException;
@@ -28,7 +30,9 @@ import seedu.address.model.appointment.exceptions.AppointmentHasBeenTakenExcepti
 import seedu.address.model.appointment.exceptions.AppointmentListIsEmptyException;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.appointment.exceptions.RecurringAppointmentClashException;
 import seedu.address.model.association.ClientOwnPet;
+import seedu.address.model.association.ClientPetAssociationList;
 import seedu.address.model.association.exceptions.ClientAlreadyOwnsPetException;
 import seedu.address.model.association.exceptions.ClientPetAssociationListEmptyException;
 import seedu.address.model.association.exceptions.ClientPetAssociationNotFoundException;
@@ -48,24 +52,38 @@ import seedu.address.model.pet.UniquePetList;
 import seedu.address.model.pet.exceptions.DuplicatePetException;
 import seedu.address.model.pet.exceptions.PetNotFoundException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 import seedu.address.model.tag.UniqueTagList;
 import seedu.address.model.vettechnician.VetTechnician;
 import seedu.address.model.vettechnician.exceptions.TechnicianHasExistingAppointmentException;
+import seedu.address.model.vettechnician.exceptions.TechnicianHasOverlappingAppointmentException;
 import seedu.address.model.vettechnician.exceptions.VetTechnicianNotFoundException;
 
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .equals comparison)
+ *
+ * The changes made by the operations below can be recorded, so that they can be undone without keeping a copy
+ * of the whole address book. The list overwrite operations are not recorded on their own; use
+ * {@link #resetData(ReadOnlyAddressBook)} to replace the data while recording.
+ *
+ * Every person and pet is given an id when it is added, which it keeps when it is edited, and which is kept when
+ * the data is copied or replaced. Ids are never handed out twice by the same {@code AddressBook}.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
-    private final UniqueTagList tags;
+    private final TagRegistry tags;
     private final UniqueAppointmentList appointments;
+    private final UniqueRecurringAppointmentList recurringAppointments;
     private final UniquePetList pets;
 
-    private final ObservableList<ClientOwnPet> clientPetAssociations;
+    private final ClientPetAssociationList clientPetAssociations;
+
+    private AddressBookChange recording;
+    private int nextPersonId = Person.NO_ID + 1;
+    private int nextPetId = Pet.NO_ID + 1;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -76,12 +94,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
-        tags = new UniqueTagList();
+        tags = new TagRegistry();
 
         appointments = new UniqueAppointmentList();
+        recurringAppointments = new UniqueRecurringAppointmentList();
         pets = new UniquePetList();
 
-        clientPetAssociations = FXCollections.observableArrayList();
+        clientPetAssociations = new ClientPetAssociationList();
     }
 
     public AddressBook() {
@@ -109,8 +128,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void sortClientList() throws PersonsListIsEmptyException {
         if (persons.isEmpty()) {
             throw new PersonsListIsEmptyException();
-        } else {
-            this.persons.sort();
+        } else if (!persons.isSortedByName()) {
+            List<Person> previousOrder = persons.snapshot();
+            persons.sort();
+            recordInverse(() -> persons.setPersons(previousOrder), previousOrder.size());
         }
     }
     //@@author
@@ -124,6 +145,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.appointments.setAppointments(appointments);
     }
 
+    public void setRecurringAppointments(List<RecurringAppointment> recurringAppointments)
+            throws DuplicateAppointmentException, RecurringAppointmentClashException {
+        this.recurringAppointments.setRecurringAppointments(recurringAppointments);
+    }
+
     //@@author md-azsa
     /**
      * Sets the list of pets to contain data
@@ -138,10 +164,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void sortPetList() throws ClientPetAssociationListEmptyException {
         if (clientPetAssociations.isEmpty()) {
             throw new ClientPetAssociationListEmptyException();
-        } else {
-            this.clientPetAssociations.sort((ClientOwnPet a, ClientOwnPet b) ->
-                    a.getPet().getPetName().toString().toLowerCase()
-                    .compareTo(b.getPet().getPetName().toString().toLowerCase()));
+        } else if (!clientPetAssociations.isSortedByPetName()) {
+            List<ClientOwnPet> previousOrder = clientPetAssociations.snapshot();
+            clientPetAssociations.sortByPetName();
+            recordInverse(() -> clientPetAssociations.setAssociations(previousOrder), previousOrder.size());
         }
     }
 
@@ -154,13 +180,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         if (appointments.isEmpty()) {
             throw new AppointmentListIsEmptyException();
         } else {
+            List<Appointment> previousOrder = appointments.snapshot();
             appointments.sort();
+            recordInverse(() -> appointments.setAppointments(previousOrder), previousOrder.size());
         }
     }
     //@@author
 
     public void setClientPetAssociations(List<ClientOwnPet> associations) {
-        this.clientPetAssociations.setAll(associations);
+        this.clientPetAssociations.setAssociations(associations);
     }
 
     /**
@@ -168,10 +196,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
+        if (recording != null) {
+            AddressBookSnapshot previousData = snapshot();
+            boolean wasSortedByName = persons.isSortedByName();
+            boolean wasSortedByPetName = clientPetAssociations.isSortedByPetName();
+            recordInverse(() -> {
+                resetData(previousData);
+                if (wasSortedByName) {
+                    persons.sort();
+                }
+                if (wasSortedByPetName) {
+                    clientPetAssociations.sortByPetName();
+                }
+            }, previousData.size());
+        }
         setTags(new HashSet<>(newData.getTagList()));
-        List<Person> syncedPersonList = newData.getPersonList().stream()
-                .map(this::syncWithMasterTagList)
-                .collect(Collectors.toList());
+        List<Person> syncedPersonList = syncWithMasterTagList(newData.getPersonList());
         try {
             setPersons(syncedPersonList);
         } catch (DuplicatePersonException e) {
@@ -192,9 +232,15 @@ public class AddressBook implements ReadOnlyAddressBook {
                     + "when too close to the next one");
         }
 
-        List<Pet> syncedPetList = newData.getPetList().stream()
-                .map(this::syncWithMasterPetTagList)
-                .collect(Collectors.toList());
+        try {
+            setRecurringAppointments(newData.getRecurringAppointmentList());
+        } catch (DuplicateAppointmentException e) {
+            throw new AssertionError("Program should not have duplicate recurring appointments");
+        } catch (RecurringAppointmentClashException e) {
+            throw new AssertionError("Program should not have clashing recurring appointments");
+        }
+
+        List<Pet> syncedPetList = syncWithMasterPetTagList(newData.getPetList());
         try {
             setPets(syncedPetList);
         } catch (DuplicatePetException e) {
@@ -202,6 +248,63 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
 
         setClientPetAssociations(newData.getClientPetAssociations());
+        keepSortOrderOf(newData);
+    }
+
+    /**
+     * Keeps the persons and the pets sorted by name if they are kept sorted in {@code newData}.
+     */
+    private void keepSortOrderOf(ReadOnlyAddressBook newData) {
+        if (!(newData instanceof AddressBook)) {
+            return;
+        }
+        AddressBook source = (AddressBook) newData;
+        if (source.persons.isSortedByName()) {
+            persons.sort();
+        }
+        if (source.clientPetAssociations.isSortedByPetName()) {
+            clientPetAssociations.sortByPetName();
+        }
+    }
+
+    /**
+     * Fills this empty {@code AddressBook} with the given records, checking each list against itself in one pass
+     * instead of one record at a time. Appointments are scheduled in order of their start,
+     * as {@link #scheduleAppointment(Appointment)} would leave them.
+     * The associations must refer to persons and pets in {@code personList} and {@code petList}.
+     * If an exception is thrown, this {@code AddressBook} is left partly filled and should be discarded.
+     */
+    public void load(List<Tag> tagList, List<Person> personList, List<Pet> petList,
+                     List<RecurringAppointment> recurringAppointmentList, List<Appointment> appointmentList,
+                     List<ClientOwnPet> associations)
+            throws UniqueTagList.DuplicateTagException, DuplicatePersonException, DuplicatePetException,
+            DuplicateAppointmentException, RecurringAppointmentClashException, AppointmentCloseToPreviousException,
+            AppointmentCloseToNextException, ClientAlreadyOwnsPetException, PetAlreadyHasOwnerException {
+        for (Tag tag : tagList) {
+            addTag(tag);
+        }
+        setPersons(syncWithMasterTagList(personList));
+        setPets(syncWithMasterPetTagList(petList));
+        setRecurringAppointments(recurringAppointmentList);
+
+        List<Appointment> appointmentsByStart = new ArrayList<>(appointmentList);
+        appointmentsByStart.sort(Appointment::compareTo);
+        for (Appointment appointment : appointmentsByStart) {
+            checkClashWithRecurringAppointments(appointment);
+        }
+        setAppointments(appointmentsByStart);
+
+        Set<ClientOwnPet> seenAssociations = new HashSet<>();
+        Set<Pet> ownedPets = new HashSet<>();
+        for (ClientOwnPet association : associations) {
+            if (!seenAssociations.add(association)) {
+                throw new ClientAlreadyOwnsPetException();
+            }
+            if (!ownedPets.add(association.getPet())) {
+                throw new PetAlreadyHasOwnerException();
+            }
+        }
+        setClientPetAssociations(associations);
     }
 
     //// person-level operations
@@ -214,11 +317,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @throws DuplicatePersonException if an equivalent person already exists.
      */
     public void addPerson(Person p) throws DuplicatePersonException {
-        Person person = syncWithMasterTagList(p);
-        // TODO: the tags master list will be updated even though the below line fails.
-        // This can cause the tags master list to have additional tags that are not tagged to any person
-        // in the person list.
-        persons.add(person);
+        Person person = syncWithMasterTagList(p, nextPersonId++);
+        try {
+            persons.add(person);
+        } catch (DuplicatePersonException e) {
+            tags.release(person.getTags());
+            throw e;
+        }
+        recordInverse(() -> removePerson(person));
     }
 
     //@@author
@@ -229,7 +335,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @throws DuplicatePersonException if updating the client's details causes the client to be equivalent to
      *                                  another existing client in the list.
      * @throws PersonNotFoundException  if {@code target} could not be found in the list.
-     * @see #syncWithMasterTagList(Person)
+     * @see #syncWithMasterTagList(Person, int)
      */
     public void updatePerson(Person target, Person editedPerson)
             throws DuplicatePersonException, PersonNotFoundException, ClientHasExistingPetException,
@@ -237,99 +343,83 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         // check able to update
+        if (!persons.contains(target)) {
+            throw new PersonNotFoundException();
+        }
+        if (!target.equals(editedPerson) && persons.contains(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
         if (target instanceof Client && editedPerson instanceof VetTechnician) {
-            ListIterator<ClientOwnPet> copIterator = clientPetAssociations.listIterator();
-            while (copIterator.hasNext()) {
-                ClientOwnPet association = copIterator.next();
-                if (association.getClient().equals(target)) {
-                    throw new ClientHasExistingPetException();
-                }
+            if (clientPetAssociations.hasPets((Client) target)) {
+                throw new ClientHasExistingPetException();
             }
-            Iterator<Appointment> i = appointments.iterator();
-            while (i.hasNext()) {
-                Appointment app = i.next();
-                if (app.getClientOwnPet() != null && app.getClientOwnPet().getClient().equals(target)) {
-                    throw new ClientHasExistingAppointmentException();
-                }
+            if (appointments.hasAppointmentsOf((Client) target)) {
+                throw new ClientHasExistingAppointmentException();
             }
         }
-        if (target instanceof VetTechnician && editedPerson instanceof Client) {
-            Iterator<Appointment> i = appointments.iterator();
-            while (i.hasNext()) {
-                Appointment app = i.next();
-                if (app.getVetTechnician() != null && app.getVetTechnician().equals(target)) {
-                    throw new TechnicianHasExistingAppointmentException();
-                }
-            }
+        if (target instanceof VetTechnician && editedPerson instanceof Client
+                && appointments.hasAppointmentsOf((VetTechnician) target)) {
+            throw new TechnicianHasExistingAppointmentException();
         }
 
-        // update objects
+        // update objects, keeping the id of the target
+        Person syncedEditedPerson = syncWithMasterTagList(editedPerson, persons.get(persons.indexOf(target)).getId());
         if (target instanceof Client && editedPerson instanceof Client) {
-            ListIterator<ClientOwnPet> copIterator = clientPetAssociations.listIterator();
-            while (copIterator.hasNext()) {
-                ClientOwnPet association = copIterator.next();
-                if (association.getClient().equals(target)) {
-                    copIterator.remove();
-                    copIterator.add(new ClientOwnPet((Client) editedPerson, association.getPet()));
-                }
-            }
-            Iterator<Appointment> i = appointments.iterator();
-            while (i.hasNext()) {
-                Appointment app = i.next();
-                if (app.getClientOwnPet() != null && app.getClientOwnPet().getClient().equals(target)) {
-                    app.setClientOwnPet(new ClientOwnPet((Client) editedPerson, app.getClientOwnPet().getPet()));
-                }
-            }
-        } else {
-            Iterator<Appointment> i = appointments.iterator();
-            while (i.hasNext()) {
-                Appointment app = i.next();
-                if (app.getVetTechnician() != null && app.getVetTechnician().equals(target)) {
-                    app.removeVetTech();
-                    app.setOptionalVetTech(Optional.of((VetTechnician) editedPerson));
-                }
-            }
+            clientPetAssociations.replaceClient((Client) target, (Client) syncedEditedPerson);
+            appointments.replaceClient((Client) target, (Client) syncedEditedPerson);
+        } else if (target instanceof VetTechnician && editedPerson instanceof VetTechnician) {
+            appointments.replaceVetTechnician((VetTechnician) target, (VetTechnician) syncedEditedPerson);
         }
 
-        Person syncedEditedPerson = syncWithMasterTagList(editedPerson);
-        // TODO: the tags master list will be updated even though the below line fails.
-        // This can cause the tags master list to have additional tags that are not tagged to any client
-        // in the client list.
-        persons.setPerson(target, syncedEditedPerson);
+        try {
+            persons.setPerson(target, syncedEditedPerson);
+        } catch (DuplicatePersonException | PersonNotFoundException e) {
+            tags.release(syncedEditedPerson.getTags());
+            throw e;
+        }
+        tags.release(target.getTags());
+        recordInverse(() -> updatePerson(syncedEditedPerson, target));
     }
 
     //@@author
     /**
      * Updates the master tag list to include tags in {@code person} that are not in the list.
      *
-     * @return a copy of this {@code person} such that every tag in this person points to a Tag object in the master
-     * list.
+     * @return a copy of this {@code person} with {@code id} as its id, such that every tag in this person points
+     * to a Tag object in the master list.
      */
-    private Person syncWithMasterTagList(Person person) {
+    private Person syncWithMasterTagList(Person person, int id) {
         Person syncedPerson;
 
-        final UniqueTagList personTags = new UniqueTagList(person.getTags());
-        tags.mergeFrom(personTags);
-
-        // Create map with values = tag object references in the master list
-        // used for checking person tag references
-        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
-        tags.forEach(tag -> masterTagObjects.put(tag, tag));
-
-        // Rebuild the list of person tags to point to the relevant tags in the master tag list.
-        final Set<Tag> correctTagReferences = new HashSet<>();
-        personTags.forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag)));
+        final Set<Tag> correctTagReferences = tags.acquire(person.getTags());
 
         if (person.getRole().equals(PersonRole.CLIENT_ROLE)) {
-            syncedPerson = new Client(person.getName(), person.getPhone(), person.getEmail(),
+            syncedPerson = new Client(id, person.getName(), person.getPhone(), person.getEmail(),
                     person.getAddress(), correctTagReferences);
         } else {
-            syncedPerson = new VetTechnician(person.getName(), person.getPhone(), person.getEmail(),
+            syncedPerson = new VetTechnician(id, person.getName(), person.getPhone(), person.getEmail(),
                     person.getAddress(), correctTagReferences);
         }
         return syncedPerson;
     }
 
+    /**
+     * Returns {@code personList} synced with the master tag list, as by {@link #syncWithMasterTagList(Person, int)}.
+     * Each person keeps its id, unless it has none or an earlier person has the same id, in which case it is given
+     * a new one.
+     */
+    private List<Person> syncWithMasterTagList(List<Person> personList) {
+        int maxId = personList.stream().mapToInt(Person::getId).max().orElse(Person.NO_ID);
+        nextPersonId = Math.max(nextPersonId, maxId + 1);
+        Set<Integer> usedIds = new HashSet<>();
+        List<Person> syncedPersonList = new ArrayList<>(personList.size());
+        for (Person person : personList) {
+            int id = person.getId() > Person.NO_ID && usedIds.add(person.getId()) ? person.getId() : nextPersonId++;
+            syncedPersonList.add(syncWithMasterTagList(person, id));
+        }
+        return syncedPersonList;
+    }
+
     //@@author
     /**
      * Removes {@code key} from this {@code AddressBook}.
@@ -337,52 +427,61 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @throws PersonNotFoundException if the {@code key} is not in this {@code AddressBook}.
      */
     public boolean removePerson(Person key) throws PersonNotFoundException {
-        ArrayList<ClientOwnPet> toRemoveClientPetAssociationList = new ArrayList<>();
-        ArrayList<Pet> toRemovePetList = new ArrayList<>();
-
-        // Adds the key and its pets to the toRemoveList
-        for (ClientOwnPet cop : clientPetAssociations) {
-            if (cop.getClient().equals(key)) {
-                toRemoveClientPetAssociationList.add(cop);
-                toRemovePetList.add(cop.getPet());
-            }
-        }
-
-        for (Iterator<Appointment> iterator = appointments.iterator(); iterator.hasNext();) {
-            Appointment appt = iterator.next();
-            if (appt.getClientOwnPet() == null) {
-                continue;
-            } else if (appt.getClientOwnPet().getClient().equals(key)) {
-                appt.setClientOwnPetToNull();
-            }
-        }
-
-        // Removes the key and its pets.
-        clientPetAssociations.removeAll(toRemoveClientPetAssociationList);
-        pets.getInternalList().removeAll(toRemovePetList);
-        if (!persons.remove(key)) {
+        int index = persons.indexOf(key);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
-
-        // Removes vet from any existing appointment
-        for (Appointment appointment : appointments) {
-            appointment.getOptionalVetTechnician().ifPresent(technician -> {
-                try {
-                    if (technician.equals(key)) {
-                        removeVetFromAppointment(appointment);
-                    }
-                } catch (AppointmentNotFoundException e) {
-                    throw new AssertionError("Appointment should be found");
-                } catch (DuplicateAppointmentException e) {
-                    throw new AssertionError("Program should not have duplicate appointments");
-                } catch (VetTechnicianNotFoundException e) {
-                    throw new AssertionError("VetTechnician should be found");
+        Person removed = persons.get(index);
+        persons.remove(key);
+
+        // Removes the pets of the key, and detaches the key from its appointments.
+        tags.release(key.getTags());
+        if (key instanceof Client) {
+            Client client = (Client) key;
+            SortedMap<Integer, ClientOwnPet> removedAssociations = positionsOf(clientPetAssociations.getPetsOf(client)
+                    .stream().map(pet -> new ClientOwnPet(client, pet)).collect(Collectors.toList()),
+                    clientPetAssociations::indexOf, clientPetAssociations::get);
+            List<Pet> petsOfKey = clientPetAssociations.removeClient(client).stream()
+                    .map(ClientOwnPet::getPet).collect(Collectors.toList());
+            SortedMap<Integer, Pet> removedPets = positionsOf(petsOfKey, pets::indexOf, pets::get);
+            pets.removeAll(petsOfKey);
+            petsOfKey.forEach(pet -> tags.release(pet.getTags()));
+            recordInverse(() -> {
+                for (Map.Entry<Integer, Pet> removedPet : removedPets.entrySet()) {
+                    pets.add(removedPet.getKey(), removedPet.getValue());
+                    tags.acquire(removedPet.getValue().getTags());
                 }
+                removedAssociations.forEach(clientPetAssociations::add);
             });
+            recordAppointmentReplacements(appointments.removeClientFromAppointments(client));
+        }
+        if (key instanceof VetTechnician) {
+            recordAppointmentReplacements(appointments.removeVetTechnicianFromAppointments((VetTechnician) key));
         }
+        recordInverse(() -> {
+            persons.add(index, removed);
+            tags.acquire(removed.getTags());
+        });
         return true;
     }
 
+    /**
+     * Returns the elements of a list that are equivalent to {@code elements}, keyed by their positions in the list,
+     * so that they can be put back in place once they are removed.
+     * Elements that are not in the list are left out.
+     */
+    private static <T> SortedMap<Integer, T> positionsOf(List<T> elements, ToIntFunction<T> indexOf,
+                                                         IntFunction<T> elementAt) {
+        SortedMap<Integer, T> positions = new TreeMap<>();
+        for (T element : elements) {
+            int index = indexOf.applyAsInt(element);
+            if (index != -1) {
+                positions.put(index, elementAt.apply(index));
+            }
+        }
+        return positions;
+    }
+
     //// tag-level operations
 
     public void addTag(Tag t) throws UniqueTagList.DuplicateTagException {
@@ -400,7 +499,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         if (appointments.isEmpty()) {
             throw new AppointmentListIsEmptyException();
         } else {
+            int index = appointments.indexOf(key);
+            if (index == -1) {
+                throw new AppointmentNotFoundException();
+            }
+            Appointment removed = appointments.get(index);
             appointments.remove(key);
+            recordInverse(() -> appointments.add(index, removed));
         }
     }
     //@@author
@@ -413,8 +518,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void scheduleAppointment(Appointment a) throws DuplicateAppointmentException,
             AppointmentCloseToPreviousException, AppointmentCloseToNextException {
-        appointments.add(a);
-        appointments.sort();
+        checkClashWithRecurringAppointments(a);
+        appointments.addInOrder(a);
+        recordInverse(() -> appointments.remove(a));
     }
 
     /**
@@ -429,9 +535,111 @@ public class AddressBook implements ReadOnlyAddressBook {
             throws DuplicateAppointmentException, AppointmentNotFoundException {
         requireNonNull(rescheduleAppointment);
 
-        appointments.setAppointment(target, rescheduleAppointment);
+        replaceAppointment(target, rescheduleAppointment);
     }
     //@@author
+
+    /**
+     * Throws the same exception as a clash with a single appointment if {@code a} overlaps an occurrence of
+     * a recurring appointment.
+     */
+    private void checkClashWithRecurringAppointments(Appointment a) throws DuplicateAppointmentException,
+            AppointmentCloseToPreviousException, AppointmentCloseToNextException {
+        Optional<Appointment> occurrence = recurringAppointments.getOverlappingOccurrence(a.getStart(), a.getEnd());
+        if (!occurrence.isPresent()) {
+            return;
+        }
+        if (occurrence.get().getStart() == a.getStart()) {
+            throw new DuplicateAppointmentException();
+        }
+        if (occurrence.get().getStart() < a.getStart()) {
+            throw new AppointmentCloseToPreviousException(UniqueAppointmentList.MESSAGE_DURATION_PREVIOUS);
+        }
+        throw new AppointmentCloseToNextException(UniqueAppointmentList.MESSAGE_DURATION_NEXT);
+    }
+
+    /**
+     * Schedules a recurring appointment.
+     *
+     * @throws DuplicateAppointmentException if an equivalent recurring appointment already exists.
+     * @throws RecurringAppointmentClashException if an occurrence of {@code r} overlaps an existing appointment
+     *      or an occurrence of another recurring appointment.
+     */
+    public void scheduleRecurringAppointment(RecurringAppointment r) throws DuplicateAppointmentException,
+            RecurringAppointmentClashException {
+        requireNonNull(r);
+        for (Appointment appointment : appointments) {
+            if (r.getOverlappingOccurrence(appointment.getStart(), appointment.getEnd()).isPresent()) {
+                throw new RecurringAppointmentClashException();
+            }
+        }
+        recurringAppointments.add(r);
+        recordInverse(() -> recurringAppointments.remove(r));
+    }
+
+    /**
+     * Removes a recurring appointment together with all its occurrences.
+     *
+     * @throws AppointmentNotFoundException if {@code r} could not be found.
+     */
+    public void unscheduleRecurringAppointment(RecurringAppointment r) throws AppointmentNotFoundException {
+        requireNonNull(r);
+        int index = recurringAppointments.indexOf(r);
+        if (index == -1) {
+            throw new AppointmentNotFoundException();
+        }
+        RecurringAppointment removed = recurringAppointments.get(index);
+        recurringAppointments.remove(r);
+        recordInverse(() -> recurringAppointments.add(index, removed));
+    }
+
+    /**
+     * Returns the occurrences of recurring appointments that overlap the period from {@code from} to {@code to}
+     * (in minutes since 1970-01-01 00:00, with the end exclusive), in date and time order.
+     */
+    public List<Appointment> getRecurringOccurrencesBetween(long from, long to) {
+        return recurringAppointments.getOccurrencesBetween(from, to);
+    }
+
+    /**
+     * Returns the first {@code count} free slots of at least {@code minLength} minutes, starting from {@code from}.
+     * If {@code vetTech} is present, only the appointments of that vet technician are treated as busy.
+     * Occurrences of recurring appointments are always treated as busy, as no appointment can be scheduled over them.
+     */
+    public List<FreeSlot> getFreeSlots(long from, int minLength, int count, Optional<VetTechnician> vetTech) {
+        List<FreeSlot> freeSlots = new ArrayList<>();
+        long searchFrom = from;
+        while (freeSlots.size() < count) {
+            // occurrences of recurring appointments can split a slot into parts that are too short, so keep looking
+            List<FreeSlot> slots = vetTech.isPresent()
+                    ? appointments.findFreeSlots(searchFrom, minLength, count - freeSlots.size(), vetTech.get())
+                    : appointments.findFreeSlots(searchFrom, minLength, count - freeSlots.size());
+            for (FreeSlot slot : slots) {
+                for (FreeSlot freeSlot : recurringAppointments.removeOccurrences(slot, minLength)) {
+                    if (freeSlots.size() < count) {
+                        freeSlots.add(freeSlot);
+                    }
+                }
+                searchFrom = slot.getEnd();
+            }
+        }
+        return freeSlots;
+    }
+
+    /**
+     * Returns the appointments of {@code vetTech} in order of their date and time.
+     */
+    public List<Appointment> getAppointmentsOf(VetTechnician vetTech) {
+        return appointments.getAppointmentsOf(vetTech);
+    }
+
+    /**
+     * Returns the appointments of {@code pet} in order of their date and time.
+     */
+    public List<Appointment> getAppointmentsOf(Pet pet) {
+        return appointments.getAppointmentsOf(pet);
+    }
+
     //// pet-level operations
 
     //@@author md-azsa
@@ -443,8 +651,17 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @throws DuplicatePetException if an equivalent pet already exists.
      */
     public void addPet(Pet p) throws DuplicatePetException {
-        Pet pet = syncWithMasterPetTagList(p);
-        pets.add(pet);
+        Pet pet = syncWithMasterPetTagList(p, nextPetId++);
+        try {
+            pets.add(pet);
+        } catch (DuplicatePetException e) {
+            tags.release(pet.getTags());
+            throw e;
+        }
+        recordInverse(() -> {
+            pets.remove(pet);
+            tags.release(pet.getTags());
+        });
     }
 
     /**
@@ -453,54 +670,57 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @throws PetNotFoundException if the {@code key} is not in this {@code AddressBook}.
      */
     public boolean removePet(Pet key) throws PetNotFoundException, ClientPetAssociationNotFoundException {
-        boolean found = false;
-        for (Appointment appointment : appointments) {
-            if (appointment.getClientOwnPet() != null
-                    && appointment.getClientOwnPet().getPet().equals(key)) {
-                appointment.setClientOwnPetToNull();
-            }
-        }
-        for (ClientOwnPet association : clientPetAssociations) {
-            if (association.getPet().equals(key)) {
-                clientPetAssociations.remove(association);
-                found = true;
-                break;
-            }
-        }
-        if (!found) {
+        Optional<ClientOwnPet> association = clientPetAssociations.getAssociationOf(key);
+        if (!association.isPresent()) {
             throw new ClientPetAssociationNotFoundException();
         }
-        if (pets.remove(key)) {
-            return true;
-        } else {
+        int index = pets.indexOf(key);
+        if (index == -1) {
             throw new PetNotFoundException();
         }
+        recordAppointmentReplacements(appointments.removePetFromAppointments(key));
+        removeAssociation(association.get());
+        Pet removed = pets.get(index);
+        pets.remove(key);
+        tags.release(key.getTags());
+        recordInverse(() -> {
+            pets.add(index, removed);
+            tags.acquire(removed.getTags());
+        });
+        return true;
     }
 
     /**
      * Updates the master tag list to include tags in {@code person} that are not in the list.
      *
-     * @return a copy of this {@code person} such that every tag in this person points to a Tag object in the master
-     * list.
+     * @return a copy of this {@code person} with {@code id} as its id, such that every tag in this person points
+     * to a Tag object in the master list.
      */
-    private Pet syncWithMasterPetTagList(Pet pet) {
+    private Pet syncWithMasterPetTagList(Pet pet, int id) {
         Pet syncedPet;
 
-        final UniqueTagList petTags = new UniqueTagList(pet.getTags());
-        tags.mergeFrom(petTags);
-
-        // Create map with values = tag object references in the master list
-        // used for checking person tag references
-        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
-        tags.forEach(tag -> masterTagObjects.put(tag, tag));
+        final Set<Tag> correctTagReferences = tags.acquire(pet.getTags());
 
-        // Rebuild the list of person tags to point to the relevant tags in the master tag list.
-        final Set<Tag> correctTagReferences = new HashSet<>();
-        petTags.forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag)));
-
-        syncedPet = new Pet(pet.getPetName(), pet.getPetAge(), pet.getPetGender(), correctTagReferences);
+        syncedPet = new Pet(id, pet.getPetName(), pet.getPetAge(), pet.getPetGender(), correctTagReferences);
         return syncedPet;
     }
+
+    /**
+     * Returns {@code petList} synced with the master tag list, as by {@link #syncWithMasterPetTagList(Pet, int)}.
+     * Each pet keeps its id, unless it has none or an earlier pet has the same id, in which case it is given
+     * a new one.
+     */
+    private List<Pet> syncWithMasterPetTagList(List<Pet> petList) {
+        int maxId = petList.stream().mapToInt(Pet::getId).max().orElse(Pet.NO_ID);
+        nextPetId = Math.max(nextPetId, maxId + 1);
+        Set<Integer> usedIds = new HashSet<>();
+        List<Pet> syncedPetList = new ArrayList<>(petList.size());
+        for (Pet pet : petList) {
+            int id = pet.getId() > Pet.NO_ID && usedIds.add(pet.getId()) ? pet.getId() : nextPetId++;
+            syncedPetList.add(syncWithMasterPetTagList(pet, id));
+        }
+        return syncedPetList;
+    }
     //@@author
 
     //// Association methods
@@ -521,6 +741,7 @@ public class AddressBook implements ReadOnlyAddressBook {
                 throw new PetAlreadyHasOwnerException();
             }
             clientPetAssociations.add(toAdd);
+            recordInverse(() -> clientPetAssociations.remove(toAdd));
         } else {
             throw new ClientAlreadyOwnsPetException();
         }
@@ -536,9 +757,6 @@ public class AddressBook implements ReadOnlyAddressBook {
             ClientPetAssociationNotFoundException, AppointmentNotFoundException, DuplicateAppointmentException,
             AppointmentHasBeenTakenException {
 
-        boolean isAdded = false;
-        boolean isPresent = false;
-
         if (clientPetAssociations.isEmpty()) {
             throw new ClientPetAssociationNotFoundException();
         }
@@ -546,24 +764,13 @@ public class AddressBook implements ReadOnlyAddressBook {
             throw new AppointmentHasBeenTakenException();
         }
 
-        for (ClientOwnPet a : clientPetAssociations) {
-            if (a.getPet().equals(pet)) {
-                isPresent = true;
-                if (appointment.getClientOwnPet() == null) {
-                    Appointment appointmentCopy = new Appointment(appointment);
-                    appointmentCopy.setClientOwnPet(a);
-                    appointments.setAppointment(appointment, appointmentCopy);
-                    isAdded = true;
-                }
-            }
-        }
-
-        if (!isPresent) {
+        Optional<ClientOwnPet> association = clientPetAssociations.getAssociationOf(pet);
+        if (!association.isPresent()) {
             throw new ClientPetAssociationNotFoundException();
         }
-        if (isPresent && !isAdded) {
-            throw new PetAlreadyHasAppointmentException();
-        }
+        Appointment appointmentCopy = new Appointment(appointment);
+        appointmentCopy.setClientOwnPet(association.get());
+        replaceAppointment(appointment, appointmentCopy);
     }
 
     /**
@@ -580,7 +787,7 @@ public class AddressBook implements ReadOnlyAddressBook {
                 throw new AppointmentDoesNotHavePetException();
             } else {
                 appointmentCopy.setClientOwnPetToNull();
-                appointments.setAppointment(appointment, appointmentCopy);
+                replaceAppointment(appointment, appointmentCopy);
             }
         }
     }
@@ -591,12 +798,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Returns true if specified pet has an owner
      */
     private boolean hasOwner(Pet pet) {
-        for (ClientOwnPet a : clientPetAssociations) {
-            if (a.getPet().equals(pet)) {
-                return true;
-            }
-        }
-        return false;
+        return clientPetAssociations.hasOwner(pet);
     }
 
     //@@author jonathanwj
@@ -607,29 +809,44 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePetFromClient(Pet pet, Client client) throws ClientPetAssociationNotFoundException {
         ClientOwnPet toRemove = new ClientOwnPet(client, pet);
-        if (clientPetAssociations.contains(toRemove)) {
-            clientPetAssociations.remove(toRemove);
-        } else {
+        if (!clientPetAssociations.contains(toRemove)) {
             throw new ClientPetAssociationNotFoundException();
         }
+        removeAssociation(toRemove);
+    }
+
+    /**
+     * Removes the association {@code toRemove}, which must be in {@link #clientPetAssociations}.
+     */
+    private void removeAssociation(ClientOwnPet toRemove) {
+        int index = clientPetAssociations.indexOf(toRemove);
+        ClientOwnPet removed = clientPetAssociations.get(index);
+        clientPetAssociations.remove(toRemove);
+        recordInverse(() -> clientPetAssociations.add(index, removed));
     }
 
     //@@author jonathanwj
     /**
      * Adds vet technician to appointment
+     *
+     * @throws TechnicianHasOverlappingAppointmentException if {@code technician} already has an appointment
+     *      that overlaps {@code appointment}.
      */
     public void addVetTechToAppointment(VetTechnician technician, Appointment appointment)
             throws AppointmentNotFoundException, AppointmentAlreadyHasVetTechnicianException,
-            DuplicateAppointmentException {
+            DuplicateAppointmentException, TechnicianHasOverlappingAppointmentException {
         if (!appointments.contains(appointment)) {
             throw new AppointmentNotFoundException();
         }
         if (appointment.getOptionalVetTechnician().isPresent()) {
             throw new AppointmentAlreadyHasVetTechnicianException();
         }
+        if (appointments.isVetTechnicianBooked(technician, appointment)) {
+            throw new TechnicianHasOverlappingAppointmentException();
+        }
         Appointment appointmentCopy = new Appointment(appointment);
         appointmentCopy.setVetTech(technician);
-        appointments.setAppointment(appointment, appointmentCopy);
+        replaceAppointment(appointment, appointmentCopy);
     }
 
     //@@author jonathanwj
@@ -647,7 +864,98 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
         Appointment appointmentCopy = new Appointment(apptToRemoveVetFrom);
         appointmentCopy.removeVetTech();
-        appointments.setAppointment(apptToRemoveVetFrom, appointmentCopy);
+        replaceAppointment(apptToRemoveVetFrom, appointmentCopy);
+    }
+
+    /**
+     * Replaces the appointment {@code target} with {@code replacement}.
+     *
+     * @throws DuplicateAppointmentException if {@code replacement} clashes with another existing appointment.
+     * @throws AppointmentNotFoundException if {@code target} could not be found.
+     */
+    private void replaceAppointment(Appointment target, Appointment replacement)
+            throws DuplicateAppointmentException, AppointmentNotFoundException {
+        int index = appointments.indexOf(target);
+        if (index == -1) {
+            throw new AppointmentNotFoundException();
+        }
+        Appointment replaced = appointments.get(index);
+        appointments.setAppointment(target, replacement);
+        recordInverse(() -> appointments.setAppointment(replacement, replaced));
+    }
+
+    //// snapshots
+
+    /**
+     * Returns a read-only copy of the data in this address book, which stays the same however the address book
+     * is changed later.
+     * The copy shares its lists with this address book, so it is taken in constant time.
+     */
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(persons.snapshot(), persons.clientSnapshot(), persons.vetTechnicianSnapshot(),
+                tags.snapshot(), appointments.snapshot(), recurringAppointments.snapshot(), pets.snapshot(),
+                clientPetAssociations.snapshot());
+    }
+
+    //// change recording
+
+    /**
+     * Starts recording the changes made to this address book, in place of any changes that were being recorded.
+     *
+     * @return the changes, which are recorded into until {@link #stopRecording()} is called.
+     */
+    public AddressBookChange startRecording() {
+        recording = new AddressBookChange(this);
+        return recording;
+    }
+
+    /**
+     * Stops recording the changes made to this address book.
+     */
+    public void stopRecording() {
+        recording = null;
+    }
+
+    /**
+     * Reverts the changes in {@code change}, which must be the latest changes made to this address book.
+     * Any recording is stopped, so that reverting the changes is not recorded as a change itself.
+     */
+    public void undo(AddressBookChange change) {
+        requireNonNull(change);
+        assert change.isRecordedBy(this);
+        stopRecording();
+        change.revert();
+    }
+
+    /**
+     * Records {@code inverse} as the operation that reverts the change that was just made, if changes are being
+     * recorded.
+     */
+    private void recordInverse(AddressBookChange.Inverse inverse) {
+        recordInverse(inverse, 1);
+    }
+
+    /**
+     * Records {@code inverse} as in {@link #recordInverse(AddressBookChange.Inverse)}, noting that it keeps
+     * {@code retainedElements} elements of the address book from being freed.
+     */
+    private void recordInverse(AddressBookChange.Inverse inverse, int retainedElements) {
+        if (recording != null) {
+            recording.add(inverse, retainedElements);
+        }
+    }
+
+    /**
+     * Records how to put back the appointments in {@code replacements}, which maps each appointment to the copy
+     * that replaced it.
+     */
+    private void recordAppointmentReplacements(Map<Appointment, Appointment> replacements) {
+        if (replacements.isEmpty()) {
+            return;
+        }
+        Map<Appointment, Appointment> restorations = new IdentityHashMap<>();
+        replacements.forEach((appointment, replacement) -> restorations.put(replacement, appointment));
+        recordInverse(() -> appointments.replaceAppointments(restorations), restorations.size());
     }
 
     //// util methods
@@ -675,6 +983,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return appointments.asObservableList();
     }
 
+    @Override
+    public ObservableList<RecurringAppointment> getRecurringAppointmentList() {
+        return recurringAppointments.asObservableList();
+    }
+
     @Override
     public ObservableList<Pet> getPetList() {
         return pets.asObservableList();
@@ -682,7 +995,14 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     @Override
     public ObservableList<ClientOwnPet> getClientPetAssociations() {
-        return clientPetAssociations;
+        return clientPetAssociations.asObservableList();
+    }
+
+    /**
+     * Returns the pets of {@code client}, in the order of the client pet association list.
+     */
+    public List<Pet> getPetsOf(Client client) {
+        return clientPetAssociations.getPetsOf(client);
     }
 
     @Override
@@ -690,44 +1010,29 @@ public class AddressBook implements ReadOnlyAddressBook {
         return other == this // short circuit if same object
                 || (other instanceof AddressBook // instanceof handles nulls
                 && this.persons.equals(((AddressBook) other).persons)
-                && this.tags.equalsOrderInsensitive(((AddressBook) other).tags))
+                && this.tags.equals(((AddressBook) other).tags))
                 && this.appointments.equals(((AddressBook) other).appointments)
+                && this.recurringAppointments.equals(((AddressBook) other).recurringAppointments)
                 && this.pets.equals(((AddressBook) other).pets);
     }
 
     //@@author jonathanwj
     @Override
     public ObservableList<Client> getClientList() {
-        ObservableList<Client> clientList = EasyBind.map(getPersonList(), (person) -> {
-            if (person.isClient()) {
-                return (Client) person;
-            } else {
-                return null;
-            }
-        });
-        clientList = FXCollections.unmodifiableObservableList(clientList).filtered(Objects::nonNull);
-        return clientList;
+        return persons.asClientList();
     }
 
     //@@author jonathanwj
     @Override
     public ObservableList<VetTechnician> getVetTechnicianList() {
-        ObservableList<VetTechnician> technicianList = EasyBind.map(getPersonList(), (person) -> {
-            if (!person.isClient()) {
-                return (VetTechnician) person;
-            } else {
-                return null;
-            }
-        });
-        technicianList = FXCollections.unmodifiableObservableList(technicianList).filtered(Objects::nonNull);
-        return technicianList;
+        return persons.asVetTechnicianList();
     }
 
     //@@author
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(persons, tags, appointments, pets);
+        return Objects.hash(persons, tags, appointments, recurringAppointments, pets);
     }
 }
 
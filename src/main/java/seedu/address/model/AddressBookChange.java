@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The changes made to an {@code AddressBook} while it was recording them, kept as the operations that revert them.
+ *
+ * Only the persons, pets, associations and appointments that were changed are kept, so undoing the changes
+ * costs about as much as making them did, and the number of them kept gives a rough idea of the memory the changes
+ * take up.
+ * The changes can only be undone on the address book that recorded them, while it is still in the state right after
+ * the changes were made.
+ *
+ * @see AddressBook#startRecording()
+ */
+public class AddressBookChange {
+
+    /** A rough size of a person, pet, tag, association or appointment, with the objects it refers to. */
+    static final long ESTIMATED_BYTES_PER_ELEMENT = 512;
+    /** A rough size of a recorded inverse operation and the values it captures. */
+    static final long ESTIMATED_BYTES_PER_INVERSE = 64;
+
+    private final AddressBook recorder;
+    private final Deque<Inverse> inverses = new ArrayDeque<>();
+    private long retainedElements;
+
+    AddressBookChange(AddressBook recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Records {@code inverse} as the operation that reverts the latest change, which keeps
+     * {@code retainedElements} elements of the address book from being freed.
+     */
+    void add(Inverse inverse, int retainedElements) {
+        inverses.push(inverse);
+        this.retainedElements += retainedElements;
+    }
+
+    /**
+     * Returns true if the changes were made to {@code addressBook}.
+     */
+    boolean isRecordedBy(AddressBook addressBook) {
+        return recorder == addressBook;
+    }
+
+    /**
+     * Reverts the changes, the latest one first.
+     */
+    void revert() {
+        for (Inverse inverse : inverses) {
+            try {
+                inverse.apply();
+            } catch (Exception e) {
+                throw new AssertionError("The changes were made to this address book; they should revert cleanly", e);
+            }
+        }
+    }
+
+    /**
+     * Returns true if no changes were recorded.
+     */
+    public boolean isEmpty() {
+        return inverses.isEmpty();
+    }
+
+    /**
+     * Returns roughly how many bytes of memory are kept from being freed by holding on to these changes.
+     */
+    public long getEstimatedRetainedBytes() {
+        return retainedElements * ESTIMATED_BYTES_PER_ELEMENT + inverses.size() * ESTIMATED_BYTES_PER_INVERSE;
+    }
+
+    /**
+     * An operation that reverts a single change.
+     */
+    @FunctionalInterface
+    interface Inverse {
+        void apply() throws Exception;
+    }
+}
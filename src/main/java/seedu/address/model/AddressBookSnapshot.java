@@ -0,0 +1,107 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.RecurringAppointment;
+import seedu.address.model.association.ClientOwnPet;
+import seedu.address.model.client.Client;
+import seedu.address.model.person.Person;
+import seedu.address.model.pet.Pet;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.vettechnician.VetTechnician;
+
+/**
+ * A read-only copy of an {@code AddressBook} at one point in time, which shares its lists with the address book
+ * rather than copying them.
+ *
+ * @see AddressBook#snapshot()
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Client> clients;
+    private final ObservableList<VetTechnician> vetTechnicians;
+    private final ObservableList<Tag> tags;
+    private final ObservableList<Appointment> appointments;
+    private final ObservableList<RecurringAppointment> recurringAppointments;
+    private final ObservableList<Pet> pets;
+    private final ObservableList<ClientOwnPet> clientPetAssociations;
+
+    AddressBookSnapshot(List<Person> persons, List<Client> clients, List<VetTechnician> vetTechnicians,
+                        List<Tag> tags, List<Appointment> appointments,
+                        List<RecurringAppointment> recurringAppointments, List<Pet> pets,
+                        List<ClientOwnPet> clientPetAssociations) {
+        this.persons = readOnly(persons);
+        this.clients = readOnly(clients);
+        this.vetTechnicians = readOnly(vetTechnicians);
+        this.tags = readOnly(tags);
+        this.appointments = readOnly(appointments);
+        this.recurringAppointments = readOnly(recurringAppointments);
+        this.pets = readOnly(pets);
+        this.clientPetAssociations = readOnly(clientPetAssociations);
+    }
+
+    private static <T> ObservableList<T> readOnly(List<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(list));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tags;
+    }
+
+    @Override
+    public ObservableList<Appointment> getAppointmentList() {
+        return appointments;
+    }
+
+    @Override
+    public ObservableList<RecurringAppointment> getRecurringAppointmentList() {
+        return recurringAppointments;
+    }
+
+    @Override
+    public ObservableList<Pet> getPetList() {
+        return pets;
+    }
+
+    @Override
+    public ObservableList<ClientOwnPet> getClientPetAssociations() {
+        return clientPetAssociations;
+    }
+
+    @Override
+    public ObservableList<Client> getClientList() {
+        return clients;
+    }
+
+    @Override
+    public ObservableList<VetTechnician> getVetTechnicianList() {
+        return vetTechnicians;
+    }
+
+    /**
+     * Returns the total number of persons, tags, appointments, recurring appointments, pets and client pet
+     * associations in this snapshot.
+     */
+    public int size() {
+        return persons.size() + tags.size() + appointments.size() + recurringAppointments.size() + pets.size()
+                + clientPetAssociations.size();
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons, " + tags.size() + " tags "
+                + pets.size() + " pets, "
+                + appointments.size() + " appointments, "
+                + clientPetAssociations.size() + " clientpetassoc ";
+    }
+}
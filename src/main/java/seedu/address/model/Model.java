@@ -1,9 +1,13 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.FreeSlot;
+import seedu.address.model.appointment.RecurringAppointment;
 import seedu.address.model.appointment.exceptions.AppointmentAlreadyHasVetTechnicianException;
 import seedu.address.model.appointment.exceptions.AppointmentCloseToNextException;
 import seedu.address.model.appointment.exceptions.AppointmentCloseToPreviousException;
@@ -12,6 +16,7 @@ import seedu.address.model.appointment.exceptions.AppointmentHasBeenTakenExcepti
 import seedu.address.model.appointment.exceptions.AppointmentListIsEmptyException;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.appointment.exceptions.RecurringAppointmentClashException;
 import seedu.address.model.association.ClientOwnPet;
 import seedu.address.model.association.exceptions.ClientAlreadyOwnsPetException;
 import seedu.address.model.association.exceptions.ClientPetAssociationListEmptyException;
@@ -30,6 +35,7 @@ import seedu.address.model.pet.exceptions.DuplicatePetException;
 import seedu.address.model.pet.exceptions.PetNotFoundException;
 import seedu.address.model.vettechnician.VetTechnician;
 import seedu.address.model.vettechnician.exceptions.TechnicianHasExistingAppointmentException;
+import seedu.address.model.vettechnician.exceptions.TechnicianHasOverlappingAppointmentException;
 import seedu.address.model.vettechnician.exceptions.VetTechnicianNotFoundException;
 
 
@@ -62,6 +68,23 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Starts recording the changes made to the address book, so that they can be undone later.
+     *
+     * @return the changes, which are recorded into until {@link #stopRecordingChanges()} is called.
+     */
+    AddressBookChange startRecordingChanges();
+
+    /**
+     * Stops recording the changes made to the address book.
+     */
+    void stopRecordingChanges();
+
+    /**
+     * Reverts {@code changes}, which must be the latest changes made to the address book.
+     */
+    void undoChanges(AddressBookChange changes);
+
     /**
      * Deletes the given person.
      */
@@ -147,6 +170,36 @@ public interface Model {
     void updateAppointment(Appointment target, Appointment rescheduledAppointment)
             throws DuplicateAppointmentException, AppointmentNotFoundException;
 
+    /**
+     * Returns the first {@code count} free slots of at least {@code minLength} minutes, starting from {@code from}
+     * (in minutes since 1970-01-01 00:00). If {@code vetTech} is present, only the appointments of that
+     * vet technician are treated as busy.
+     */
+    List<FreeSlot> getFreeSlots(long from, int minLength, int count, Optional<VetTechnician> vetTech);
+
+    /**
+     * Schedules the given recurring appointment.
+     */
+    void scheduleRecurringAppointment(RecurringAppointment recurringAppointment)
+            throws DuplicateAppointmentException, RecurringAppointmentClashException;
+
+    /**
+     * Unschedules the given recurring appointment together with all its occurrences.
+     */
+    void unscheduleRecurringAppointment(RecurringAppointment recurringAppointment)
+            throws AppointmentNotFoundException;
+
+    /**
+     * Returns an unmodifiable view of the recurring appointment list
+     **/
+    ObservableList<RecurringAppointment> getRecurringAppointmentList();
+
+    /**
+     * Returns the occurrences of recurring appointments that overlap the period from {@code from} to {@code to}
+     * (in minutes since 1970-01-01 00:00, with the end exclusive), in date and time order.
+     */
+    List<Appointment> getRecurringOccurrencesBetween(long from, long to);
+
     /**
      * Returns an unmodifiable view of the filtered appointment list
      **/
@@ -186,6 +239,16 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered client pet association list */
     ObservableList<ClientOwnPet> getFilteredClientPetAssociationList();
 
+    /**
+     * Returns the pets owned by {@code client}.
+     */
+    List<Pet> getPetsOf(Client client);
+
+    /**
+     * Returns the appointments of {@code pet} in order of their date and time.
+     */
+    List<Appointment> getAppointmentsOf(Pet pet);
+
     /**
      * Associates pet to client
      */
@@ -236,7 +299,7 @@ public interface Model {
      */
     void addVetTechToAppointment(VetTechnician technician, Appointment appointment)
             throws AppointmentAlreadyHasVetTechnicianException,
-            DuplicateAppointmentException, AppointmentNotFoundException;
+            DuplicateAppointmentException, AppointmentNotFoundException, TechnicianHasOverlappingAppointmentException;
 
     /**
      * Removes the vet from the given appointment
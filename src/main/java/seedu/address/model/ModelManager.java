@@ -3,6 +3,8 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -15,6 +17,8 @@ import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.ui.NewApptAvailableEvent;
 import seedu.address.commons.events.ui.NewListAllDisplayAvailableEvent;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.FreeSlot;
+import seedu.address.model.appointment.RecurringAppointment;
 import seedu.address.model.appointment.exceptions.AppointmentAlreadyHasVetTechnicianException;
 import seedu.address.model.appointment.exceptions.AppointmentCloseToNextException;
 import seedu.address.model.appointment.exceptions.AppointmentCloseToPreviousException;
@@ -23,6 +27,7 @@ import seedu.address.model.appointment.exceptions.AppointmentHasBeenTakenExcepti
 import seedu.address.model.appointment.exceptions.AppointmentListIsEmptyException;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.appointment.exceptions.RecurringAppointmentClashException;
 import seedu.address.model.association.ClientOwnPet;
 import seedu.address.model.association.exceptions.ClientAlreadyOwnsPetException;
 import seedu.address.model.association.exceptions.ClientPetAssociationListEmptyException;
@@ -41,6 +46,7 @@ import seedu.address.model.pet.exceptions.DuplicatePetException;
 import seedu.address.model.pet.exceptions.PetNotFoundException;
 import seedu.address.model.vettechnician.VetTechnician;
 import seedu.address.model.vettechnician.exceptions.TechnicianHasExistingAppointmentException;
+import seedu.address.model.vettechnician.exceptions.TechnicianHasOverlappingAppointmentException;
 import seedu.address.model.vettechnician.exceptions.VetTechnicianNotFoundException;
 
 /**
@@ -99,11 +105,29 @@ public class ModelManager extends ComponentManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBookChange startRecordingChanges() {
+        return addressBook.startRecording();
+    }
+
+    @Override
+    public void stopRecordingChanges() {
+        addressBook.stopRecording();
+    }
+
+    @Override
+    public void undoChanges(AddressBookChange changes) {
+        addressBook.undo(changes);
+        indicateAddressBookChanged();
+        clearListAllPanel();
+    }
+
     /**
-     * Raises an event to indicate the model has changed
+     * Raises an event to indicate the model has changed.
+     * The event carries a snapshot of the address book, so that its handlers see the data as it was at this change.
      */
     private void indicateAddressBookChanged() {
-        raise(new AddressBookChangedEvent(addressBook));
+        raise(new AddressBookChangedEvent(addressBook.snapshot()));
         raise(new NewApptAvailableEvent(addressBook.toString()));
     }
 
@@ -166,6 +190,36 @@ public class ModelManager extends ComponentManager implements Model {
 
     //@@author
 
+    @Override
+    public List<FreeSlot> getFreeSlots(long from, int minLength, int count, Optional<VetTechnician> vetTech) {
+        requireNonNull(vetTech);
+        return addressBook.getFreeSlots(from, minLength, count, vetTech);
+    }
+
+    @Override
+    public synchronized void scheduleRecurringAppointment(RecurringAppointment recurringAppointment)
+            throws DuplicateAppointmentException, RecurringAppointmentClashException {
+        addressBook.scheduleRecurringAppointment(recurringAppointment);
+        indicateAddressBookChanged();
+    }
+
+    @Override
+    public synchronized void unscheduleRecurringAppointment(RecurringAppointment recurringAppointment)
+            throws AppointmentNotFoundException {
+        addressBook.unscheduleRecurringAppointment(recurringAppointment);
+        indicateAddressBookChanged();
+    }
+
+    @Override
+    public ObservableList<RecurringAppointment> getRecurringAppointmentList() {
+        return addressBook.getRecurringAppointmentList();
+    }
+
+    @Override
+    public List<Appointment> getRecurringOccurrencesBetween(long from, long to) {
+        return addressBook.getRecurringOccurrencesBetween(from, to);
+    }
+
     @Override
     public void updatePerson(Person target, Person editedPerson)
             throws DuplicatePersonException, PersonNotFoundException, ClientHasExistingAppointmentException,
@@ -252,7 +306,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void addVetTechToAppointment(VetTechnician technician, Appointment appointment)
             throws AppointmentAlreadyHasVetTechnicianException,
-            DuplicateAppointmentException, AppointmentNotFoundException {
+            DuplicateAppointmentException, AppointmentNotFoundException, TechnicianHasOverlappingAppointmentException {
         requireAllNonNull(technician, appointment);
         addressBook.addVetTechToAppointment(technician, appointment);
         indicateAddressBookChanged();
@@ -360,6 +414,18 @@ public class ModelManager extends ComponentManager implements Model {
         return FXCollections.unmodifiableObservableList(filteredClientPetAssocation);
     }
 
+    @Override
+    public List<Pet> getPetsOf(Client client) {
+        requireNonNull(client);
+        return addressBook.getPetsOf(client);
+    }
+
+    @Override
+    public List<Appointment> getAppointmentsOf(Pet pet) {
+        requireNonNull(pet);
+        return addressBook.getAppointmentsOf(pet);
+    }
+
     // Appointment
 
     /**
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.RecurringAppointment;
 import seedu.address.model.association.ClientOwnPet;
 import seedu.address.model.client.Client;
 import seedu.address.model.person.Person;
@@ -32,6 +33,12 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Appointment> getAppointmentList();
 
+    /**
+     * Returns an unmodifiable view of the recurring appointments list.
+     * This list will not contain any duplicate recurring appointments.
+     */
+    ObservableList<RecurringAppointment> getRecurringAppointmentList();
+
     /**
      * Returns an unmodifiable view of the pets list.
      */
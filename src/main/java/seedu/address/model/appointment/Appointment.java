@@ -12,14 +12,16 @@ import seedu.address.model.vettechnician.VetTechnician;
 /**
  * Represents an Appointment in the application.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Unlike persons and pets, an appointment has no id, as nothing in a data file or the journal refers to one.
  */
 public class Appointment {
 
-    private static final int CONVERSION_TIME = 60;
     private final Date date;
     private final Time time;
     private final Duration duration;
     private final Description description;
+    private final long start;
+    private final long end;
     private ClientOwnPet clientOwnPet;
     private Optional<VetTechnician> vetTech;
 
@@ -32,6 +34,8 @@ public class Appointment {
         this.time = time;
         this.duration = duration;
         this.description = description;
+        start = (long) date.getEpochDay() * Time.MINUTES_PER_DAY + time.getMinuteOfDay();
+        end = start + duration.getDurationValue();
         clientOwnPet = null;
         vetTech = Optional.empty();
     }
@@ -41,6 +45,8 @@ public class Appointment {
         time = toCopy.getTime();
         duration = toCopy.getDuration();
         description = toCopy.getDescription();
+        start = toCopy.getStart();
+        end = toCopy.getEnd();
         clientOwnPet = toCopy.getClientOwnPet();
         vetTech = toCopy.getOptionalVetTechnician();
     }
@@ -61,6 +67,27 @@ public class Appointment {
         return description;
     }
 
+    /**
+     * Returns the start of this appointment in minutes since 1970-01-01 00:00.
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the end of this appointment in minutes since 1970-01-01 00:00.
+     */
+    public long getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns true if this appointment is on the same date as {@code other}.
+     */
+    public boolean isOnSameDateAs(Appointment other) {
+        return date.getEpochDay() == other.date.getEpochDay();
+    }
+
     public ClientOwnPet getClientOwnPet() {
         return clientOwnPet;
     }
@@ -97,34 +124,14 @@ public class Appointment {
      * Returns the interval in minutes between two appointments
      */
     public int calDurationDifferencePositive(Appointment previous) {
-        Time previousTime = previous.getTime();
-
-        return hourDifference(this.time.getHour(), previousTime.getHour())
-                + minDifference(this.time.getMinute(), previousTime.getMinute());
+        return (int) (this.start - previous.start);
     }
 
     /**
      * Returns the interval in minutes between two appointments
      */
     public int calDurationDifferenceNegative(Appointment next) {
-        Time nextTime = next.getTime();
-
-        return hourDifference(nextTime.getHour(), this.time.getHour())
-                + minDifference(nextTime.getMinute(), this.time.getMinute());
-    }
-
-    /**
-     * Returns the difference in Hour of time between two appointments
-     */
-    public int hourDifference(int hourFirst, int hourSecond) {
-        return Math.abs((hourFirst - hourSecond) * CONVERSION_TIME);
-    }
-
-    /**
-     * Returns the difference in Minute of time between two appointments
-     */
-    public int minDifference(int minFirst, int minSecond) {
-        return minFirst - minSecond;
+        return (int) (next.start - this.start);
     }
 
     @Override
@@ -146,8 +153,9 @@ public class Appointment {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(date, time, duration, description);
+        // only the fields that are part of equality and never change are hashed, so that appointments can be
+        // looked up by hash even after their vet technician is replaced
+        return Objects.hash(date, time);
 
     }
 
@@ -171,11 +179,7 @@ public class Appointment {
      * Comparator that compares the date and then time of the appointment
      */
     public int compareTo(Appointment other) {
-        if (this.getDate().compareToDate(other.getDate()) == 0) {
-            return (this.getTime().compareToTime(other.getTime()));
-        } else {
-            return this.getDate().compareToDate(other.getDate());
-        }
+        return Long.compare(this.start, other.start);
     }
 
 }
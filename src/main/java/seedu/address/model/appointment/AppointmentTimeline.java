@@ -0,0 +1,272 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * An index of appointments ordered by their start in epoch minutes.
+ * Looking up the appointments on either side of a given time slot takes logarithmic time.
+ *
+ * Appointments that start at the same date and time are kept together in insertion order.
+ *
+ * The gaps between the appointments of each date are also indexed, and rebuilt only for the dates that change,
+ * so that free slots can be found without looking at every appointment. An appointment that runs past midnight
+ * takes up the start of the next date as well.
+ *
+ * Appointments are treated as intervals from their start to their end, so overlaps can be found by looking only at
+ * the appointments that start less than the longest indexed duration before the interval.
+ */
+public class AppointmentTimeline {
+
+    public static final String MESSAGE_SLOT_LENGTH_CONSTRAINTS = "The length of a free slot must be between 1 and "
+            + Time.MINUTES_PER_DAY + " minutes";
+
+    private final TreeMap<Long, List<Appointment>> slots = new TreeMap<>();
+    private final Map<Long, DayGaps> gapsByDay = new HashMap<>();
+    private long longestDuration = 0;
+
+    /**
+     * Adds an appointment to the timeline.
+     */
+    public void add(Appointment toAdd) {
+        requireNonNull(toAdd);
+        slots.computeIfAbsent(toAdd.getStart(), unused -> new ArrayList<>()).add(toAdd);
+        forgetGaps(toAdd);
+        longestDuration = Math.max(longestDuration, toAdd.getEnd() - toAdd.getStart());
+    }
+
+    /**
+     * Removes the given appointment instance from the timeline.
+     *
+     * @return true if the appointment was found in the timeline.
+     */
+    public boolean remove(Appointment toRemove) {
+        requireNonNull(toRemove);
+        List<Appointment> slot = slots.get(toRemove.getStart());
+        if (slot == null || !slot.removeIf(appointment -> appointment == toRemove)) {
+            return false;
+        }
+        if (slot.isEmpty()) {
+            slots.remove(toRemove.getStart());
+        }
+        forgetGaps(toRemove);
+        return true;
+    }
+
+    /**
+     * Removes the indexed gaps of every date that {@code appointment} takes up part of.
+     */
+    private void forgetGaps(Appointment appointment) {
+        for (long day = getDay(appointment.getStart()); day <= getDay(appointment.getEnd() - 1); day++) {
+            gapsByDay.remove(day);
+        }
+    }
+
+    /**
+     * Removes every appointment from the timeline.
+     */
+    public void clear() {
+        slots.clear();
+        gapsByDay.clear();
+        longestDuration = 0;
+    }
+
+    public boolean isEmpty() {
+        return slots.isEmpty();
+    }
+
+    /**
+     * Returns the appointments in the timeline in order of their start.
+     */
+    public List<Appointment> getAppointments() {
+        List<Appointment> appointments = new ArrayList<>();
+        slots.values().forEach(appointments::addAll);
+        return appointments;
+    }
+
+    /**
+     * Returns a view of the appointments that start from {@code from} up to {@code to} (in minutes since
+     * 1970-01-01 00:00, with {@code to} exclusive), in order of their start.
+     * The view follows later changes to the timeline, and cannot be modified itself.
+     * Finding the first appointment in the view takes logarithmic time, and each one after it constant time.
+     *
+     * @throws IllegalArgumentException if {@code from} is after {@code to}.
+     */
+    public Collection<Appointment> getAppointmentsBetween(long from, long to) {
+        Collection<List<Appointment>> slotsBetween = slots.subMap(from, to).values();
+        return new AbstractCollection<Appointment>() {
+            @Override
+            public Iterator<Appointment> iterator() {
+                return slotsBetween.stream().flatMap(List::stream).iterator();
+            }
+
+            @Override
+            public int size() {
+                return slotsBetween.stream().mapToInt(List::size).sum();
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return slotsBetween.isEmpty();
+            }
+        };
+    }
+
+    /**
+     * Returns true if an appointment in the timeline overlaps the period from {@code start} to {@code end}
+     * (in minutes since 1970-01-01 00:00, with the end exclusive).
+     */
+    public boolean hasOverlap(long start, long end) {
+        // nothing that starts longestDuration or more before start can still be running at start
+        for (Appointment appointment : getAppointmentsBetween(start - longestDuration, end)) {
+            if (appointment.getEnd() > start) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the closest appointment on the same date as {@code appointment} that starts strictly before it.
+     */
+    public Optional<Appointment> getPrevious(Appointment appointment) {
+        requireNonNull(appointment);
+        return firstOnSameDate(slots.lowerEntry(appointment.getStart()), appointment);
+    }
+
+    /**
+     * Returns the closest appointment on the same date as {@code appointment} that starts strictly after it.
+     */
+    public Optional<Appointment> getNext(Appointment appointment) {
+        requireNonNull(appointment);
+        return firstOnSameDate(slots.higherEntry(appointment.getStart()), appointment);
+    }
+
+    /**
+     * Returns the first appointment of {@code slot} if it is on the same date as {@code appointment}.
+     */
+    private static Optional<Appointment> firstOnSameDate(Map.Entry<Long, List<Appointment>> slot,
+                                                         Appointment appointment) {
+        if (slot == null || !slot.getValue().get(0).isOnSameDateAs(appointment)) {
+            return Optional.empty();
+        }
+        return Optional.of(slot.getValue().get(0));
+    }
+
+    /**
+     * Returns the first {@code count} free slots that are at least {@code minLength} minutes long,
+     * starting from {@code from} (in minutes since 1970-01-01 00:00).
+     * A free slot never extends past the end of its date.
+     */
+    public List<FreeSlot> findFreeSlots(long from, int minLength, int count) {
+        checkArgument(minLength > 0 && minLength <= Time.MINUTES_PER_DAY, MESSAGE_SLOT_LENGTH_CONSTRAINTS);
+        List<FreeSlot> freeSlots = new ArrayList<>();
+        // an empty date is always free, so this stops at the latest on the first empty date after the last booking
+        for (long day = getDay(from); freeSlots.size() < count; day++) {
+            getGaps(day).collectFreeSlots(from, minLength, count, freeSlots);
+        }
+        return freeSlots;
+    }
+
+    /**
+     * Returns the gaps between the appointments on {@code day}, building them if they are not indexed yet.
+     */
+    private DayGaps getGaps(long day) {
+        long dayStart = day * Time.MINUTES_PER_DAY;
+        SortedMap<Long, List<Appointment>> appointmentsOnDay = slots.subMap(dayStart, dayStart + Time.MINUTES_PER_DAY);
+        if (appointmentsOnDay.isEmpty()) {
+            return new DayGaps(dayStart, getLatestEndBefore(dayStart), appointmentsOnDay.values());
+        }
+        return gapsByDay.computeIfAbsent(day, unused ->
+                new DayGaps(dayStart, getLatestEndBefore(dayStart), appointmentsOnDay.values()));
+    }
+
+    /**
+     * Returns the latest end of the appointments that start before {@code minute}, or {@code minute} if none of
+     * them is still running at that time.
+     */
+    private long getLatestEndBefore(long minute) {
+        long latestEnd = minute;
+        // nothing that starts longestDuration or more before minute can still be running at minute
+        for (Appointment appointment : getAppointmentsBetween(minute - longestDuration, minute)) {
+            latestEnd = Math.max(latestEnd, appointment.getEnd());
+        }
+        return latestEnd;
+    }
+
+    private static long getDay(long minute) {
+        return minute / Time.MINUTES_PER_DAY;
+    }
+
+    /**
+     * The free periods of a single date, in order.
+     */
+    private static class DayGaps {
+        private final long[] starts;
+        private final long[] ends;
+        private final long longest;
+
+        /**
+         * Finds the gaps between {@code appointmentsInOrder}, which start on the date from {@code dayStart},
+         * after {@code busyUntil}, the end of any appointment running over from the date before.
+         */
+        DayGaps(long dayStart, long busyUntil, Collection<List<Appointment>> appointmentsInOrder) {
+            long dayEnd = dayStart + Time.MINUTES_PER_DAY;
+            long[] gapStarts = new long[appointmentsInOrder.size() + 1];
+            long[] gapEnds = new long[appointmentsInOrder.size() + 1];
+            int size = 0;
+            long longestGap = 0;
+            long cursor = Math.min(busyUntil, dayEnd);
+            for (List<Appointment> appointmentsWithSameStart : appointmentsInOrder) {
+                long start = appointmentsWithSameStart.get(0).getStart();
+                if (start > cursor) {
+                    gapStarts[size] = cursor;
+                    gapEnds[size] = start;
+                    longestGap = Math.max(longestGap, start - cursor);
+                    size++;
+                }
+                for (Appointment appointment : appointmentsWithSameStart) {
+                    cursor = Math.max(cursor, appointment.getEnd());
+                }
+            }
+            if (cursor < dayEnd) {
+                gapStarts[size] = cursor;
+                gapEnds[size] = dayEnd;
+                longestGap = Math.max(longestGap, dayEnd - cursor);
+                size++;
+            }
+            starts = Arrays.copyOf(gapStarts, size);
+            ends = Arrays.copyOf(gapEnds, size);
+            longest = longestGap;
+        }
+
+        /**
+         * Adds to {@code freeSlots} the gaps of at least {@code minLength} minutes after {@code from},
+         * until {@code freeSlots} has {@code count} elements.
+         */
+        void collectFreeSlots(long from, int minLength, int count, List<FreeSlot> freeSlots) {
+            if (longest < minLength) {
+                return;
+            }
+            int index = Arrays.binarySearch(ends, from + 1);
+            for (index = index < 0 ? -index - 1 : index; index < ends.length && freeSlots.size() < count; index++) {
+                long start = Math.max(starts[index], from);
+                if (ends[index] - start >= minLength) {
+                    freeSlots.add(new FreeSlot(start, ends[index]));
+                }
+            }
+        }
+    }
+}
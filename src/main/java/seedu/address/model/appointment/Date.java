@@ -3,6 +3,7 @@ package seedu.address.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 
 //@@author Godxin-functional
@@ -40,9 +41,11 @@ public class Date {
     private static final int FEB_NONLEAP_YEAR_DAY = 28;
     private  static final String[] BIG_MONTH = {"01", "03", "05", "07", "08", "10", "12"};
     private  static final String[] SMALL_MONTH = {"04", "06", "09", "11"};
+    private static final String DATE_SEPARATOR = "-";
 
 
     public final String date;
+    private final int epochDay;
 
     /**
      * Constructs a {@code Date}.
@@ -55,6 +58,23 @@ public class Date {
         checkArgument(isValidYear(getYear(date)), MESSAGE_YEAR_CONSTRAINTS);
         checkArgument(isValidDaysInMonth(date), MESSAGE_DAYINMONTH_CONSTRAINTS);
         this.date = date;
+        this.epochDay = toEpochDay(date);
+    }
+
+    /**
+     * Returns the number of days between 1970-01-01 and the given valid date.
+     */
+    private static int toEpochDay(String date) {
+        String[] parts = date.split(DATE_SEPARATOR);
+        return (int) LocalDate.of(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]),
+                Integer.parseInt(parts[2])).toEpochDay();
+    }
+
+    /**
+     * Returns the number of days between 1970-01-01 and this date.
+     */
+    public int getEpochDay() {
+        return epochDay;
     }
 
     /**
@@ -163,12 +183,6 @@ public class Date {
      * Postiive if argument is larger
      */
     public int compareToDate(Date other) {
-        if (this.date.equals(other.date)) {
-            return 0;
-        } else if (this.date.compareTo(other.date) < 0) {
-            return -1;
-        } else {
-            return 1;
-        }
+        return Integer.compare(this.epochDay, other.epochDay);
     }
 }
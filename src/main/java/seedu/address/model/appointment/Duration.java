@@ -23,6 +23,7 @@ public class Duration {
     public static final String DURATION_VALIDATION_REGEX = "(1[5-9]|[2-9][0-9]|1[01][0-9]|120)";
 
     public final String duration;
+    private final int minutes;
 
     /**
      * Constructs a {@code Duration}.
@@ -33,6 +34,7 @@ public class Duration {
         requireNonNull(duration);
         checkArgument(isValidDuration(duration), MESSAGE_DURATION_CONSTRAINTS);
         this.duration = duration;
+        this.minutes = Integer.parseInt(duration);
     }
 
     public Duration(int duration) throws AppointmentCloseToNextException {
@@ -41,13 +43,14 @@ public class Duration {
             throw new AppointmentCloseToNextException("Appointment cannot be scheduled at this duration");
         }
         this.duration = durationString;
+        this.minutes = duration;
     }
 
     /**
      * Returns the integer value of duration
      */
     public int getDurationValue() {
-        return Integer.parseInt(this.duration);
+        return minutes;
     }
 
     /**
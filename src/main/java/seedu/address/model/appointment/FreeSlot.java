@@ -0,0 +1,61 @@
+package seedu.address.model.appointment;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+
+/**
+ * Represents a period of time in which no appointment is scheduled.
+ * The start and end are in minutes since 1970-01-01 00:00, with the end exclusive.
+ * Guarantees: immutable; the end is after the start.
+ */
+public class FreeSlot {
+
+    private static final String TIME_FORMAT = "%02d:%02d";
+
+    private final long start;
+    private final long end;
+
+    public FreeSlot(long start, long end) {
+        checkArgument(start < end);
+        this.start = start;
+        this.end = end;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the length of this slot in minutes.
+     */
+    public int getLength() {
+        return (int) (end - start);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FreeSlot // instanceof handles nulls
+                && this.start == ((FreeSlot) other).start
+                && this.end == ((FreeSlot) other).end); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(start) * 31 + Long.hashCode(end);
+    }
+
+    @Override
+    public String toString() {
+        int startMinuteOfDay = (int) (start % Time.MINUTES_PER_DAY);
+        return LocalDate.ofEpochDay(start / Time.MINUTES_PER_DAY) + " "
+                + String.format(TIME_FORMAT, startMinuteOfDay / Time.MINUTES_PER_HOUR,
+                        startMinuteOfDay % Time.MINUTES_PER_HOUR)
+                + " (" + getLength() + " minutes free)";
+    }
+}
@@ -0,0 +1,203 @@
+package seedu.address.model.appointment;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents an appointment that repeats every fixed number of days for a fixed number of occurrences.
+ * Only the rule is stored; the occurrences are created on demand for the period that is asked for.
+ * Guarantees: details are present and not null, field values are validated, immutable.
+ */
+public class RecurringAppointment {
+
+    public static final int MAX_INTERVAL = 365;
+    public static final int MIN_OCCURRENCES = 2;
+    public static final int MAX_OCCURRENCES = 520;
+    public static final String MESSAGE_INTERVAL_CONSTRAINTS =
+            "Repeat interval should be a number of days from 1 to " + MAX_INTERVAL;
+    public static final String MESSAGE_OCCURRENCES_CONSTRAINTS =
+            "Number of occurrences should be from " + MIN_OCCURRENCES + " to " + MAX_OCCURRENCES;
+    public static final String MESSAGE_SPAN_CONSTRAINTS =
+            "The last occurrence of the appointment falls on a date that cannot be scheduled";
+
+    private final Date date;
+    private final Time time;
+    private final Duration duration;
+    private final Description description;
+    private final int interval;
+    private final int occurrences;
+    private final long firstStart;
+    private final long period;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param date the date of the first occurrence.
+     * @param interval the number of days between the start of two consecutive occurrences.
+     * @param occurrences the total number of occurrences.
+     */
+    public RecurringAppointment(Date date, Time time, Duration duration, Description description,
+                                int interval, int occurrences) {
+        requireAllNonNull(date, time, duration, description);
+        checkArgument(isValidInterval(interval), MESSAGE_INTERVAL_CONSTRAINTS);
+        checkArgument(isValidOccurrences(occurrences), MESSAGE_OCCURRENCES_CONSTRAINTS);
+        checkArgument(isValidSpan(date, interval, occurrences), MESSAGE_SPAN_CONSTRAINTS);
+        this.date = date;
+        this.time = time;
+        this.duration = duration;
+        this.description = description;
+        this.interval = interval;
+        this.occurrences = occurrences;
+        firstStart = (long) date.getEpochDay() * Time.MINUTES_PER_DAY + time.getMinuteOfDay();
+        period = (long) interval * Time.MINUTES_PER_DAY;
+    }
+
+    /**
+     * Returns true if {@code interval} is a valid number of days between occurrences.
+     */
+    public static boolean isValidInterval(int interval) {
+        return interval >= 1 && interval <= MAX_INTERVAL;
+    }
+
+    /**
+     * Returns true if {@code occurrences} is a valid number of occurrences.
+     */
+    public static boolean isValidOccurrences(int occurrences) {
+        return occurrences >= MIN_OCCURRENCES && occurrences <= MAX_OCCURRENCES;
+    }
+
+    /**
+     * Returns true if every occurrence of a series starting on {@code date} falls on a valid {@code Date}.
+     */
+    public static boolean isValidSpan(Date date, int interval, int occurrences) {
+        String lastDate = getDateOfOccurrence(date, interval, occurrences - 1);
+        return Date.isValidDate(lastDate) && Date.isValidYear(Date.getYear(lastDate));
+    }
+
+    private static String getDateOfOccurrence(Date date, int interval, int index) {
+        return LocalDate.ofEpochDay(date.getEpochDay() + (long) interval * index).toString();
+    }
+
+    public Date getDate() {
+        return date;
+    }
+
+    public Time getTime() {
+        return time;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Description getDescription() {
+        return description;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public int getOccurrences() {
+        return occurrences;
+    }
+
+    /**
+     * Returns the occurrence at {@code index}, where the first occurrence has index 0.
+     */
+    public Appointment getOccurrence(int index) {
+        checkArgument(index >= 0 && index < occurrences);
+        return new Appointment(new Date(getDateOfOccurrence(date, interval, index)), time, duration, description);
+    }
+
+    /**
+     * Returns the occurrence that overlaps the period from {@code start} to {@code end}
+     * (in minutes since 1970-01-01 00:00, with the end exclusive), if there is one.
+     */
+    public Optional<Appointment> getOverlappingOccurrence(long start, long end) {
+        // an occurrence is shorter than the interval, so only the last occurrence starting before end can overlap
+        long index = Math.min(Math.floorDiv(end - 1 - firstStart, period), occurrences - 1);
+        if (index < 0 || firstStart + index * period + duration.getDurationValue() <= start) {
+            return Optional.empty();
+        }
+        return Optional.of(getOccurrence((int) index));
+    }
+
+    /**
+     * Returns the occurrences that overlap the period from {@code from} to {@code to}
+     * (in minutes since 1970-01-01 00:00, with the end exclusive), in order.
+     */
+    public List<Appointment> getOccurrencesBetween(long from, long to) {
+        List<Appointment> occurrencesBetween = new ArrayList<>();
+        long first = Math.max(0, Math.floorDiv(from - duration.getDurationValue() - firstStart, period) + 1);
+        for (long index = first; index < occurrences && firstStart + index * period < to; index++) {
+            occurrencesBetween.add(getOccurrence((int) index));
+        }
+        return occurrencesBetween;
+    }
+
+    /**
+     * Returns true if any occurrence of this series overlaps an occurrence of {@code other}.
+     */
+    public boolean overlaps(RecurringAppointment other) {
+        RecurringAppointment shorter = occurrences <= other.occurrences ? this : other;
+        RecurringAppointment longer = shorter == this ? other : this;
+        for (int index = 0; index < shorter.occurrences; index++) {
+            long start = shorter.firstStart + index * shorter.period;
+            if (longer.getOverlappingOccurrence(start, start + shorter.duration.getDurationValue()).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof RecurringAppointment)) {
+            return false;
+        }
+
+        RecurringAppointment otherRecurring = (RecurringAppointment) other;
+        return otherRecurring.getDate().equals(this.getDate())
+                && otherRecurring.getTime().equals(this.getTime())
+                && otherRecurring.getDuration().equals(this.getDuration())
+                && otherRecurring.getDescription().equals(this.getDescription())
+                && otherRecurring.getInterval() == this.getInterval()
+                && otherRecurring.getOccurrences() == this.getOccurrences();
+    }
+
+    @Override
+    public int hashCode() {
+        // use this method for custom fields hashing instead of implementing your own
+        return Objects.hash(date, time, duration, description, interval, occurrences);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(" Date: ")
+                .append(getDate())
+                .append(" Time: ")
+                .append(getTime())
+                .append(" Duration: ")
+                .append(getDuration())
+                .append(" Description: ")
+                .append(getDescription())
+                .append(" Every ")
+                .append(getInterval())
+                .append(" days, ")
+                .append(getOccurrences())
+                .append(" times");
+        return builder.toString();
+    }
+}
@@ -20,11 +20,13 @@ public class Time {
     public static final String TIME_VALIDATION_REGEX = "([01]?[0-9]|2[0-3]):([0-5][0-9])";
 
 
-    private static final int HOUR_START_INDEX = 0;
-    private static final int HOUR_END_INDEX = 2;
-    private static final int MINUTE_START_INDEX = 3;
+    public static final int MINUTES_PER_HOUR = 60;
+    public static final int MINUTES_PER_DAY = 1440;
+
+    private static final String TIME_SEPARATOR = ":";
 
     public final String time;
+    private final int minuteOfDay;
 
     /**
      * Constructs a {@code Time}.
@@ -35,6 +37,8 @@ public class Time {
         requireNonNull(time);
         checkArgument(isValidTime(time), MESSAGE_TIME_CONSTRAINTS);
         this.time = time;
+        String[] parts = time.split(TIME_SEPARATOR);
+        this.minuteOfDay = Integer.parseInt(parts[0]) * MINUTES_PER_HOUR + Integer.parseInt(parts[1]);
     }
 
     /**
@@ -48,21 +52,21 @@ public class Time {
      *  Returns the integer value of the Minute in time
      */
     public int getMinute() {
-
-        String minute = this.toString().substring(MINUTE_START_INDEX);
-
-        return Integer.parseInt(minute);
+        return minuteOfDay % MINUTES_PER_HOUR;
     }
 
     /**
      *  Returns the integer value of Hour in time
      */
     public int getHour() {
+        return minuteOfDay / MINUTES_PER_HOUR;
+    }
 
-        String hour = this.toString().substring(HOUR_START_INDEX, HOUR_END_INDEX);
-
-        return Integer.parseInt(hour);
-
+    /**
+     *  Returns the number of minutes between midnight and this time
+     */
+    public int getMinuteOfDay() {
+        return minuteOfDay;
     }
 
     @Override
@@ -88,12 +92,6 @@ public class Time {
      * Postiive if argument is larger
      */
     public int compareToTime(Time other) {
-        if (this.time.equals(other.time)) {
-            return 0;
-        } else if (this.time.compareTo(other.time) < 0) {
-            return -1;
-        } else {
-            return 1;
-        }
+        return Integer.compare(this.minuteOfDay, other.minuteOfDay);
     }
 }
@@ -3,24 +3,39 @@ package seedu.address.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.PersistentObservableList;
+import seedu.address.commons.util.PositionIndex;
 import seedu.address.model.appointment.exceptions.AppointmentCloseToNextException;
 import seedu.address.model.appointment.exceptions.AppointmentCloseToPreviousException;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.association.ClientOwnPet;
+import seedu.address.model.client.Client;
+import seedu.address.model.pet.Pet;
+import seedu.address.model.vettechnician.VetTechnician;
 
 //@@author Godxin-functional
 /**
  * A list of appointments that enforces uniqueness between its elements and does not allow nulls.
  *
  * Supports a minimal set of list operations.
+ * Appointments are also indexed in an {@link AppointmentTimeline} so that the neighbours of a new appointment
+ * can be found without scanning the whole list, and in a separate timeline for each vet technician, pet and client
+ * so that the appointments of any of them can be found without scanning the whole list.
  *
  * @see Appointment#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
@@ -29,16 +44,21 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
     public static final String MESSAGE_DURATION_PREVIOUS = " Appointment is too close to previous one.";
     public static final String MESSAGE_DURATION_NEXT = " Appointment is too close to next one.";
     private static final int MINIMUM_INTERVAL = 1440;
-    private final ObservableList<Appointment> internalList = FXCollections.observableArrayList();
+    private final PersistentObservableList<Appointment> internalList = new PersistentObservableList<>();
+    private final PositionIndex<Appointment> positions = new PositionIndex<>();
+    private final AppointmentTimeline timeline = new AppointmentTimeline();
+    private final Map<VetTechnician, AppointmentTimeline> vetTechTimelines = new HashMap<>();
+    private final Map<Pet, AppointmentTimeline> petTimelines = new HashMap<>();
+    private final Map<Client, AppointmentTimeline> clientTimelines = new HashMap<>();
     private Appointment previous;
-    private Appointment next;
+    private boolean isSorted = true;
 
     /**
      * Returns true if the list contains an appointment with the same date and time as the given argument.
      */
     public boolean contains(Appointment toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return positions.contains(toCheck);
     }
 
     /**
@@ -49,17 +69,159 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public void add(Appointment toAdd) throws DuplicateAppointmentException,
         AppointmentCloseToPreviousException, AppointmentCloseToNextException {
+        requireNonNull(toAdd);
+        checkCanAdd(toAdd);
+        isSorted = isSorted && (internalList.isEmpty()
+                || internalList.get(internalList.size() - 1).compareTo(toAdd) <= 0);
+        internalList.add(toAdd);
+        positions.inserted(internalList, internalList.size() - 1);
+        index(toAdd);
+    }
+
+    /**
+     * Inserts an appointment at {@code index} in the list, such as to put back an appointment that was removed
+     * from there.
+     *
+     * @throws DuplicateAppointmentException if the appointment to add is a duplicate(same date and time)
+     * of an existing appointment in the list.
+     */
+    public void add(int index, Appointment toAdd) throws DuplicateAppointmentException {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateAppointmentException();
         }
+        internalList.add(index, toAdd);
+        positions.inserted(internalList, index);
+        index(toAdd);
+        isSorted = isSorted && isInOrderAt(index);
+    }
+
+    /**
+     * Returns the position of the appointment with the same date and time in the list, or -1 if there is none.
+     */
+    public int indexOf(Appointment toFind) {
+        requireNonNull(toFind);
+        return positions.indexOf(toFind);
+    }
+
+    /**
+     * Returns the appointment at {@code index} in the list.
+     */
+    public Appointment get(int index) {
+        return internalList.get(index);
+    }
+
+    /**
+     * Adds an appointment to the list at its position in date and time order.
+     * The list is sorted first if it is not already in order, so that the position can be found by binary search.
+     *
+     * @throws DuplicateAppointmentException if the appointment to add is a duplicate(same date and time)
+     * of an existing appointment in the list.
+     */
+    public void addInOrder(Appointment toAdd) throws DuplicateAppointmentException,
+            AppointmentCloseToPreviousException, AppointmentCloseToNextException {
+        requireNonNull(toAdd);
+        checkCanAdd(toAdd);
+        if (!isSorted) {
+            sort();
+        }
+        int insertionIndex = getInsertionIndex(toAdd);
+        internalList.add(insertionIndex, toAdd);
+        positions.inserted(internalList, insertionIndex);
+        index(toAdd);
+    }
+
+    /**
+     * Throws an exception if {@code toAdd} clashes with an appointment in the list.
+     */
+    private void checkCanAdd(Appointment toAdd) throws DuplicateAppointmentException,
+            AppointmentCloseToPreviousException, AppointmentCloseToNextException {
+        if (contains(toAdd)) {
+            throw new DuplicateAppointmentException();
+        }
         if (hasDurationClosePrevious(toAdd)) {
             throw new AppointmentCloseToPreviousException(MESSAGE_DURATION_PREVIOUS);
         }
         if (hasDurationCloseNext(toAdd)) {
             throw new AppointmentCloseToNextException(MESSAGE_DURATION_NEXT);
         }
-        internalList.add(toAdd);
+    }
+
+    /**
+     * Adds {@code appointment} to the timeline, and to the timelines of its vet technician, pet and client
+     * if it has them.
+     */
+    private void index(Appointment appointment) {
+        timeline.add(appointment);
+        appointment.getOptionalVetTechnician().ifPresent(vetTech -> addTo(vetTechTimelines, vetTech, appointment));
+        indexOwner(appointment);
+    }
+
+    /**
+     * Removes {@code appointment} from the timeline, and from the timelines of its vet technician, pet and client
+     * if it has them.
+     */
+    private void unindex(Appointment appointment) {
+        timeline.remove(appointment);
+        appointment.getOptionalVetTechnician().ifPresent(vetTech ->
+                removeFrom(vetTechTimelines, vetTech, appointment));
+        unindexOwner(appointment);
+    }
+
+    /**
+     * Adds {@code appointment} to the timelines of its pet and client if it has them.
+     */
+    private void indexOwner(Appointment appointment) {
+        ClientOwnPet clientOwnPet = appointment.getClientOwnPet();
+        if (clientOwnPet != null) {
+            addTo(petTimelines, clientOwnPet.getPet(), appointment);
+            addTo(clientTimelines, clientOwnPet.getClient(), appointment);
+        }
+    }
+
+    /**
+     * Removes {@code appointment} from the timelines of its pet and client if it has them.
+     */
+    private void unindexOwner(Appointment appointment) {
+        ClientOwnPet clientOwnPet = appointment.getClientOwnPet();
+        if (clientOwnPet != null) {
+            removeFrom(petTimelines, clientOwnPet.getPet(), appointment);
+            removeFrom(clientTimelines, clientOwnPet.getClient(), appointment);
+        }
+    }
+
+    /**
+     * Adds {@code appointment} to the timeline of {@code key} in {@code timelines}.
+     */
+    private static <K> void addTo(Map<K, AppointmentTimeline> timelines, K key, Appointment appointment) {
+        timelines.computeIfAbsent(key, unused -> new AppointmentTimeline()).add(appointment);
+    }
+
+    /**
+     * Removes {@code appointment} from the timeline of {@code key} in {@code timelines},
+     * and drops the timeline once it is empty.
+     */
+    private static <K> void removeFrom(Map<K, AppointmentTimeline> timelines, K key, Appointment appointment) {
+        AppointmentTimeline keyTimeline = timelines.get(key);
+        if (keyTimeline != null && keyTimeline.remove(appointment) && keyTimeline.isEmpty()) {
+            timelines.remove(key);
+        }
+    }
+
+    /**
+     * Returns the index after every appointment in the sorted list that does not start later than {@code toAdd}.
+     */
+    private int getInsertionIndex(Appointment toAdd) {
+        return CollectionUtil.insertionIndexOf(internalList, toAdd, Appointment::compareTo);
+    }
+
+    /**
+     * Returns true if the appointment at {@code index} is not out of order with its neighbours.
+     */
+    private boolean isInOrderAt(int index) {
+        return (index == 0 || internalList.get(index - 1).compareTo(internalList.get(index)) <= 0)
+                && (index == internalList.size() - 1
+                || internalList.get(index).compareTo(internalList.get(index + 1)) <= 0);
     }
 
     /**
@@ -72,14 +234,18 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
             throws DuplicateAppointmentException, AppointmentNotFoundException {
         requireNonNull(editedAppointment);
 
-        int index = internalList.indexOf(target);
+        int index = positions.indexOf(target);
         if (index == -1) {
             throw new AppointmentNotFoundException();
         }
-        if (!target.equals(editedAppointment) && internalList.contains(editedAppointment)) {
+        if (!target.equals(editedAppointment) && positions.contains(editedAppointment)) {
             throw new DuplicateAppointmentException();
         }
-        internalList.set(index, editedAppointment);
+        Appointment replaced = internalList.set(index, editedAppointment);
+        positions.replaced(internalList, replaced, index);
+        unindex(replaced);
+        index(editedAppointment);
+        isSorted = isSorted && isInOrderAt(index);
     }
 
     /**
@@ -89,25 +255,76 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public boolean remove(Appointment toRemove) throws AppointmentNotFoundException {
         requireNonNull(toRemove);
-        final boolean appointmentFoundAndDeleted = internalList.remove(toRemove);
-        if (!appointmentFoundAndDeleted) {
+        int index = positions.indexOf(toRemove);
+        if (index == -1) {
             throw new AppointmentNotFoundException();
         }
-        return appointmentFoundAndDeleted;
+        Appointment removed = internalList.remove(index);
+        positions.removed(internalList, removed, index);
+        unindex(removed);
+        return true;
+    }
+
+    /**
+     * Rebuilds the position index and the timelines from the internal list.
+     */
+    private void reindex() {
+        positions.rebuild(internalList);
+        timeline.clear();
+        vetTechTimelines.clear();
+        petTimelines.clear();
+        clientTimelines.clear();
+        internalList.forEach(this::index);
     }
 
     public void setAppointments(UniqueAppointmentList replacement) {
         this.internalList.setAll(replacement.internalList);
+        reindex();
+        isSorted = replacement.isSorted;
     }
 
+    /**
+     * Replaces the contents of this list with {@code appointments}, which are checked in a single pass in order of
+     * their start, and put in the list in one step.
+     */
     public void setAppointments(List<Appointment> appointments) throws DuplicateAppointmentException,
             AppointmentCloseToPreviousException, AppointmentCloseToNextException {
         requireAllNonNull(appointments);
-        final UniqueAppointmentList replacement = new UniqueAppointmentList();
-        for (final Appointment appointment : appointments) {
-            replacement.add(appointment);
+        checkCanSetAll(appointments);
+        internalList.setAll(appointments);
+        reindex();
+        isSorted = true;
+        for (int i = 1; i < internalList.size() && isSorted; i++) {
+            isSorted = isInOrderAt(i);
+        }
+    }
+
+    /**
+     * Checks that {@code appointments} could all be added to an empty list.
+     * As in the timeline, each appointment is only checked against the first appointment at the closest earlier
+     * start on the same date, so appointments that start at the same time are checked no further than for duplicates.
+     */
+    private static void checkCanSetAll(List<Appointment> appointments) throws DuplicateAppointmentException,
+            AppointmentCloseToPreviousException {
+        if (!CollectionUtil.elementsAreUnique(appointments)) {
+            throw new DuplicateAppointmentException();
+        }
+        List<Appointment> byStart = new ArrayList<>(appointments);
+        byStart.sort(Appointment::compareTo);
+        Appointment firstInPreviousSlot = null;
+        Appointment firstInSlot = null;
+        for (Appointment appointment : byStart) {
+            if (firstInSlot != null && firstInSlot.getStart() == appointment.getStart()) {
+                continue;
+            }
+            firstInPreviousSlot = firstInSlot;
+            firstInSlot = appointment;
+            if (firstInPreviousSlot != null && firstInPreviousSlot.isOnSameDateAs(appointment)
+                    && appointment.calDurationDifferencePositive(firstInPreviousSlot)
+                    < firstInPreviousSlot.getDuration().getDurationValue()) {
+                throw new AppointmentCloseToPreviousException(MESSAGE_DURATION_PREVIOUS);
+            }
         }
-        setAppointments(replacement);
     }
 
     //@@author md-azsa
@@ -115,8 +332,13 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      * Sorts the internal list
      */
     public void sort() {
+        if (isSorted) {
+            return;
+        }
         SortedList<Appointment> sortedList = new SortedList<>(internalList, Appointment::compareTo);
         internalList.setAll(sortedList);
+        positions.rebuild(internalList);
+        isSorted = true;
     }
     //@@author
 
@@ -127,10 +349,181 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         return FXCollections.unmodifiableObservableList(internalList);
     }
 
+    /**
+     * Returns the appointments currently in the list, which stay the same however the list is changed later.
+     * The copy is taken in constant time.
+     */
+    public List<Appointment> snapshot() {
+        return internalList.snapshot();
+    }
+
     public boolean isEmpty() {
         return internalList.isEmpty();
     }
 
+    /**
+     * Returns the first {@code count} free slots of at least {@code minLength} minutes, starting from {@code from}.
+     *
+     * @see AppointmentTimeline#findFreeSlots(long, int, int)
+     */
+    public List<FreeSlot> findFreeSlots(long from, int minLength, int count) {
+        return timeline.findFreeSlots(from, minLength, count);
+    }
+
+    /**
+     * Returns the first {@code count} free slots of at least {@code minLength} minutes in the schedule of
+     * {@code vetTech}, starting from {@code from}.
+     *
+     * @see AppointmentTimeline#findFreeSlots(long, int, int)
+     */
+    public List<FreeSlot> findFreeSlots(long from, int minLength, int count, VetTechnician vetTech) {
+        requireNonNull(vetTech);
+        return vetTechTimelines.getOrDefault(vetTech, new AppointmentTimeline()).findFreeSlots(from, minLength, count);
+    }
+
+    /**
+     * Returns a view of the appointments that start from {@code from} up to {@code to}, in order of their start.
+     *
+     * @see AppointmentTimeline#getAppointmentsBetween(long, long)
+     */
+    public Collection<Appointment> getAppointmentsBetween(long from, long to) {
+        return timeline.getAppointmentsBetween(from, to);
+    }
+
+    /**
+     * Returns the appointments of {@code vetTech} in order of their date and time.
+     */
+    public List<Appointment> getAppointmentsOf(VetTechnician vetTech) {
+        requireNonNull(vetTech);
+        AppointmentTimeline vetTechTimeline = vetTechTimelines.get(vetTech);
+        return vetTechTimeline == null ? new ArrayList<>() : vetTechTimeline.getAppointments();
+    }
+
+    /**
+     * Returns the appointments of {@code pet} in order of their date and time.
+     */
+    public List<Appointment> getAppointmentsOf(Pet pet) {
+        requireNonNull(pet);
+        AppointmentTimeline petTimeline = petTimelines.get(pet);
+        return petTimeline == null ? new ArrayList<>() : petTimeline.getAppointments();
+    }
+
+    /**
+     * Returns true if {@code vetTech} has at least one appointment.
+     */
+    public boolean hasAppointmentsOf(VetTechnician vetTech) {
+        requireNonNull(vetTech);
+        return vetTechTimelines.containsKey(vetTech);
+    }
+
+    /**
+     * Returns true if {@code client} has at least one appointment for any of its pets.
+     */
+    public boolean hasAppointmentsOf(Client client) {
+        requireNonNull(client);
+        return clientTimelines.containsKey(client);
+    }
+
+    /**
+     * Returns true if {@code vetTech} already has an appointment that overlaps {@code appointment}.
+     */
+    public boolean isVetTechnicianBooked(VetTechnician vetTech, Appointment appointment) {
+        requireAllNonNull(vetTech, appointment);
+        AppointmentTimeline vetTechTimeline = vetTechTimelines.get(vetTech);
+        return vetTechTimeline != null && vetTechTimeline.hasOverlap(appointment.getStart(), appointment.getEnd());
+    }
+
+    /**
+     * Replaces the vet technician {@code target} with {@code editedVetTech} in every appointment of {@code target}.
+     */
+    public void replaceVetTechnician(VetTechnician target, VetTechnician editedVetTech) {
+        requireAllNonNull(target, editedVetTech);
+        detach(vetTechTimelines.get(target), appointment -> appointment.setVetTech(editedVetTech));
+    }
+
+    /**
+     * Removes the pet, and its owner, from every appointment of {@code pet}.
+     *
+     * @return the appointments that were changed, mapped to the copies that replaced them.
+     */
+    public Map<Appointment, Appointment> removePetFromAppointments(Pet pet) {
+        requireNonNull(pet);
+        return detach(petTimelines.get(pet), Appointment::setClientOwnPetToNull);
+    }
+
+    /**
+     * Removes the client, and its pets, from every appointment of {@code client}.
+     *
+     * @return the appointments that were changed, mapped to the copies that replaced them.
+     */
+    public Map<Appointment, Appointment> removeClientFromAppointments(Client client) {
+        requireNonNull(client);
+        return detach(clientTimelines.get(client), Appointment::setClientOwnPetToNull);
+    }
+
+    /**
+     * Removes the vet technician {@code vetTech} from every appointment of {@code vetTech}.
+     *
+     * @return the appointments that were changed, mapped to the copies that replaced them.
+     */
+    public Map<Appointment, Appointment> removeVetTechnicianFromAppointments(VetTechnician vetTech) {
+        requireNonNull(vetTech);
+        return detach(vetTechTimelines.get(vetTech), Appointment::removeVetTech);
+    }
+
+    /**
+     * Replaces every appointment in {@code affected} with a copy that is changed by {@code detachment},
+     * as a single change to the list.
+     * The appointments themselves are left untouched, as copies of the list may still refer to them.
+     *
+     * @return the appointments that were changed, mapped to the copies that replaced them.
+     */
+    private Map<Appointment, Appointment> detach(AppointmentTimeline affected, Consumer<Appointment> detachment) {
+        Map<Appointment, Appointment> replacements = new IdentityHashMap<>();
+        if (affected == null) {
+            return replacements;
+        }
+        for (Appointment appointment : affected.getAppointments()) {
+            Appointment detached = new Appointment(appointment);
+            detachment.accept(detached);
+            replacements.put(appointment, detached);
+        }
+        replaceAppointments(replacements);
+        return replacements;
+    }
+
+    /**
+     * Replaces every appointment in the list that is a key of {@code replacements} with its value,
+     * as a single change to the list.
+     * The keys should be compared by identity, as in an {@code IdentityHashMap},
+     * and each replacement must have the same date and time as its key.
+     * Each appointment is found through the position index, so this takes O(k log n) time for k replacements.
+     */
+    public void replaceAppointments(Map<Appointment, Appointment> replacements) {
+        requireNonNull(replacements);
+        if (replacements.isEmpty()) {
+            return;
+        }
+        internalList.runAsSingleChange(() -> replacements.forEach((appointment, replacement) -> {
+            int index = positions.indexOf(appointment);
+            if (index == -1 || internalList.get(index) != appointment) {
+                return;
+            }
+            positions.replaced(internalList, internalList.set(index, replacement), index);
+            unindex(appointment);
+            index(replacement);
+        }));
+    }
+
+    /**
+     * Replaces the client {@code target} with {@code editedClient} in every appointment of {@code target}.
+     */
+    public void replaceClient(Client target, Client editedClient) {
+        requireAllNonNull(target, editedClient);
+        detach(clientTimelines.get(target), appointment -> appointment.setClientOwnPet(
+                new ClientOwnPet(editedClient, appointment.getClientOwnPet().getPet())));
+    }
+
     /**
      * Check that there is no earlier existing appointment too close
      * too close: the new appointment start time is within the duration
@@ -148,87 +541,25 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
 
     /**
      * Check that there is no later existing appointment too close
-     * too close: Later appointment is within the duration of new appointment
+     * too close: Later appointment on the same date starts within the duration of new appointment
      */
     public boolean hasDurationCloseNext(Appointment toAdd) {
-        int minInterval = MINIMUM_INTERVAL;
-        int interval = MINIMUM_INTERVAL;
-        if (hasNext(toAdd)) {
-            minInterval = toAdd.getDuration().getDurationValue();
-            interval = toAdd.calDurationDifferenceNegative(next);
-        }
-        return interval < minInterval;
+        long endOfDate = (toAdd.getStart() / Time.MINUTES_PER_DAY + 1) * Time.MINUTES_PER_DAY;
+        return !getAppointmentsBetween(toAdd.getStart() + 1, Math.min(toAdd.getEnd(), endOfDate)).isEmpty();
     }
 
     /**
      * Return true if there is a previous appointment
      */
     public boolean hasPrevious(Appointment currentAppointment) {
-        boolean hasPreviousAppointment = false;
-        Date newAppointmentDate = currentAppointment.getDate();
-        Time newAppointmentTime = currentAppointment.getTime();
-        int currentMin = newAppointmentTime.getMinute();
-        int currentHour = newAppointmentTime.getHour();
-
-        int interval;
-        int minInterval = MINIMUM_INTERVAL;
-
-        for (Appointment earlierAppointment : internalList) {
-            Date earlierAppointmentDate = earlierAppointment.getDate();
-            Time earlierAppointmentTime = earlierAppointment.getTime();
-
-            if (newAppointmentDate.equals(earlierAppointmentDate)) {
-                if (earlierAppointmentTime.getHour() < currentHour
-                        || (earlierAppointmentTime.getHour() == currentHour
-                        && earlierAppointmentTime.getMinute() < currentMin)) {
-
-                    interval = currentAppointment.calDurationDifferencePositive(earlierAppointment);
-                    if (interval < minInterval) {
-                        minInterval = interval;
-                        previous = earlierAppointment;
-                        hasPreviousAppointment = true;
-                    }
-                }
-            }
-        }
-        return hasPreviousAppointment;
+        Optional<Appointment> earlierAppointment = timeline.getPrevious(currentAppointment);
+        earlierAppointment.ifPresent(appointment -> previous = appointment);
+        return earlierAppointment.isPresent();
     }
 
-    /**
-     * Returns true if there is next appointment
-     */
-    public boolean hasNext(Appointment currentAppointment) {
-        boolean hasNextAppointment = false;
-        Date newAppointmentDate = currentAppointment.getDate();
-        Time newAppointmentTime = currentAppointment.getTime();
-        int currentMin = newAppointmentTime.getMinute();
-        int currentHour = newAppointmentTime.getHour();
-
-        int interval;
-        int minInterval = currentAppointment.getDuration().getDurationValue();
-
-        for (Appointment laterAppointment : internalList) {
-            Date laterAppointmentDate = laterAppointment.getDate();
-            Time laterAppointmentTime = laterAppointment.getTime();
-
-            if (newAppointmentDate.equals(laterAppointmentDate)) {
-                if (laterAppointmentTime.getHour() > currentHour
-                        || (laterAppointmentTime.getHour() == currentHour
-                        && currentMin < laterAppointmentTime.getMinute())) {
-                    interval = currentAppointment.calDurationDifferenceNegative(laterAppointment);
-                    if (interval < minInterval) {
-                        minInterval = interval;
-                        next = laterAppointment;
-                        hasNextAppointment = true;
-                    }
-                }
-            }
-        }
-        return  hasNextAppointment;
-    }
     @Override
     public Iterator<Appointment> iterator() {
-        return internalList.iterator();
+        return asObservableList().iterator();
     }
 
     @Override
@@ -0,0 +1,191 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentObservableList;
+import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
+import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.appointment.exceptions.RecurringAppointmentClashException;
+
+/**
+ * A list of recurring appointments whose occurrences never overlap each other, and that does not allow nulls.
+ *
+ * Only the recurrence rules are kept; occurrences are created only for the period that is asked for.
+ *
+ * @see RecurringAppointment#equals(Object)
+ */
+public class UniqueRecurringAppointmentList implements Iterable<RecurringAppointment> {
+
+    private final PersistentObservableList<RecurringAppointment> internalList = new PersistentObservableList<>();
+
+    /**
+     * Returns true if the list contains an equivalent recurring appointment as the given argument.
+     */
+    public boolean contains(RecurringAppointment toCheck) {
+        requireNonNull(toCheck);
+        return internalList.contains(toCheck);
+    }
+
+    /**
+     * Adds a recurring appointment to the list.
+     *
+     * @throws DuplicateAppointmentException if the recurring appointment to add is already in the list.
+     * @throws RecurringAppointmentClashException if an occurrence of the recurring appointment to add overlaps
+     *      an occurrence of a recurring appointment in the list.
+     */
+    public void add(RecurringAppointment toAdd) throws DuplicateAppointmentException,
+            RecurringAppointmentClashException {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Inserts a recurring appointment at {@code index} in the list, such as to put back a recurring appointment
+     * that was removed from there.
+     *
+     * @throws DuplicateAppointmentException if the recurring appointment to add is already in the list.
+     * @throws RecurringAppointmentClashException if an occurrence of the recurring appointment to add overlaps
+     *      an occurrence of a recurring appointment in the list.
+     */
+    public void add(int index, RecurringAppointment toAdd) throws DuplicateAppointmentException,
+            RecurringAppointmentClashException {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateAppointmentException();
+        }
+        for (RecurringAppointment recurringAppointment : internalList) {
+            if (recurringAppointment.overlaps(toAdd)) {
+                throw new RecurringAppointmentClashException();
+            }
+        }
+        internalList.add(index, toAdd);
+    }
+
+    /**
+     * Returns the position of the equivalent recurring appointment in the list, or -1 if there is none.
+     */
+    public int indexOf(RecurringAppointment toFind) {
+        requireNonNull(toFind);
+        return internalList.indexOf(toFind);
+    }
+
+    /**
+     * Returns the recurring appointment at {@code index} in the list.
+     */
+    public RecurringAppointment get(int index) {
+        return internalList.get(index);
+    }
+
+    /**
+     * Removes the equivalent recurring appointment from the list.
+     *
+     * @throws AppointmentNotFoundException if no such recurring appointment could be found in the list.
+     */
+    public boolean remove(RecurringAppointment toRemove) throws AppointmentNotFoundException {
+        requireNonNull(toRemove);
+        if (!internalList.remove(toRemove)) {
+            throw new AppointmentNotFoundException();
+        }
+        return true;
+    }
+
+    public void setRecurringAppointments(UniqueRecurringAppointmentList replacement) {
+        this.internalList.setAll(replacement.internalList);
+    }
+
+    public void setRecurringAppointments(List<RecurringAppointment> recurringAppointments)
+            throws DuplicateAppointmentException, RecurringAppointmentClashException {
+        requireAllNonNull(recurringAppointments);
+        final UniqueRecurringAppointmentList replacement = new UniqueRecurringAppointmentList();
+        for (final RecurringAppointment recurringAppointment : recurringAppointments) {
+            replacement.add(recurringAppointment);
+        }
+        setRecurringAppointments(replacement);
+    }
+
+    /**
+     * Returns an occurrence that overlaps the period from {@code start} to {@code end}
+     * (in minutes since 1970-01-01 00:00, with the end exclusive), if there is one.
+     */
+    public Optional<Appointment> getOverlappingOccurrence(long start, long end) {
+        for (RecurringAppointment recurringAppointment : internalList) {
+            Optional<Appointment> occurrence = recurringAppointment.getOverlappingOccurrence(start, end);
+            if (occurrence.isPresent()) {
+                return occurrence;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the occurrences of every recurring appointment that overlap the period from {@code from} to
+     * {@code to} (in minutes since 1970-01-01 00:00, with the end exclusive), in date and time order.
+     */
+    public List<Appointment> getOccurrencesBetween(long from, long to) {
+        List<Appointment> occurrences = new ArrayList<>();
+        for (RecurringAppointment recurringAppointment : internalList) {
+            occurrences.addAll(recurringAppointment.getOccurrencesBetween(from, to));
+        }
+        occurrences.sort(Appointment::compareTo);
+        return occurrences;
+    }
+
+    /**
+     * Returns the parts of {@code slot} that are not taken by an occurrence and are at least {@code minLength}
+     * minutes long.
+     */
+    public List<FreeSlot> removeOccurrences(FreeSlot slot, int minLength) {
+        requireNonNull(slot);
+        List<FreeSlot> freeSlots = new ArrayList<>();
+        long cursor = slot.getStart();
+        for (Appointment occurrence : getOccurrencesBetween(slot.getStart(), slot.getEnd())) {
+            if (occurrence.getStart() - cursor >= minLength) {
+                freeSlots.add(new FreeSlot(cursor, occurrence.getStart()));
+            }
+            cursor = Math.max(cursor, occurrence.getEnd());
+        }
+        if (slot.getEnd() - cursor >= minLength) {
+            freeSlots.add(new FreeSlot(cursor, slot.getEnd()));
+        }
+        return freeSlots;
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<RecurringAppointment> asObservableList() {
+        return FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    /**
+     * Returns the recurring appointments currently in the list, which stay the same however the list is changed later.
+     * The copy is taken in constant time.
+     */
+    public List<RecurringAppointment> snapshot() {
+        return internalList.snapshot();
+    }
+
+    @Override
+    public Iterator<RecurringAppointment> iterator() {
+        return asObservableList().iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof UniqueRecurringAppointmentList // instanceof handles nulls
+                && this.internalList.equals(((UniqueRecurringAppointmentList) other).internalList));
+    }
+
+    @Override
+    public int hashCode() {
+        return internalList.hashCode();
+    }
+}
@@ -0,0 +1,7 @@
+package seedu.address.model.appointment.exceptions;
+
+/**
+ * Signals that an occurrence of a recurring appointment overlaps another appointment.
+ */
+public class RecurringAppointmentClashException extends Exception {
+}
@@ -1,5 +1,7 @@
 package seedu.address.model.association;
 
+import java.util.Objects;
+
 import seedu.address.model.client.Client;
 import seedu.address.model.pet.Pet;
 
@@ -30,6 +32,12 @@ public class ClientOwnPet {
                 && otherClientOwnPet.getPet().equals(this.getPet());
     }
 
+    @Override
+    public int hashCode() {
+        // use this method for custom fields hashing instead of implementing your own
+        return Objects.hash(client, pet);
+    }
+
     public Client getClient() {
         return client;
     }
@@ -0,0 +1,309 @@
+package seedu.address.model.association;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.PersistentObservableList;
+import seedu.address.commons.util.PositionIndex;
+import seedu.address.model.client.Client;
+import seedu.address.model.pet.Pet;
+
+/**
+ * A list of client to pet associations that does not allow nulls.
+ *
+ * The associations are also indexed by position, by client and by pet, so that the position of an association,
+ * the owner of a pet and the pets of a client can be found without scanning the whole list.
+ * The associations of each client are kept in the same relative order as in the list.
+ * Once the list has been sorted by pet name it stays sorted: associations that are added later are inserted
+ * into place by binary search, comparing the cached sort keys of the pet names.
+ * Looking up an association takes constant time, but adding or removing one anywhere but at the end takes linear
+ * time, as the positions of the associations after it are updated.
+ *
+ * @see ClientOwnPet#equals(Object)
+ */
+public class ClientPetAssociationList implements Iterable<ClientOwnPet> {
+
+    private static final Comparator<ClientOwnPet> BY_PET_NAME =
+            Comparator.comparing(association -> association.getPet().getPetName().getSortKey());
+
+    private final PersistentObservableList<ClientOwnPet> internalList = new PersistentObservableList<>();
+    private final PositionIndex<ClientOwnPet> positions = new PositionIndex<>();
+    private final Map<Client, List<ClientOwnPet>> associationsByClient = new HashMap<>();
+    private final Map<Pet, ClientOwnPet> associationByPet = new HashMap<>();
+    private boolean isSortedByPetName = false;
+
+    /**
+     * Returns true if the list contains an equivalent association as the given argument.
+     */
+    public boolean contains(ClientOwnPet toCheck) {
+        requireNonNull(toCheck);
+        return toCheck.equals(associationByPet.get(toCheck.getPet()));
+    }
+
+    /**
+     * Adds an association to the end of the list, or at its place in pet name order if the list is sorted
+     * by pet name.
+     * The pet of {@code toAdd} must not already have an owner.
+     */
+    public void add(ClientOwnPet toAdd) {
+        requireNonNull(toAdd);
+        assert !hasOwner(toAdd.getPet());
+        if (!isSortedByPetName) {
+            internalList.add(toAdd);
+            positions.inserted(internalList, internalList.size() - 1);
+            index(toAdd);
+            return;
+        }
+        int index = CollectionUtil.insertionIndexOf(internalList, toAdd, BY_PET_NAME);
+        internalList.add(index, toAdd);
+        positions.inserted(internalList, index);
+        List<ClientOwnPet> ownedByClient =
+                associationsByClient.computeIfAbsent(toAdd.getClient(), unused -> new ArrayList<>());
+        ownedByClient.add(CollectionUtil.insertionIndexOf(ownedByClient, toAdd, BY_PET_NAME), toAdd);
+        associationByPet.put(toAdd.getPet(), toAdd);
+    }
+
+    /**
+     * Inserts an association at {@code index} in the list, such as to put back an association that was removed
+     * from there.
+     * The pet of {@code toAdd} must not already have an owner.
+     */
+    public void add(int index, ClientOwnPet toAdd) {
+        requireNonNull(toAdd);
+        assert !hasOwner(toAdd.getPet());
+        internalList.add(index, toAdd);
+        positions.inserted(internalList, index);
+        List<ClientOwnPet> ownedByClient =
+                associationsByClient.computeIfAbsent(toAdd.getClient(), unused -> new ArrayList<>());
+        ownedByClient.add(CollectionUtil.insertionIndexOf(ownedByClient, toAdd,
+                Comparator.comparingInt(positions::indexOf)), toAdd);
+        associationByPet.put(toAdd.getPet(), toAdd);
+    }
+
+    /**
+     * Returns the position of the equivalent association in the list, or -1 if there is none.
+     */
+    public int indexOf(ClientOwnPet toFind) {
+        requireNonNull(toFind);
+        return positions.indexOf(toFind);
+    }
+
+    /**
+     * Returns the association at {@code index} in the list.
+     */
+    public ClientOwnPet get(int index) {
+        return internalList.get(index);
+    }
+
+    /**
+     * Removes the equivalent association from the list.
+     *
+     * @return true if the association was found in the list.
+     */
+    public boolean remove(ClientOwnPet toRemove) {
+        requireNonNull(toRemove);
+        if (!contains(toRemove)) {
+            return false;
+        }
+        ClientOwnPet removed = associationByPet.remove(toRemove.getPet());
+        List<ClientOwnPet> ownedByClient = associationsByClient.get(removed.getClient());
+        ownedByClient.remove(removed);
+        if (ownedByClient.isEmpty()) {
+            associationsByClient.remove(removed.getClient());
+        }
+        int index = positions.indexOf(removed);
+        positions.removed(internalList, internalList.remove(index), index);
+        return true;
+    }
+
+    /**
+     * Removes the association of {@code pet} with its owner.
+     *
+     * @return true if {@code pet} had an owner.
+     */
+    public boolean removePet(Pet pet) {
+        requireNonNull(pet);
+        ClientOwnPet association = associationByPet.get(pet);
+        return association != null && remove(association);
+    }
+
+    /**
+     * Removes every association of {@code client}, as a single change to the list.
+     * Only the positions from the first removed association onwards are updated.
+     *
+     * @return the removed associations, in list order.
+     */
+    public List<ClientOwnPet> removeClient(Client client) {
+        requireNonNull(client);
+        List<ClientOwnPet> removed = associationsByClient.remove(client);
+        if (removed == null) {
+            return Collections.emptyList();
+        }
+        removed.forEach(association -> associationByPet.remove(association.getPet()));
+        int firstIndex = positions.indexOf(removed.get(0));
+        internalList.runAsSingleChange(() -> {
+            // removing from the back keeps the positions of the associations still to be removed valid
+            for (int i = removed.size() - 1; i >= 0; i--) {
+                internalList.remove(positions.indexOf(removed.get(i)));
+            }
+        });
+        positions.removedAll(internalList, removed, firstIndex);
+        return removed;
+    }
+
+    /**
+     * Replaces the client {@code target} with {@code editedClient} in every association of {@code target},
+     * keeping each association at its position in the list, as a single change to the list.
+     * If {@code editedClient} already owns pets, the pets of {@code target} are merged into them in list order.
+     */
+    public void replaceClient(Client target, Client editedClient) {
+        requireAllNonNull(target, editedClient);
+        List<ClientOwnPet> ownedByTarget = associationsByClient.remove(target);
+        if (ownedByTarget == null) {
+            return;
+        }
+        List<ClientOwnPet> replacements = new ArrayList<>();
+        internalList.runAsSingleChange(() -> {
+            for (ClientOwnPet association : ownedByTarget) {
+                ClientOwnPet replacement = new ClientOwnPet(editedClient, association.getPet());
+                int index = positions.indexOf(association);
+                positions.replaced(internalList, internalList.set(index, replacement), index);
+                associationByPet.put(replacement.getPet(), replacement);
+                replacements.add(replacement);
+            }
+        });
+        List<ClientOwnPet> ownedByEdited =
+                associationsByClient.computeIfAbsent(editedClient, unused -> new ArrayList<>());
+        ownedByEdited.addAll(replacements);
+        ownedByEdited.sort(Comparator.comparingInt(positions::indexOf));
+    }
+
+    /**
+     * Returns true if {@code pet} has an owner.
+     */
+    public boolean hasOwner(Pet pet) {
+        requireNonNull(pet);
+        return associationByPet.containsKey(pet);
+    }
+
+    /**
+     * Returns the association of {@code pet} with its owner, if it has one.
+     */
+    public Optional<ClientOwnPet> getAssociationOf(Pet pet) {
+        requireNonNull(pet);
+        return Optional.ofNullable(associationByPet.get(pet));
+    }
+
+    /**
+     * Returns true if {@code client} owns at least one pet.
+     */
+    public boolean hasPets(Client client) {
+        requireNonNull(client);
+        return associationsByClient.containsKey(client);
+    }
+
+    /**
+     * Returns the pets of {@code client}, in list order.
+     */
+    public List<Pet> getPetsOf(Client client) {
+        requireNonNull(client);
+        return associationsByClient.getOrDefault(client, Collections.emptyList()).stream()
+                .map(ClientOwnPet::getPet).collect(Collectors.toList());
+    }
+
+    /**
+     * Sorts the list, and the associations of each client, by pet name, and keeps them sorted from then on.
+     */
+    public void sortByPetName() {
+        if (isSortedByPetName) {
+            return;
+        }
+        internalList.sort(BY_PET_NAME);
+        positions.rebuild(internalList);
+        // both sorts are stable, so the associations of each client keep the same relative order as the list
+        associationsByClient.values().forEach(ownedByClient -> ownedByClient.sort(BY_PET_NAME));
+        isSortedByPetName = true;
+    }
+
+    /**
+     * Returns true if the list is kept sorted by pet name.
+     */
+    public boolean isSortedByPetName() {
+        return isSortedByPetName;
+    }
+
+    /**
+     * Replaces the associations with {@code associations}, in the given order.
+     * The list is no longer kept sorted by pet name.
+     */
+    public void setAssociations(List<ClientOwnPet> associations) {
+        requireAllNonNull(associations);
+        internalList.setAll(associations);
+        positions.rebuild(internalList);
+        associationsByClient.clear();
+        associationByPet.clear();
+        internalList.forEach(this::index);
+        isSortedByPetName = false;
+    }
+
+    /**
+     * Adds {@code association} to the client and pet indexes.
+     */
+    private void index(ClientOwnPet association) {
+        associationsByClient.computeIfAbsent(association.getClient(), unused -> new ArrayList<>()).add(association);
+        associationByPet.put(association.getPet(), association);
+    }
+
+    public boolean isEmpty() {
+        return internalList.isEmpty();
+    }
+
+    public int size() {
+        return internalList.size();
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<ClientOwnPet> asObservableList() {
+        return FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    /**
+     * Returns the associations currently in the list, which stay the same however the list is changed later.
+     * The copy is taken in constant time.
+     */
+    public List<ClientOwnPet> snapshot() {
+        return internalList.snapshot();
+    }
+
+    @Override
+    public Iterator<ClientOwnPet> iterator() {
+        return asObservableList().iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ClientPetAssociationList // instanceof handles nulls
+                && this.internalList.equals(((ClientPetAssociationList) other).internalList));
+    }
+
+    @Override
+    public int hashCode() {
+        return internalList.hashCode();
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.client;
 
+import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.person.Address;
@@ -20,6 +21,10 @@ public class Client extends Person {
         super(name, phone, email, address, tags);
     }
 
+    public Client(int id, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
+        super(id, name, phone, email, address, tags);
+    }
+
     @Override
     public PersonRole getRole() {
         return PersonRole.CLIENT_ROLE;
@@ -43,4 +48,10 @@ public class Client extends Person {
 
     }
 
+    @Override
+    public int hashCode() {
+        // tags are not part of equality, so they are left out here as well
+        return Objects.hash(getName(), getPhone(), getEmail(), getAddress());
+    }
+
 }
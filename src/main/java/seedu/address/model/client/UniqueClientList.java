@@ -9,6 +9,7 @@ import java.util.List;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.PositionIndex;
 import seedu.address.model.client.exceptions.ClientNotFoundException;
 import seedu.address.model.client.exceptions.DuplicateClientException;
 
@@ -22,13 +23,14 @@ import seedu.address.model.client.exceptions.DuplicateClientException;
 public class UniqueClientList implements Iterable<Client> {
 
     private final ObservableList<Client> internalList = FXCollections.observableArrayList();
+    private final PositionIndex<Client> positions = new PositionIndex<>();
 
     /**
      * Returns true if the list contains an equivalent client as the given argument.
      */
     public boolean contains(Client toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return positions.contains(toCheck);
     }
 
     /**
@@ -42,6 +44,7 @@ public class UniqueClientList implements Iterable<Client> {
             throw new DuplicateClientException();
         }
         internalList.add(toAdd);
+        positions.inserted(internalList, internalList.size() - 1);
     }
 
     /**
@@ -54,16 +57,16 @@ public class UniqueClientList implements Iterable<Client> {
             throws DuplicateClientException, ClientNotFoundException {
         requireNonNull(editedClient);
 
-        int index = internalList.indexOf(target);
+        int index = positions.indexOf(target);
         if (index == -1) {
             throw new ClientNotFoundException();
         }
 
-        if (!target.equals(editedClient) && internalList.contains(editedClient)) {
+        if (!target.equals(editedClient) && positions.contains(editedClient)) {
             throw new DuplicateClientException();
         }
 
-        internalList.set(index, editedClient);
+        positions.replaced(internalList, internalList.set(index, editedClient), index);
     }
 
     /**
@@ -73,15 +76,17 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public boolean remove(Client toRemove) throws ClientNotFoundException {
         requireNonNull(toRemove);
-        final boolean clientFoundAndDeleted = internalList.remove(toRemove);
-        if (!clientFoundAndDeleted) {
+        int index = positions.indexOf(toRemove);
+        if (index == -1) {
             throw new ClientNotFoundException();
         }
-        return clientFoundAndDeleted;
+        positions.removed(internalList, internalList.remove(index), index);
+        return true;
     }
 
     public void setClients(UniqueClientList replacement) {
         this.internalList.setAll(replacement.internalList);
+        positions.rebuild(internalList);
     }
 
     public void setClients(List<Client> clients) throws DuplicateClientException {
@@ -102,7 +107,7 @@ public class UniqueClientList implements Iterable<Client> {
 
     @Override
     public Iterator<Client> iterator() {
-        return internalList.iterator();
+        return asObservableList().iterator();
     }
 
     @Override
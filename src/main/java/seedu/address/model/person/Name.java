@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +24,8 @@ public class Name {
 
     public final String fullName;
 
+    private final CollationKey sortKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +35,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_NAME_CONSTRAINTS);
         this.fullName = name;
+        this.sortKey = StringUtil.getCollationKey(name);
     }
 
     /**
@@ -39,6 +46,13 @@ public class Name {
     }
 
 
+    /**
+     * Returns the key by which names are sorted alphabetically, ignoring case.
+     */
+    public CollationKey getSortKey() {
+        return sortKey;
+    }
+
     @Override
     public String toString() {
         return fullName;
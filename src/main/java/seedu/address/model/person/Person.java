@@ -2,38 +2,59 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.client.Client;
 import seedu.address.model.tag.Tag;
-import seedu.address.model.tag.UniqueTagList;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * A person in an address book has an id, which it keeps when it is edited and when the address book is saved and
+ * read back, and by which records in a file refer to it. The id is not part of equality.
  */
 public abstract class Person {
 
+    /** The id of a person that has not been put in an address book yet. */
+    public static final int NO_ID = 0;
+
+    private final int id;
     private final Name name;
     private final Phone phone;
     private final Email email;
     private final Address address;
 
-    private final UniqueTagList tags;
+    private final TagSet tags;
 
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
+        this(NO_ID, name, phone, email, address, tags);
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Person(int id, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
         requireAllNonNull(name, phone, email, address, tags);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
         // protect internal tags from changes in the arg list
-        this.tags = new UniqueTagList(tags);
+        this.tags = TagSet.of(tags);
+    }
+
+    /**
+     * Returns the id of this person, or {@link #NO_ID} if it has not been put in an address book.
+     */
+    public int getId() {
+        return id;
     }
 
     public Name getName() {
@@ -59,7 +80,7 @@ public abstract class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags.toSet());
+        return tags;
     }
 
     @Override
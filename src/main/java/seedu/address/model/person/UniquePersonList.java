@@ -3,33 +3,52 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.PersistentObservableList;
+import seedu.address.commons.util.PositionIndex;
+import seedu.address.model.client.Client;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.vettechnician.VetTechnician;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
  *
  * Supports a minimal set of list operations.
+ * The clients and the vet technicians are also kept in a list of their own, in the same relative order,
+ * so that either role can be shown without filtering all the persons.
+ * Once the list has been sorted by name it stays sorted: persons that are added or edited later are moved
+ * into place by binary search, comparing the cached sort keys of their names.
+ * Finding a person, and the place for a new one, takes constant or logarithmic time, but adding or removing a person
+ * anywhere but at the end takes linear time, as the positions of the persons after it are updated in this list
+ * and in the list of its role.
  *
  * @see Person#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private static final Comparator<Person> BY_NAME = Comparator.comparing(person -> person.getName().getSortKey());
+
+    private final PersistentObservableList<Person> internalList = new PersistentObservableList<>();
+    private final PositionIndex<Person> positions = new PositionIndex<>();
+    private final RoleList<Client> clients = new RoleList<>(Client.class);
+    private final RoleList<VetTechnician> vetTechnicians = new RoleList<>(VetTechnician.class);
+    private boolean isSortedByName = false;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return positions.contains(toCheck);
     }
 
     /**
@@ -42,7 +61,50 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        insert(toAdd);
+    }
+
+    /**
+     * Inserts a person at {@code index} in the list, such as to put back a person that was removed from there.
+     *
+     * @throws DuplicatePersonException if the person to add is a duplicate of an existing person in the list.
+     */
+    public void add(int index, Person toAdd) throws DuplicatePersonException {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        insertAt(index, toAdd);
+    }
+
+    /**
+     * Inserts {@code toAdd} at the end of the list, or at its place in name order if the list is sorted by name.
+     */
+    private void insert(Person toAdd) {
+        insertAt(isSortedByName
+                ? CollectionUtil.insertionIndexOf(internalList, toAdd, BY_NAME)
+                : internalList.size(), toAdd);
+    }
+
+    private void insertAt(int index, Person toAdd) {
+        internalList.add(index, toAdd);
+        positions.inserted(internalList, index);
+        roleListOf(toAdd).insert(toAdd, positions);
+    }
+
+    /**
+     * Returns the position of the equivalent person in the list, or -1 if there is none.
+     */
+    public int indexOf(Person toFind) {
+        requireNonNull(toFind);
+        return positions.indexOf(toFind);
+    }
+
+    /**
+     * Returns the person at {@code index} in the list.
+     */
+    public Person get(int index) {
+        return internalList.get(index);
     }
 
     /**
@@ -55,16 +117,29 @@ public class UniquePersonList implements Iterable<Person> {
             throws DuplicatePersonException, PersonNotFoundException {
         requireNonNull(editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = positions.indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.equals(editedPerson) && internalList.contains(editedPerson)) {
+        if (!target.equals(editedPerson) && positions.contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        if (isSortedByName && !isInOrderAt(index, editedPerson)) {
+            removeAt(index);
+            insert(editedPerson);
+            return;
+        }
+
+        Person replaced = internalList.set(index, editedPerson);
+        positions.replaced(internalList, replaced, index);
+        if (roleListOf(replaced) == roleListOf(editedPerson)) {
+            roleListOf(replaced).set(replaced, editedPerson);
+        } else {
+            roleListOf(replaced).remove(replaced);
+            roleListOf(editedPerson).insert(editedPerson, positions);
+        }
     }
 
     /**
@@ -74,36 +149,72 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean remove(Person toRemove) throws PersonNotFoundException {
         requireNonNull(toRemove);
-        final boolean personFoundAndDeleted = internalList.remove(toRemove);
-        if (!personFoundAndDeleted) {
+        int index = positions.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
-        return personFoundAndDeleted;
+        removeAt(index);
+        return true;
+    }
+
+    private void removeAt(int index) {
+        Person removed = internalList.remove(index);
+        positions.removed(internalList, removed, index);
+        roleListOf(removed).remove(removed);
+    }
+
+    /**
+     * Returns true if {@code person} would be in name order at {@code index}, in place of the person there.
+     */
+    private boolean isInOrderAt(int index, Person person) {
+        return (index == 0 || BY_NAME.compare(internalList.get(index - 1), person) <= 0)
+                && (index == internalList.size() - 1 || BY_NAME.compare(person, internalList.get(index + 1)) <= 0);
     }
 
     public void setPersons(UniquePersonList replacement) {
         this.internalList.setAll(replacement.internalList);
+        positions.rebuild(internalList);
+        rebuildRoleLists();
+        isSortedByName = replacement.isSortedByName;
     }
 
+    /**
+     * Replaces the contents of this list with {@code persons}, which are checked for duplicates in a single pass
+     * and put in the list in one step.
+     */
     public void setPersons(List<Person> persons) throws DuplicatePersonException {
         requireAllNonNull(persons);
-        final UniquePersonList replacement = new UniquePersonList();
-        for (final Person person : persons) {
-            replacement.add(person);
+        if (!CollectionUtil.elementsAreUnique(persons)) {
+            throw new DuplicatePersonException();
         }
-        setPersons(replacement);
+        internalList.setAll(persons);
+        positions.rebuild(internalList);
+        rebuildRoleLists();
+        isSortedByName = false;
     }
 
     //@@author md-azsa
     /**
-     * Sorts the internal list
+     * Sorts the internal list by name, and keeps it sorted from then on.
      */
     public void sort() {
-        internalList.sort((Person one, Person two) -> one.getName().toString().toLowerCase()
-                .compareTo(two.getName().toString().toLowerCase()));
+        if (isSortedByName) {
+            return;
+        }
+        internalList.sort(BY_NAME);
+        positions.rebuild(internalList);
+        rebuildRoleLists();
+        isSortedByName = true;
     }
     //@@author
 
+    /**
+     * Returns true if the list is kept sorted by name.
+     */
+    public boolean isSortedByName() {
+        return isSortedByName;
+    }
+
     public boolean isEmpty() {
         return internalList.isEmpty();
     }
@@ -115,9 +226,56 @@ public class UniquePersonList implements Iterable<Person> {
         return FXCollections.unmodifiableObservableList(internalList);
     }
 
+    /**
+     * Returns the persons currently in the list, which stay the same however the list is changed later.
+     * The copy is taken in constant time.
+     */
+    public List<Person> snapshot() {
+        return internalList.snapshot();
+    }
+
+    /**
+     * Returns the clients in the list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Client> asClientList() {
+        return clients.asObservableList();
+    }
+
+    /**
+     * Returns the vet technicians in the list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<VetTechnician> asVetTechnicianList() {
+        return vetTechnicians.asObservableList();
+    }
+
+    /**
+     * Returns the clients currently in the list, which stay the same however the list is changed later.
+     * The copy is taken in constant time.
+     */
+    public List<Client> clientSnapshot() {
+        return clients.internalList.snapshot();
+    }
+
+    /**
+     * Returns the vet technicians currently in the list, which stay the same however the list is changed later.
+     * The copy is taken in constant time.
+     */
+    public List<VetTechnician> vetTechnicianSnapshot() {
+        return vetTechnicians.internalList.snapshot();
+    }
+
+    private RoleList<? extends Person> roleListOf(Person person) {
+        return person instanceof Client ? clients : vetTechnicians;
+    }
+
+    private void rebuildRoleLists() {
+        clients.rebuild(internalList);
+        vetTechnicians.rebuild(internalList);
+    }
+
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return asObservableList().iterator();
     }
 
     @Override
@@ -131,4 +289,52 @@ public class UniquePersonList implements Iterable<Person> {
     public int hashCode() {
         return internalList.hashCode();
     }
+
+    /**
+     * The persons of a single role, in the same relative order as in the list of all persons.
+     */
+    private static class RoleList<T extends Person> {
+        private final Class<T> role;
+        private final PersistentObservableList<T> internalList = new PersistentObservableList<>();
+        private final PositionIndex<T> positions = new PositionIndex<>();
+
+        RoleList(Class<T> role) {
+            this.role = role;
+        }
+
+        /**
+         * Inserts {@code person}, which has just been put in the list of all persons, after the persons of this role
+         * before it.
+         * The persons of this role are in the order of their positions in {@code allPositions}, so the place of
+         * {@code person} is found by binary search on those positions. Updating the positions of the persons of
+         * this role after it still takes linear time.
+         */
+        void insert(Person person, PositionIndex<Person> allPositions) {
+            T toInsert = role.cast(person);
+            int position = CollectionUtil.insertionIndexOf(internalList, toInsert,
+                    Comparator.comparingInt(allPositions::indexOf));
+            internalList.add(position, toInsert);
+            positions.inserted(internalList, position);
+        }
+
+        void set(Person target, Person editedPerson) {
+            int index = positions.indexOf(role.cast(target));
+            positions.replaced(internalList, internalList.set(index, role.cast(editedPerson)), index);
+        }
+
+        void remove(Person toRemove) {
+            int index = positions.indexOf(role.cast(toRemove));
+            positions.removed(internalList, internalList.remove(index), index);
+        }
+
+        void rebuild(List<Person> allPersons) {
+            internalList.setAll(allPersons.stream().filter(role::isInstance).map(role::cast)
+                    .collect(Collectors.toList()));
+            positions.rebuild(internalList);
+        }
+
+        ObservableList<T> asObservableList() {
+            return FXCollections.unmodifiableObservableList(internalList);
+        }
+    }
 }
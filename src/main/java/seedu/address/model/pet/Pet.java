@@ -2,37 +2,58 @@ package seedu.address.model.pet;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.tag.Tag;
-import seedu.address.model.tag.UniqueTagList;
+import seedu.address.model.tag.TagSet;
 
 //@@author md-azsa
 /**
  * Represents a Pet in the applications.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * A pet in an address book has an id, which it keeps when the address book is saved and read back, and by which
+ * records in a file refer to it. The id is not part of equality.
  */
 public class Pet {
 
+    /** The id of a pet that has not been put in an address book yet. */
+    public static final int NO_ID = 0;
+
+    private final int id;
     private final PetName petName;
     private final PetAge petAge;
     private final PetGender petGender;
 
-    private final UniqueTagList tags;
+    private final TagSet tags;
 
     /**
      * Every field must be present and not null
      */
     public Pet(PetName petName, PetAge petAge, PetGender petGender, Set<Tag> tags) {
+        this(NO_ID, petName, petAge, petGender, tags);
+    }
+
+    /**
+     * Every field must be present and not null
+     */
+    public Pet(int id, PetName petName, PetAge petAge, PetGender petGender, Set<Tag> tags) {
         requireAllNonNull(petName, petAge, petGender, tags);
+        this.id = id;
         this.petName = petName;
         this.petAge = petAge;
         this.petGender = petGender;
 
         //protect internal tags from changes in the arg lis
-        this.tags = new UniqueTagList(tags);
+        this.tags = TagSet.of(tags);
+    }
+
+    /**
+     * Returns the id of this pet, or {@link #NO_ID} if it has not been put in an address book.
+     */
+    public int getId() {
+        return id;
     }
 
     public PetName getPetName() {
@@ -53,7 +74,7 @@ public class Pet {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags.toSet());
+        return tags;
     }
 
     @Override
@@ -3,6 +3,10 @@ package seedu.address.model.pet;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+
+import seedu.address.commons.util.StringUtil;
+
 //@@author md-azsa
 /**
  * Represents a pet's name in the address book.
@@ -21,6 +25,8 @@ public class PetName {
 
     public final String fullPetName;
 
+    private final CollationKey sortKey;
+
     /**
      * Constructs a {@code Name}
      *
@@ -30,6 +36,7 @@ public class PetName {
         requireNonNull(petName);
         checkArgument(isValidPetName(petName), MESSAGE_PETNAME_CONSTRAINTS);
         this.fullPetName = petName;
+        this.sortKey = StringUtil.getCollationKey(petName);
     }
 
     /**
@@ -39,6 +46,13 @@ public class PetName {
         return test.matches(PETNAME_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the key by which pet names are sorted alphabetically, ignoring case.
+     */
+    public CollationKey getSortKey() {
+        return sortKey;
+    }
+
     @Override
     public String toString() {
         return fullPetName;
@@ -3,11 +3,16 @@ package seedu.address.model.pet;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.PersistentObservableList;
+import seedu.address.commons.util.PositionIndex;
 import seedu.address.model.pet.exceptions.DuplicatePetException;
 import seedu.address.model.pet.exceptions.PetNotFoundException;
 
@@ -21,14 +26,15 @@ import seedu.address.model.pet.exceptions.PetNotFoundException;
  */
 public class UniquePetList implements Iterable<Pet> {
 
-    private final ObservableList<Pet> internalList = FXCollections.observableArrayList();
+    private final PersistentObservableList<Pet> internalList = new PersistentObservableList<>();
+    private final PositionIndex<Pet> positions = new PositionIndex<>();
 
     /**
      * Returns true if the list contains an equivalent pet as the given argument.
      */
     public boolean contains(Pet toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return positions.contains(toCheck);
     }
 
     /**
@@ -42,8 +48,37 @@ public class UniquePetList implements Iterable<Pet> {
             throw new DuplicatePetException();
         }
         internalList.add(toAdd);
+        positions.inserted(internalList, internalList.size() - 1);
     }
 
+    /**
+     * Inserts a pet at {@code index} in the list, such as to put back a pet that was removed from there.
+     *
+     * @throws DuplicatePetException if the pet to add is a duplicate of an existing pet in the list.
+     */
+    public void add(int index, Pet toAdd) throws DuplicatePetException {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePetException();
+        }
+        internalList.add(index, toAdd);
+        positions.inserted(internalList, index);
+    }
+
+    /**
+     * Returns the position of the equivalent pet in the list, or -1 if there is none.
+     */
+    public int indexOf(Pet toFind) {
+        requireNonNull(toFind);
+        return positions.indexOf(toFind);
+    }
+
+    /**
+     * Returns the pet at {@code index} in the list.
+     */
+    public Pet get(int index) {
+        return internalList.get(index);
+    }
 
     /**
      * Removes the equivalent pet from the list.
@@ -52,24 +87,39 @@ public class UniquePetList implements Iterable<Pet> {
      */
     public boolean remove(Pet toRemove) throws PetNotFoundException {
         requireNonNull(toRemove);
-        final boolean petFoundAndDeleted = internalList.remove(toRemove);
-        if (!petFoundAndDeleted) {
+        int index = positions.indexOf(toRemove);
+        if (index == -1) {
             throw new PetNotFoundException();
         }
-        return petFoundAndDeleted;
+        positions.removed(internalList, internalList.remove(index), index);
+        return true;
+    }
+
+    /**
+     * Removes every pet in {@code toRemove} from the list, as a single change to the list.
+     */
+    public void removeAll(Collection<Pet> toRemove) {
+        requireAllNonNull(toRemove);
+        internalList.removeAll(new HashSet<>(toRemove));
+        positions.rebuild(internalList);
     }
 
     public void setPets(UniquePetList replacement) {
         this.internalList.setAll(replacement.internalList);
+        positions.rebuild(internalList);
     }
 
+    /**
+     * Replaces the contents of this list with {@code pets}, which are checked for duplicates in a single pass
+     * and put in the list in one step.
+     */
     public void setPets(List<Pet> pets) throws DuplicatePetException {
         requireAllNonNull(pets);
-        final UniquePetList replacement = new UniquePetList();
-        for (final Pet pet : pets) {
-            replacement.add(pet);
+        if (!CollectionUtil.elementsAreUnique(pets)) {
+            throw new DuplicatePetException();
         }
-        setPets(replacement);
+        internalList.setAll(pets);
+        positions.rebuild(internalList);
     }
 
 
@@ -80,13 +130,17 @@ public class UniquePetList implements Iterable<Pet> {
         return FXCollections.unmodifiableObservableList(internalList);
     }
 
-    public ObservableList<Pet> getInternalList() {
-        return internalList;
+    /**
+     * Returns the pets currently in the list, which stay the same however the list is changed later.
+     * The copy is taken in constant time.
+     */
+    public List<Pet> snapshot() {
+        return internalList.snapshot();
     }
 
     @Override
     public Iterator<Pet> iterator() {
-        return internalList.iterator();
+        return asObservableList().iterator();
     }
 
     @Override
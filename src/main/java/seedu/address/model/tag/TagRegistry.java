@@ -0,0 +1,137 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentObservableList;
+
+/**
+ * The master list of tags of an address book, which hands out a single shared {@code Tag} object for each tag name.
+ *
+ * Each tag counts the persons and pets that use it. A tag is dropped once the last of them stops using it;
+ * tags that are registered on their own with {@link #add(Tag)} or {@link #setTags(Set)} are kept until then.
+ *
+ * @see Tag#equals(Object)
+ */
+public class TagRegistry {
+
+    private final PersistentObservableList<Tag> internalList = new PersistentObservableList<>();
+    private final Map<Tag, Tag> canonicalTags = new HashMap<>();
+    private final Map<Tag, Integer> useCounts = new HashMap<>();
+
+    /**
+     * Returns true if the registry contains an equivalent Tag as the given argument.
+     */
+    public boolean contains(Tag toCheck) {
+        requireNonNull(toCheck);
+        return canonicalTags.containsKey(toCheck);
+    }
+
+    /**
+     * Adds a Tag that is not used by anyone yet.
+     *
+     * @throws UniqueTagList.DuplicateTagException if an equivalent Tag is already registered.
+     */
+    public void add(Tag toAdd) throws UniqueTagList.DuplicateTagException {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new UniqueTagList.DuplicateTagException();
+        }
+        register(toAdd);
+    }
+
+    /**
+     * Replaces the registered tags with {@code tags}, none of which are used by anyone yet.
+     */
+    public void setTags(Set<Tag> tags) {
+        requireAllNonNull(tags);
+        internalList.clear();
+        canonicalTags.clear();
+        useCounts.clear();
+        tags.forEach(this::register);
+    }
+
+    /**
+     * Records one more use of each of {@code tags}, registering the ones that are new.
+     *
+     * @return the registered {@code Tag} objects that are equivalent to {@code tags}.
+     */
+    public Set<Tag> acquire(Set<Tag> tags) {
+        requireAllNonNull(tags);
+        Set<Tag> canonical = new HashSet<>();
+        for (Tag tag : tags) {
+            Tag registered = canonicalTags.get(tag);
+            if (registered == null) {
+                registered = tag;
+                register(tag);
+            }
+            useCounts.merge(registered, 1, Integer::sum);
+            canonical.add(registered);
+        }
+        return canonical;
+    }
+
+    /**
+     * Records one less use of each of {@code tags}, dropping the ones that are no longer used.
+     * Tags that are not in use are left alone.
+     */
+    public void release(Set<Tag> tags) {
+        requireAllNonNull(tags);
+        for (Tag tag : tags) {
+            Integer count = useCounts.get(tag);
+            if (count == null) {
+                continue;
+            }
+            if (count > 1) {
+                useCounts.put(tag, count - 1);
+            } else {
+                useCounts.remove(tag);
+                canonicalTags.remove(tag);
+                internalList.remove(tag);
+            }
+        }
+    }
+
+    private void register(Tag tag) {
+        canonicalTags.put(tag, tag);
+        internalList.add(tag);
+    }
+
+    /**
+     * Returns the registered tags as an unmodifiable {@code ObservableList}, in the order they were registered.
+     */
+    public ObservableList<Tag> asObservableList() {
+        return FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    /**
+     * Returns the tags currently registered, which stay the same however the registry is changed later.
+     * The copy is taken in constant time.
+     */
+    public List<Tag> snapshot() {
+        return internalList.snapshot();
+    }
+
+    /**
+     * Returns true if both registries contain the same tags, in any order.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagRegistry // instanceof handles nulls
+                && this.canonicalTags.keySet().equals(((TagRegistry) other).canonicalTags.keySet()));
+    }
+
+    @Override
+    public int hashCode() {
+        return canonicalTags.keySet().hashCode();
+    }
+}
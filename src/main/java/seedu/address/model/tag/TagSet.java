@@ -0,0 +1,76 @@
+package seedu.address.model.tag;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * An immutable set of tags, kept as an array sorted by tag name.
+ *
+ * Persons and pets only have a handful of tags each, so this takes far less memory than a {@code HashSet},
+ * and it can be handed out as is without being copied.
+ * Any attempt to modify the set throws {@code UnsupportedOperationException}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final Comparator<Tag> BY_NAME = Comparator.comparing(tag -> tag.tagName);
+
+    private final Tag[] sortedTags;
+    private final List<Tag> view;
+    private final int hash;
+
+    private TagSet(Tag[] sortedTags) {
+        this.sortedTags = sortedTags;
+        view = Collections.unmodifiableList(Arrays.asList(sortedTags));
+        hash = Arrays.stream(sortedTags).mapToInt(Tag::hashCode).sum();
+    }
+
+    /**
+     * Returns a {@code TagSet} of the distinct tags in {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireAllNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        TreeSet<Tag> distinctTags = new TreeSet<>(BY_NAME);
+        distinctTags.addAll(tags);
+        return new TagSet(distinctTags.toArray(new Tag[0]));
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return other instanceof Tag && Arrays.binarySearch(sortedTags, (Tag) other, BY_NAME) >= 0;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return view.iterator();
+    }
+
+    @Override
+    public int size() {
+        return sortedTags.length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof TagSet) {
+            TagSet otherSet = (TagSet) other;
+            return hash == otherSet.hash && Arrays.equals(sortedTags, otherSet.sortedTags);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -8,6 +8,7 @@ import java.util.List;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PositionIndex;
 import seedu.address.model.vettechnician.exceptions.DuplicateVetTechnicianException;
 import seedu.address.model.vettechnician.exceptions.VetTechnicianNotFoundException;
 
@@ -23,13 +24,14 @@ import seedu.address.model.vettechnician.exceptions.VetTechnicianNotFoundExcepti
 public class UniqueVetTechnicianList implements Iterable<VetTechnician> {
 
     private final ObservableList<VetTechnician> internalList = FXCollections.observableArrayList();
+    private final PositionIndex<VetTechnician> positions = new PositionIndex<>();
 
     /**
      * Returns true if the list contains an equivalent vetTechnician as the given argument.
      */
     public boolean contains(VetTechnician toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return positions.contains(toCheck);
     }
 
     /**
@@ -44,6 +46,7 @@ public class UniqueVetTechnicianList implements Iterable<VetTechnician> {
             throw new DuplicateVetTechnicianException();
         }
         internalList.add(toAdd);
+        positions.inserted(internalList, internalList.size() - 1);
     }
 
     /**
@@ -57,16 +60,16 @@ public class UniqueVetTechnicianList implements Iterable<VetTechnician> {
             throws DuplicateVetTechnicianException, VetTechnicianNotFoundException {
         requireNonNull(editedVetTechnician);
 
-        int index = internalList.indexOf(target);
+        int index = positions.indexOf(target);
         if (index == -1) {
             throw new VetTechnicianNotFoundException();
         }
 
-        if (!target.equals(editedVetTechnician) && internalList.contains(editedVetTechnician)) {
+        if (!target.equals(editedVetTechnician) && positions.contains(editedVetTechnician)) {
             throw new DuplicateVetTechnicianException();
         }
 
-        internalList.set(index, editedVetTechnician);
+        positions.replaced(internalList, internalList.set(index, editedVetTechnician), index);
     }
 
     /**
@@ -76,15 +79,17 @@ public class UniqueVetTechnicianList implements Iterable<VetTechnician> {
      */
     public boolean remove(VetTechnician toRemove) throws VetTechnicianNotFoundException {
         requireNonNull(toRemove);
-        final boolean vetTechnicianFoundAndDeleted = internalList.remove(toRemove);
-        if (!vetTechnicianFoundAndDeleted) {
+        int index = positions.indexOf(toRemove);
+        if (index == -1) {
             throw new VetTechnicianNotFoundException();
         }
-        return vetTechnicianFoundAndDeleted;
+        positions.removed(internalList, internalList.remove(index), index);
+        return true;
     }
 
     public void setVetTechnicians(UniqueVetTechnicianList replacement) {
         this.internalList.setAll(replacement.internalList);
+        positions.rebuild(internalList);
     }
 
     public void setVetTechnicians(List<VetTechnician> vetTechnicians) throws DuplicateVetTechnicianException {
@@ -105,7 +110,7 @@ public class UniqueVetTechnicianList implements Iterable<VetTechnician> {
 
     @Override
     public Iterator<VetTechnician> iterator() {
-        return internalList.iterator();
+        return asObservableList().iterator();
     }
 
     @Override
@@ -1,5 +1,6 @@
 package seedu.address.model.vettechnician;
 
+import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.person.Address;
@@ -26,6 +27,13 @@ public class VetTechnician extends Person {
 
     }
 
+    /**
+     * Every field must be present and not null.
+     */
+    public VetTechnician(int id, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
+        super(id, name, phone, email, address, tags);
+    }
+
     @Override
     public PersonRole getRole() {
         return PersonRole.TECHNICIAN_ROLE;
@@ -48,5 +56,10 @@ public class VetTechnician extends Person {
                 && otherTechnician.getAddress().equals(this.getAddress());
     }
 
+    @Override
+    public int hashCode() {
+        // tags are not part of equality, so they are left out here as well
+        return Objects.hash(getName(), getPhone(), getEmail(), getAddress());
+    }
 
 }
@@ -0,0 +1,7 @@
+package seedu.address.model.vettechnician.exceptions;
+
+/**
+ * Signals that the technician already has an appointment at the same time.
+ */
+public class TechnicianHasOverlappingAppointmentException extends Exception {
+}
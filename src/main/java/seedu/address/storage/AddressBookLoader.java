@@ -0,0 +1,258 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.RecurringAppointment;
+import seedu.address.model.appointment.exceptions.AppointmentCloseToNextException;
+import seedu.address.model.appointment.exceptions.AppointmentCloseToPreviousException;
+import seedu.address.model.appointment.exceptions.RecurringAppointmentClashException;
+import seedu.address.model.association.ClientOwnPet;
+import seedu.address.model.association.exceptions.ClientAlreadyOwnsPetException;
+import seedu.address.model.association.exceptions.PetAlreadyHasOwnerException;
+import seedu.address.model.person.Person;
+import seedu.address.model.pet.Pet;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Builds an {@code AddressBook} from the records of a file.
+ *
+ * Records must be added in the order tags, persons, pets, recurring appointments, appointments and associations,
+ * as appointments and associations refer to the persons and pets added before them.
+ * Records adapted for XML can refer to persons and pets by their ids, and can be added
+ * a whole list at a time, in which case they are converted in parallel.
+ * The records are only checked against each other when the address book is built, one list at a time.
+ */
+class AddressBookLoader {
+
+    private static final String CLIENT_ALREADY_OWNS_PET = "Client already owns pet";
+    private static final String PET_ALREADY_HAS_OWNER = "Pet already has owner";
+    private static final String APPOINTMENT_CLOSE_PREVIOUS = "New appointment is too close to previous one";
+    private static final String APPOINTMENT_CLOSE_NEXT = "New appointment is too close to next one";
+    private static final String RECURRING_APPOINTMENT_CLASH = "Recurring appointment clashes with another appointment";
+    private static final String DUPLICATE_ID_FORMAT = "Id %d is used by more than one %s";
+
+    /** Lists shorter than this are converted on the calling thread, as splitting them up costs more than it saves. */
+    private static final int PARALLEL_THRESHOLD = 512;
+
+    private final List<Tag> tags = new ArrayList<>();
+    private final List<Person> persons = new ArrayList<>();
+    private final List<Pet> pets = new ArrayList<>();
+    private final List<RecurringAppointment> recurringAppointments = new ArrayList<>();
+    private final List<Appointment> appointments = new ArrayList<>();
+    private final List<ClientOwnPet> associations = new ArrayList<>();
+    private final Map<Integer, Person> personsById = new HashMap<>();
+    private final Map<Integer, Pet> petsById = new HashMap<>();
+
+    /**
+     * Returns a new address book holding the records added so far.
+     *
+     * @throws IllegalValueException if the records clash with each other.
+     */
+    public AddressBook getAddressBook() throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.load(tags, persons, pets, recurringAppointments, appointments, associations);
+        } catch (RecurringAppointmentClashException e) {
+            throw new IllegalValueException(RECURRING_APPOINTMENT_CLASH);
+        } catch (AppointmentCloseToPreviousException ape) {
+            throw new IllegalValueException(APPOINTMENT_CLOSE_PREVIOUS);
+        } catch (AppointmentCloseToNextException ape) {
+            throw new IllegalValueException(APPOINTMENT_CLOSE_NEXT);
+        } catch (ClientAlreadyOwnsPetException e) {
+            throw new IllegalValueException(CLIENT_ALREADY_OWNS_PET);
+        } catch (PetAlreadyHasOwnerException e) {
+            throw new IllegalValueException(PET_ALREADY_HAS_OWNER);
+        }
+        return addressBook;
+    }
+
+    public void add(Tag tag) {
+        tags.add(tag);
+    }
+
+    public void add(Person person) {
+        persons.add(person);
+    }
+
+    public void add(Pet pet) {
+        pets.add(pet);
+    }
+
+    public void add(RecurringAppointment recurringAppointment) {
+        recurringAppointments.add(recurringAppointment);
+    }
+
+    /**
+     * Adds {@code appointment}, for persons and pets added before it.
+     */
+    public void add(Appointment appointment) {
+        appointments.add(appointment);
+    }
+
+    /**
+     * Makes the client in {@code association} own its pet, both of which were added before it.
+     */
+    public void add(ClientOwnPet association) {
+        associations.add(association);
+    }
+
+    public void add(XmlAdaptedTag tag) throws IllegalValueException {
+        add(tag.toModelType());
+    }
+
+    /**
+     * Adds {@code person}, which later records can refer to by its id.
+     */
+    public void add(XmlAdaptedPerson person) throws IllegalValueException {
+        add(person.toModelType(), person.getId());
+    }
+
+    /**
+     * Adds {@code pet}, which later records can refer to by its id.
+     */
+    public void add(XmlAdaptedPet pet) throws IllegalValueException {
+        add(pet.toModelType(), pet.getId());
+    }
+
+    public void add(XmlAdaptedRecurringAppointment recurringAppointment) throws IllegalValueException {
+        add(recurringAppointment.toModelType());
+    }
+
+    /**
+     * Adds {@code appointment}, for persons and pets added before it.
+     */
+    public void add(XmlAdaptedAppointment appointment) throws IllegalValueException {
+        add(appointment.toModelType(personsById, petsById));
+    }
+
+    /**
+     * Makes the client in {@code association} own its pet, both of which were added before it.
+     */
+    public void add(XmlAdaptedClientOwnPet association) throws IllegalValueException {
+        add(association.toModelType(personsById, petsById));
+    }
+
+    /**
+     * Adds {@code person}, which later records can refer to by {@code id} unless it is null.
+     */
+    private void add(Person person, Integer id) throws IllegalValueException {
+        add(person);
+        putById(personsById, id, person, Person.class.getSimpleName());
+    }
+
+    /**
+     * Adds {@code pet}, which later records can refer to by {@code id} unless it is null.
+     */
+    private void add(Pet pet, Integer id) throws IllegalValueException {
+        add(pet);
+        putById(petsById, id, pet, Pet.class.getSimpleName());
+    }
+
+    public void addTags(List<XmlAdaptedTag> tagList) throws IllegalValueException {
+        tags.addAll(convertAll(tagList, XmlAdaptedTag::toModelType));
+    }
+
+    /**
+     * Adds {@code personList}, which later records can refer to by their ids.
+     */
+    public void addPersons(List<XmlAdaptedPerson> personList) throws IllegalValueException {
+        List<Person> converted = convertAll(personList, XmlAdaptedPerson::toModelType);
+        for (int i = 0; i < converted.size(); i++) {
+            add(converted.get(i), personList.get(i).getId());
+        }
+    }
+
+    /**
+     * Adds {@code petList}, which later records can refer to by their ids.
+     */
+    public void addPets(List<XmlAdaptedPet> petList) throws IllegalValueException {
+        List<Pet> converted = convertAll(petList, XmlAdaptedPet::toModelType);
+        for (int i = 0; i < converted.size(); i++) {
+            add(converted.get(i), petList.get(i).getId());
+        }
+    }
+
+    public void addRecurringAppointments(List<XmlAdaptedRecurringAppointment> recurringAppointmentList)
+            throws IllegalValueException {
+        recurringAppointments.addAll(convertAll(recurringAppointmentList,
+                XmlAdaptedRecurringAppointment::toModelType));
+    }
+
+    /**
+     * Adds {@code appointmentList}, for persons and pets added before them.
+     */
+    public void addAppointments(List<XmlAdaptedAppointment> appointmentList) throws IllegalValueException {
+        appointments.addAll(convertAll(appointmentList, appointment -> appointment.toModelType(personsById, petsById)));
+    }
+
+    /**
+     * Adds {@code associationList}, for persons and pets added before them.
+     */
+    public void addAssociations(List<XmlAdaptedClientOwnPet> associationList) throws IllegalValueException {
+        associations.addAll(convertAll(associationList, association -> association.toModelType(personsById, petsById)));
+    }
+
+    /**
+     * Adds {@code entity} to {@code entitiesById} under {@code id}, unless {@code id} is null.
+     *
+     * @throws IllegalValueException if another entity already has {@code id}.
+     */
+    private static <T> void putById(Map<Integer, T> entitiesById, Integer id, T entity, String entityName)
+            throws IllegalValueException {
+        if (id != null && entitiesById.putIfAbsent(id, entity) != null) {
+            throw new IllegalValueException(String.format(DUPLICATE_ID_FORMAT, id, entityName));
+        }
+    }
+
+    /**
+     * Returns {@code records} converted with {@code converter}, in the same order.
+     * Long lists are converted in parallel on the common fork/join pool.
+     *
+     * @throws IllegalValueException if a record cannot be converted.
+     */
+    private static <T, R> List<R> convertAll(List<T> records, Converter<T, R> converter)
+            throws IllegalValueException {
+        Stream<T> stream = records.size() < PARALLEL_THRESHOLD ? records.stream() : records.parallelStream();
+        try {
+            return stream.map(record -> {
+                try {
+                    return converter.convert(record);
+                } catch (IllegalValueException ive) {
+                    throw new ConversionFailure(ive);
+                }
+            }).collect(Collectors.toList());
+        } catch (ConversionFailure e) {
+            // the fork/join pool may rethrow a copy of the failure, with the original failure as its cause
+            Throwable cause = e.getCause();
+            while (!(cause instanceof IllegalValueException)) {
+                cause = cause.getCause();
+            }
+            throw (IllegalValueException) cause;
+        }
+    }
+
+    /**
+     * Converts a record read from a file into the model.
+     */
+    @FunctionalInterface
+    private interface Converter<T, R> {
+        R convert(T record) throws IllegalValueException;
+    }
+
+    /**
+     * Carries an {@code IllegalValueException} out of a stream.
+     */
+    private static class ConversionFailure extends RuntimeException {
+        ConversionFailure(IllegalValueException cause) {
+            super(cause);
+        }
+    }
+}
@@ -41,4 +41,11 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException;
 
+    /**
+     * Saves in full any changes that have so far only been saved as changes, such as in a journal, so that reading
+     * the address book no longer needs to replay them.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void checkpoint() throws IOException;
+
 }
@@ -0,0 +1,153 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a thread of its own, so that saving never holds up the
+ * thread that changed the address book, and only that thread ever writes to the storage.
+ *
+ * Changes are coalesced: the first change schedules a save {@code debounce} milliseconds later, and only the latest
+ * address book handed in by then is saved.
+ * The address books handed in must not change afterwards, as they are saved later on another thread.
+ */
+public class AsyncAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 1;
+
+    private final AddressBookStorage storage;
+    private final long debounce;
+    private final Consumer<IOException> onFailure;
+    private final ScheduledThreadPoolExecutor executor;
+
+    private ReadOnlyAddressBook pending;
+    private int pendingChanges;
+    private boolean isSaveScheduled;
+    private volatile long lastSaveLatency = -1;
+
+    /**
+     * Creates a saver to {@code storage} that waits {@code debounce} milliseconds for more changes before saving,
+     * and passes any failure to save to {@code onFailure} on its own thread.
+     */
+    public AsyncAddressBookSaver(AddressBookStorage storage, long debounce, Consumer<IOException> onFailure) {
+        requireAllNonNull(storage, onFailure);
+        this.storage = storage;
+        this.debounce = debounce;
+        this.onFailure = onFailure;
+        executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "Address book saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setKeepAliveTime(IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Saves {@code addressBook} soon, in place of any address book still waiting to be saved.
+     */
+    public synchronized void submit(ReadOnlyAddressBook addressBook) {
+        pending = addressBook;
+        pendingChanges++;
+        if (!isSaveScheduled) {
+            isSaveScheduled = true;
+            executor.schedule(this::savePending, debounce, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves any address book still waiting to be saved, and waits until it is saved.
+     */
+    public void flush() {
+        try {
+            run(() -> { });
+        } catch (IOException e) {
+            throw new AssertionError("Flushing does not write anything besides the pending address book", e);
+        }
+    }
+
+    /**
+     * Saves any address book still waiting to be saved, then performs {@code action} on the storage, on the thread of
+     * this saver, and waits until both are done.
+     *
+     * @throws IOException if {@code action} fails. A failure to save the pending address book is passed on as
+     *     usual instead.
+     */
+    public void run(StorageAction action) throws IOException {
+        Future<?> done = executor.submit(() -> {
+            savePending();
+            action.run();
+            return null;
+        });
+        try {
+            done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new AssertionError("Unexpected exception while saving", e.getCause());
+        }
+    }
+
+    /**
+     * Returns the number of changes waiting to be saved.
+     */
+    public synchronized int getPendingChanges() {
+        return pendingChanges;
+    }
+
+    /**
+     * Returns how many milliseconds the latest save took, or -1 if nothing has been saved yet.
+     */
+    public long getLastSaveLatency() {
+        return lastSaveLatency;
+    }
+
+    /**
+     * Saves the address book waiting to be saved, if any.
+     */
+    private void savePending() {
+        ReadOnlyAddressBook toSave;
+        int coalescedChanges;
+        synchronized (this) {
+            toSave = pending;
+            coalescedChanges = pendingChanges;
+            pending = null;
+            pendingChanges = 0;
+            isSaveScheduled = false;
+        }
+        if (toSave == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            storage.saveAddressBook(toSave);
+        } catch (IOException e) {
+            onFailure.accept(e);
+        }
+        lastSaveLatency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        logger.fine("Saved " + coalescedChanges + " change(s) in " + lastSaveLatency + " ms; "
+                + getPendingChanges() + " more waiting");
+    }
+
+    /**
+     * An operation on the storage.
+     */
+    @FunctionalInterface
+    public interface StorageAction {
+        void run() throws IOException;
+    }
+}
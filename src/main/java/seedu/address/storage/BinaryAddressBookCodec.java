@@ -0,0 +1,407 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.Description;
+import seedu.address.model.appointment.Duration;
+import seedu.address.model.appointment.RecurringAppointment;
+import seedu.address.model.appointment.Time;
+import seedu.address.model.association.ClientOwnPet;
+import seedu.address.model.client.Client;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonRole;
+import seedu.address.model.person.Phone;
+import seedu.address.model.pet.Pet;
+import seedu.address.model.pet.PetAge;
+import seedu.address.model.pet.PetGender;
+import seedu.address.model.pet.PetName;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.vettechnician.VetTechnician;
+
+/**
+ * Reads and writes address books in a compact binary format, which loads much faster than XML.
+ *
+ * A file holds, in order: a magic number, the format version, a table of every distinct string in the address book,
+ * the records in the order {@link AddressBookLoader} needs them, and a CRC-32 checksum of everything before it.
+ * Records refer to strings by their index in the table, and to persons and pets by their index in the file, so
+ * names, tags and descriptions used many times are stored, and loaded, only once.
+ * Persons and pets are written with their ids, so that these stay the same from one save to the next. Files of
+ * version 1, which have no ids, are still read.
+ * Every count, index and number is a big-endian int, and every string is its length in bytes followed by its UTF-8
+ * bytes. Files are read through a memory map.
+ */
+public class BinaryAddressBookCodec {
+
+    public static final int MAGIC = 0x56455442; // "VETB"
+    public static final int FORMAT_VERSION = 2;
+
+    /** The first version, in which persons and pets have no ids. */
+    private static final int FORMAT_VERSION_WITHOUT_IDS = 1;
+
+    private static final int NONE = -1;
+    private static final int CHECKSUM_BYTES = Integer.BYTES;
+    private static final byte ROLE_CLIENT = 0;
+    private static final byte ROLE_VET_TECHNICIAN = 1;
+
+    private static final String MESSAGE_NOT_ADDRESS_BOOK = "Not a binary address book file";
+    private static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported format version %1$d";
+    private static final String MESSAGE_CHECKSUM_MISMATCH = "File is corrupted: checksum does not match";
+    private static final String MESSAGE_TRUNCATED = "File is corrupted: it ends too early";
+    private static final String MESSAGE_UNKNOWN_REFERENCE = "File is corrupted: unknown %1$s %2$d";
+    private static final String MESSAGE_NOT_IN_ADDRESS_BOOK = "%1$s %2$s is not in the address book";
+
+    /**
+     * Writes {@code addressBook} to {@code file}, replacing its contents.
+     *
+     * @throws IOException if an appointment or association refers to a person or pet not in {@code addressBook}, or
+     *     the file cannot be written.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, File file) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(file);
+
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        writeRecords(new DataOutputStream(records), strings, addressBook);
+
+        CRC32 checksum = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            ByteArrayOutputStream header = new ByteArrayOutputStream();
+            DataOutputStream headerOut = new DataOutputStream(header);
+            headerOut.writeInt(MAGIC);
+            headerOut.writeInt(FORMAT_VERSION);
+            headerOut.writeInt(strings.size());
+            for (String string : strings.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                headerOut.writeInt(bytes.length);
+                headerOut.write(bytes);
+            }
+            header.writeTo(out);
+            checksum.update(header.toByteArray());
+            records.writeTo(out);
+            checksum.update(records.toByteArray());
+            out.writeInt((int) checksum.getValue());
+        }
+    }
+
+    /**
+     * Returns the address book in {@code file}.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not in the expected format, or is corrupted.
+     * @throws IllegalValueException if a record in the file breaks the constraints of the model.
+     */
+    public static AddressBook read(File file) throws DataConversionException, IllegalValueException, IOException {
+        requireNonNull(file);
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try {
+                if (buffer.remaining() < 2 * Integer.BYTES + CHECKSUM_BYTES || buffer.getInt() != MAGIC) {
+                    throw new DataConversionException(new IOException(MESSAGE_NOT_ADDRESS_BOOK));
+                }
+                int version = buffer.getInt();
+                if (version != FORMAT_VERSION && version != FORMAT_VERSION_WITHOUT_IDS) {
+                    throw new DataConversionException(
+                            new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version)));
+                }
+                verifyChecksum(buffer);
+                return readRecords(buffer, readStrings(buffer), version);
+            } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                    | NegativeArraySizeException e) {
+                throw new DataConversionException(new IOException(MESSAGE_TRUNCATED, e));
+            }
+        }
+    }
+
+    /**
+     * Writes every record in {@code addressBook} to {@code out}, adding the strings they use to {@code strings}.
+     */
+    private static void writeRecords(DataOutputStream out, Map<String, Integer> strings,
+                                     ReadOnlyAddressBook addressBook) throws IOException {
+        out.writeInt(addressBook.getTagList().size());
+        for (Tag tag : addressBook.getTagList()) {
+            writeString(out, strings, tag.tagName);
+        }
+
+        Map<Person, Integer> personIndexes = new HashMap<>();
+        out.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            personIndexes.put(person, personIndexes.size());
+            out.writeByte(person.getRole().equals(PersonRole.CLIENT_ROLE) ? ROLE_CLIENT : ROLE_VET_TECHNICIAN);
+            out.writeInt(person.getId());
+            writeString(out, strings, person.getName().fullName);
+            writeString(out, strings, person.getPhone().value);
+            writeString(out, strings, person.getEmail().value);
+            writeString(out, strings, person.getAddress().value);
+            writeTags(out, strings, person.getTags());
+        }
+
+        Map<Pet, Integer> petIndexes = new HashMap<>();
+        out.writeInt(addressBook.getPetList().size());
+        for (Pet pet : addressBook.getPetList()) {
+            petIndexes.put(pet, petIndexes.size());
+            out.writeInt(pet.getId());
+            writeString(out, strings, pet.getPetName().toString());
+            writeString(out, strings, pet.getPetAge().value);
+            writeString(out, strings, pet.getPetGender().toString());
+            writeTags(out, strings, pet.getTags());
+        }
+
+        out.writeInt(addressBook.getRecurringAppointmentList().size());
+        for (RecurringAppointment recurringAppointment : addressBook.getRecurringAppointmentList()) {
+            writeString(out, strings, recurringAppointment.getDate().toString());
+            writeString(out, strings, recurringAppointment.getTime().toString());
+            writeString(out, strings, recurringAppointment.getDuration().toString());
+            writeString(out, strings, recurringAppointment.getDescription().toString());
+            out.writeInt(recurringAppointment.getInterval());
+            out.writeInt(recurringAppointment.getOccurrences());
+        }
+
+        out.writeInt(addressBook.getAppointmentList().size());
+        for (Appointment appointment : addressBook.getAppointmentList()) {
+            writeString(out, strings, appointment.getDate().toString());
+            writeString(out, strings, appointment.getTime().toString());
+            writeString(out, strings, appointment.getDuration().toString());
+            writeString(out, strings, appointment.getDescription().toString());
+            ClientOwnPet association = appointment.getClientOwnPet();
+            out.writeInt(association == null ? NONE : indexOf(personIndexes, association.getClient()));
+            out.writeInt(association == null ? NONE : indexOf(petIndexes, association.getPet()));
+            VetTechnician vetTechnician = appointment.getVetTechnician();
+            out.writeInt(vetTechnician == null ? NONE : indexOf(personIndexes, vetTechnician));
+        }
+
+        out.writeInt(addressBook.getClientPetAssociations().size());
+        for (ClientOwnPet association : addressBook.getClientPetAssociations()) {
+            out.writeInt(indexOf(personIndexes, association.getClient()));
+            out.writeInt(indexOf(petIndexes, association.getPet()));
+        }
+    }
+
+    /**
+     * Writes the number of {@code tags}, followed by each of them.
+     */
+    private static void writeTags(DataOutputStream out, Map<String, Integer> strings, Set<Tag> tags)
+            throws IOException {
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            writeString(out, strings, tag.tagName);
+        }
+    }
+
+    /**
+     * Writes the index of {@code string} in {@code strings}, adding it to the end of {@code strings} if it is new.
+     */
+    private static void writeString(DataOutputStream out, Map<String, Integer> strings, String string)
+            throws IOException {
+        Integer index = strings.get(string);
+        if (index == null) {
+            index = strings.size();
+            strings.put(string, index);
+        }
+        out.writeInt(index);
+    }
+
+    /**
+     * Returns the index of {@code entity} in the file.
+     *
+     * @throws IOException if {@code entity} is not in the address book being written.
+     */
+    private static <T> int indexOf(Map<T, Integer> indexes, T entity) throws IOException {
+        Integer index = indexes.get(entity);
+        if (index == null) {
+            throw new IOException(String.format(MESSAGE_NOT_IN_ADDRESS_BOOK,
+                    entity.getClass().getSimpleName(), entity));
+        }
+        return index;
+    }
+
+    /**
+     * Checks the checksum at the end of {@code buffer} against everything before it.
+     * The position of {@code buffer} is left unchanged.
+     */
+    private static void verifyChecksum(ByteBuffer buffer) throws DataConversionException {
+        int checksumPosition = buffer.limit() - CHECKSUM_BYTES;
+        ByteBuffer content = buffer.duplicate();
+        content.position(0);
+        content.limit(checksumPosition);
+        CRC32 checksum = new CRC32();
+        checksum.update(content);
+        if ((int) checksum.getValue() != buffer.getInt(checksumPosition)) {
+            throw new DataConversionException(new IOException(MESSAGE_CHECKSUM_MISMATCH));
+        }
+    }
+
+    /**
+     * Returns the string table at the position of {@code buffer}.
+     */
+    private static String[] readStrings(ByteBuffer buffer) {
+        String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    /**
+     * Reads the records in {@code buffer}, which refer to {@code strings}, into a new address book.
+     * Persons and pets are read with their ids unless the file is of {@code version} 1.
+     */
+    private static AddressBook readRecords(ByteBuffer buffer, String[] strings, int version)
+            throws DataConversionException, IllegalValueException {
+        boolean hasIds = version != FORMAT_VERSION_WITHOUT_IDS;
+        AddressBookLoader loader = new AddressBookLoader();
+        try {
+            int tagCount = buffer.getInt();
+            for (int i = 0; i < tagCount; i++) {
+                loader.add(new Tag(readString(buffer, strings)));
+            }
+
+            List<Person> persons = new ArrayList<>();
+            int personCount = buffer.getInt();
+            for (int i = 0; i < personCount; i++) {
+                byte role = buffer.get();
+                if (role != ROLE_CLIENT && role != ROLE_VET_TECHNICIAN) {
+                    throw unknownReference(PersonRole.class, role);
+                }
+                int id = hasIds ? buffer.getInt() : Person.NO_ID;
+                Name name = new Name(readString(buffer, strings));
+                Phone phone = new Phone(readString(buffer, strings));
+                Email email = new Email(readString(buffer, strings));
+                Address address = new Address(readString(buffer, strings));
+                Set<Tag> tags = readTags(buffer, strings);
+                Person person = role == ROLE_CLIENT
+                        ? new Client(id, name, phone, email, address, tags)
+                        : new VetTechnician(id, name, phone, email, address, tags);
+                loader.add(person);
+                persons.add(person);
+            }
+
+            List<Pet> pets = new ArrayList<>();
+            int petCount = buffer.getInt();
+            for (int i = 0; i < petCount; i++) {
+                int id = hasIds ? buffer.getInt() : Pet.NO_ID;
+                Pet pet = new Pet(id, new PetName(readString(buffer, strings)), new PetAge(readString(buffer, strings)),
+                        new PetGender(readString(buffer, strings)), readTags(buffer, strings));
+                loader.add(pet);
+                pets.add(pet);
+            }
+
+            int recurringAppointmentCount = buffer.getInt();
+            for (int i = 0; i < recurringAppointmentCount; i++) {
+                loader.add(new RecurringAppointment(new Date(readString(buffer, strings)),
+                        new Time(readString(buffer, strings)), new Duration(readString(buffer, strings)),
+                        new Description(readString(buffer, strings)), buffer.getInt(), buffer.getInt()));
+            }
+
+            int appointmentCount = buffer.getInt();
+            for (int i = 0; i < appointmentCount; i++) {
+                Appointment appointment = new Appointment(new Date(readString(buffer, strings)),
+                        new Time(readString(buffer, strings)), new Duration(readString(buffer, strings)),
+                        new Description(readString(buffer, strings)));
+                int clientIndex = buffer.getInt();
+                int petIndex = buffer.getInt();
+                if (clientIndex != NONE) {
+                    appointment.setClientOwnPet(new ClientOwnPet(getClient(persons, clientIndex),
+                            get(pets, petIndex, Pet.class)));
+                }
+                int vetTechnicianIndex = buffer.getInt();
+                if (vetTechnicianIndex != NONE) {
+                    appointment.setVetTech(getVetTechnician(persons, vetTechnicianIndex));
+                }
+                loader.add(appointment);
+            }
+
+            int associationCount = buffer.getInt();
+            for (int i = 0; i < associationCount; i++) {
+                loader.add(new ClientOwnPet(getClient(persons, buffer.getInt()),
+                        get(pets, buffer.getInt(), Pet.class)));
+            }
+        } catch (IllegalArgumentException e) {
+            // the model checks every field as it is created
+            throw new IllegalValueException(e.getMessage());
+        }
+        return loader.getAddressBook();
+    }
+
+    /**
+     * Returns the tags written by {@link #writeTags}.
+     */
+    private static Set<Tag> readTags(ByteBuffer buffer, String[] strings) {
+        int tagCount = buffer.getInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(readString(buffer, strings)));
+        }
+        return tags;
+    }
+
+    private static String readString(ByteBuffer buffer, String[] strings) {
+        return strings[buffer.getInt()];
+    }
+
+    private static Client getClient(List<Person> persons, int index) throws DataConversionException {
+        Person person = get(persons, index, Person.class);
+        if (!(person instanceof Client)) {
+            throw unknownReference(Client.class, index);
+        }
+        return (Client) person;
+    }
+
+    private static VetTechnician getVetTechnician(List<Person> persons, int index) throws DataConversionException {
+        Person person = get(persons, index, Person.class);
+        if (!(person instanceof VetTechnician)) {
+            throw unknownReference(VetTechnician.class, index);
+        }
+        return (VetTechnician) person;
+    }
+
+    private static <T> T get(List<T> entities, int index, Class<T> type) throws DataConversionException {
+        if (index < 0 || index >= entities.size()) {
+            throw unknownReference(type, index);
+        }
+        return entities.get(index);
+    }
+
+    private static DataConversionException unknownReference(Class<?> type, int index) {
+        return new DataConversionException(new IOException(
+                String.format(MESSAGE_UNKNOWN_REFERENCE, type.getSimpleName(), index)));
+    }
+}
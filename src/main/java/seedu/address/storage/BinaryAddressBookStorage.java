@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the binary format of {@link BinaryAddressBookCodec} on the hard disk.
+ *
+ * XML files can still be imported and exported: paths ending in {@value #XML_FILE_EXTENSION} are read and written
+ * as XML, and if the binary file is missing, the XML file with the same name, if any, is read instead.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final String XML_FILE_EXTENSION = ".xml";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private String filePath;
+
+    public BinaryAddressBookStorage(String filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a file in the binary format.
+     */
+    public static boolean isBinaryFile(String filePath) {
+        return filePath.endsWith(FILE_EXTENSION);
+    }
+
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (filePath.endsWith(XML_FILE_EXTENSION)) {
+            return new XmlAddressBookStorage(filePath).readAddressBook();
+        }
+
+        File addressBookFile = new File(filePath);
+        if (!addressBookFile.exists()) {
+            String xmlFilePath = getXmlFilePath(filePath);
+            logger.info("AddressBook file " + addressBookFile + " not found, importing " + xmlFilePath + " instead");
+            return new XmlAddressBookStorage(xmlFilePath).readAddressBook();
+        }
+
+        try {
+            return Optional.of(BinaryAddressBookCodec.read(addressBookFile));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + addressBookFile + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * The address book is written to a temporary file which then replaces the file, so a save cut short leaves the
+     * file as it was.
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.endsWith(XML_FILE_EXTENSION)) {
+            new XmlAddressBookStorage(filePath).saveAddressBook(addressBook);
+            return;
+        }
+
+        File file = new File(filePath);
+        File tempFile = new File(filePath + XmlAddressBookStorage.TEMP_FILE_SUFFIX);
+        FileUtil.createIfMissing(tempFile);
+        BinaryAddressBookCodec.write(addressBook, tempFile);
+        try {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.fine("Cannot replace " + file + " atomically, replacing it as a separate step");
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Does nothing, as every save writes the whole address book.
+     */
+    @Override
+    public void checkpoint() {}
+
+    /**
+     * Returns the path of the XML file with the same name as the binary file at {@code filePath}.
+     */
+    private static String getXmlFilePath(String filePath) {
+        String baseName = isBinaryFile(filePath)
+                ? filePath.substring(0, filePath.length() - FILE_EXTENSION.length())
+                : filePath;
+        return baseName + XML_FILE_EXTENSION;
+    }
+}
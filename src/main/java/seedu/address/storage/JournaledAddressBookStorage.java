@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Wraps an {@code XmlAddressBookStorage} to save most changes by appending them to the journal next to the XML file,
+ * instead of writing the whole address book again.
+ *
+ * The whole address book is written, and the journal cleared, at checkpoints: on the first save, once the journal
+ * holds {@code maxJournalLength} changes, on the first save after {@code checkpointInterval} milliseconds since the
+ * last checkpoint, and when {@link #checkpoint()} is called.
+ * A change is worked out by comparing the saved address book with the one saved before it, so only
+ * {@link AddressBookSnapshot}s, which never change, are saved as changes.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_MAX_JOURNAL_LENGTH = 200;
+    public static final long DEFAULT_CHECKPOINT_INTERVAL = TimeUnit.MINUTES.toMillis(10);
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final XmlAddressBookStorage storage;
+    private final XmlAddressBookJournal journal;
+    private final int maxJournalLength;
+    private final long checkpointInterval;
+
+    /** The address book saved last, which the journal leads up to, or null if it is not known. */
+    private AddressBookSnapshot lastSaved;
+    /** The checkpoint generation of the file, which the changes in the journal are recorded against. */
+    private long generation;
+    private long lastCheckpointTime;
+
+    public JournaledAddressBookStorage(XmlAddressBookStorage storage) {
+        this(storage, DEFAULT_MAX_JOURNAL_LENGTH, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    public JournaledAddressBookStorage(XmlAddressBookStorage storage, int maxJournalLength,
+                                       long checkpointInterval) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.journal = new XmlAddressBookJournal(storage.getAddressBookFilePath());
+        this.maxJournalLength = maxJournalLength;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    @Override
+    public String getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the address book in {@code filePath}.
+     * If it is the file of this storage, and in an older format than {@link XmlAddressBookCodec#FORMAT_VERSION},
+     * the address book read, with the changes in the journal, is saved again in the current format straight away.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
+            IOException {
+        Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook(filePath);
+        if (!addressBook.isPresent() || !filePath.equals(getAddressBookFilePath())) {
+            return addressBook;
+        }
+        int formatVersion = XmlAddressBookCodec.readFormatVersion(new File(filePath));
+        if (formatVersion < XmlAddressBookCodec.FORMAT_VERSION) {
+            logger.info("Migrating " + filePath + " from format version " + formatVersion + " to "
+                    + XmlAddressBookCodec.FORMAT_VERSION);
+            saveInFull(addressBook.get());
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        if (isCheckpointDue() || !(addressBook instanceof AddressBookSnapshot)) {
+            saveInFull(addressBook);
+            return;
+        }
+        XmlAdaptedAddressBookChange change = new XmlAdaptedAddressBookChange(lastSaved, addressBook);
+        if (!change.isEmpty()) {
+            journal.append(change, generation);
+        }
+        lastSaved = (AddressBookSnapshot) addressBook;
+    }
+
+    /**
+     * Saves {@code addressBook} in full to {@code filePath}.
+     * Only saves to the file of this storage are journaled.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveInFull(addressBook);
+        } else {
+            storage.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    @Override
+    public void checkpoint() throws IOException {
+        if (lastSaved != null && journal.getLength() > 0) {
+            saveInFull(lastSaved);
+        }
+    }
+
+    private boolean isCheckpointDue() throws IOException {
+        return lastSaved == null
+                || journal.getLength() >= maxJournalLength
+                || System.currentTimeMillis() - lastCheckpointTime >= checkpointInterval;
+    }
+
+    /**
+     * Writes the whole of {@code addressBook} and clears the journal.
+     */
+    private void saveInFull(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Saving the whole address book to " + getAddressBookFilePath());
+        lastSaved = null;
+        storage.saveAddressBook(addressBook);
+        journal.clear();
+        try {
+            generation = XmlAddressBookCodec.readGeneration(new File(getAddressBookFilePath()));
+        } catch (DataConversionException e) {
+            throw new IOException("Cannot read back " + getAddressBookFilePath(), e);
+        }
+        lastSaved = addressBook instanceof AddressBookSnapshot ? (AddressBookSnapshot) addressBook : null;
+        lastCheckpointTime = System.currentTimeMillis();
+    }
+}
@@ -7,6 +7,7 @@ import java.util.logging.Logger;
 import com.google.common.eventbus.Subscribe;
 
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
@@ -16,18 +17,32 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Every write to the address book storage happens on the thread of an {@link AsyncAddressBookSaver}, so changes to
+ * the address book are saved in the background.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private AsyncAddressBookSaver saver;
 
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, Config.DEFAULT_SAVE_DEBOUNCE);
+    }
+
+    /**
+     * Creates a storage that gathers changes to the address book for {@code saveDebounce} milliseconds before
+     * saving them together.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          long saveDebounce) {
         super();
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saver = new AsyncAddressBookSaver(addressBookStorage, saveDebounce,
+            e -> raise(new DataSavingExceptionEvent(e)));
     }
 
     // ================ UserPrefs methods ==============================
@@ -74,19 +89,27 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        saver.run(() -> addressBookStorage.saveAddressBook(addressBook, filePath));
     }
 
+    @Override
+    public void checkpoint() throws IOException {
+        logger.fine("Attempting to checkpoint data file: " + addressBookStorage.getAddressBookFilePath());
+        saver.run(addressBookStorage::checkpoint);
+    }
+
+    @Override
+    public void flush() {
+        logger.fine(saver.getPendingChanges() + " change(s) waiting to be saved, last save took "
+                + saver.getLastSaveLatency() + " ms");
+        saver.flush();
+    }
 
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveAddressBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        saver.submit(event.data);
     }
 
 }
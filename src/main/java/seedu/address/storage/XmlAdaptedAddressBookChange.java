@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * JAXB-friendly record of the changes between two versions of an address book, as kept in a journal.
+ *
+ * Each list that changed has one {@link XmlAdaptedListChange}. The appointments and associations that are added
+ * hold full copies of their persons and pets, so that the record can be replayed without knowing their ids.
+ * A record in a journal is also marked with the checkpoint generation of the file it was recorded against.
+ */
+@XmlRootElement(name = "change")
+public class XmlAdaptedAddressBookChange {
+
+    @XmlAttribute
+    private Long generation;
+
+    @XmlElement
+    private XmlAdaptedListChange persons;
+    @XmlElement
+    private XmlAdaptedListChange tags;
+    @XmlElement
+    private XmlAdaptedListChange pets;
+    @XmlElement
+    private XmlAdaptedListChange appointments;
+    @XmlElement
+    private XmlAdaptedListChange recurringAppointments;
+    @XmlElement
+    private XmlAdaptedListChange clientPetAssociations;
+
+    /**
+     * Constructs an XmlAdaptedAddressBookChange.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedAddressBookChange() {}
+
+    /**
+     * Constructs the record of the changes that turn {@code before} into {@code after}.
+     */
+    public XmlAdaptedAddressBookChange(ReadOnlyAddressBook before, ReadOnlyAddressBook after) {
+        requireAllNonNull(before, after);
+        persons = XmlAdaptedListChange.between(before.getPersonList(), after.getPersonList(),
+                XmlAdaptedPerson::new);
+        tags = XmlAdaptedListChange.between(before.getTagList(), after.getTagList(), XmlAdaptedTag::new);
+        pets = XmlAdaptedListChange.between(before.getPetList(), after.getPetList(), XmlAdaptedPet::new);
+        appointments = XmlAdaptedListChange.between(before.getAppointmentList(), after.getAppointmentList(),
+                XmlAdaptedAppointment::new);
+        recurringAppointments = XmlAdaptedListChange.between(before.getRecurringAppointmentList(),
+                after.getRecurringAppointmentList(), XmlAdaptedRecurringAppointment::new);
+        clientPetAssociations = XmlAdaptedListChange.between(before.getClientPetAssociations(),
+                after.getClientPetAssociations(), XmlAdaptedClientOwnPet::new);
+    }
+
+    /**
+     * Returns true if no list was changed.
+     */
+    public boolean isEmpty() {
+        return persons == null && tags == null && pets == null && appointments == null
+                && recurringAppointments == null && clientPetAssociations == null;
+    }
+
+    /**
+     * Returns the checkpoint generation of the file this change was recorded against,
+     * or {@link XmlAddressBookCodec#NO_GENERATION} if it was recorded before generations were.
+     */
+    long getGeneration() {
+        return generation == null ? XmlAddressBookCodec.NO_GENERATION : generation;
+    }
+
+    void setGeneration(long generation) {
+        this.generation = generation;
+    }
+
+    /**
+     * Makes the recorded changes to the lists of a saved address book.
+     *
+     * @throws IllegalValueException if a change does not fit in its list.
+     */
+    void applyTo(List<XmlAdaptedPerson> persons, List<XmlAdaptedTag> tags, List<XmlAdaptedPet> pets,
+                 List<XmlAdaptedAppointment> appointments,
+                 List<XmlAdaptedRecurringAppointment> recurringAppointments,
+                 List<XmlAdaptedClientOwnPet> clientPetAssociations) throws IllegalValueException {
+        applyTo(this.persons, persons, XmlAdaptedPerson.class);
+        applyTo(this.tags, tags, XmlAdaptedTag.class);
+        applyTo(this.pets, pets, XmlAdaptedPet.class);
+        applyTo(this.appointments, appointments, XmlAdaptedAppointment.class);
+        applyTo(this.recurringAppointments, recurringAppointments, XmlAdaptedRecurringAppointment.class);
+        applyTo(this.clientPetAssociations, clientPetAssociations, XmlAdaptedClientOwnPet.class);
+    }
+
+    private static <T> void applyTo(XmlAdaptedListChange change, List<T> list, Class<T> elementType)
+            throws IllegalValueException {
+        if (change != null) {
+            change.applyTo(list, elementType);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -11,6 +13,8 @@ import seedu.address.model.appointment.Description;
 import seedu.address.model.appointment.Duration;
 import seedu.address.model.appointment.Time;
 import seedu.address.model.association.ClientOwnPet;
+import seedu.address.model.person.Person;
+import seedu.address.model.pet.Pet;
 import seedu.address.model.vettechnician.VetTechnician;
 
 //@@author Godxin-functional
@@ -20,6 +24,8 @@ import seedu.address.model.vettechnician.VetTechnician;
 public class XmlAdaptedAppointment {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Appointment's %s field is missing!";
+    public static final String UNKNOWN_VETTECH_MESSAGE_FORMAT =
+            "Appointment refers to an unknown vet technician id %d";
 
     @XmlElement(required = true)
     private String date;
@@ -29,10 +35,12 @@ public class XmlAdaptedAppointment {
     private String duration;
     @XmlElement(required = true)
     private String description;
-    @XmlElement(required = true)
+    @XmlElement
     private XmlAdaptedClientOwnPet association;
-    @XmlElement(required = true)
+    @XmlElement
     private XmlAdaptedPerson vetTech;
+    @XmlElement
+    private Integer vetTechId;
 
     /**
      * Constructs an XmlAdaptedAppointment.
@@ -56,10 +64,8 @@ public class XmlAdaptedAppointment {
      * @param source future changes to this will not affect the created XmlAdaptedAppointment
      */
     public XmlAdaptedAppointment(Appointment source) {
-        date = source.getDate().toString();
-        time = source.getTime().toString();
-        duration = source.getDuration().toString();
-        description = source.getDescription().toString();
+        this(source.getDate().toString(), source.getTime().toString(), source.getDuration().toString(),
+                source.getDescription().toString());
         if (source.getClientOwnPet() != null) {
             association = new XmlAdaptedClientOwnPet(source.getClientOwnPet());
         }
@@ -68,12 +74,45 @@ public class XmlAdaptedAppointment {
         }
     }
 
+    /**
+     * Converts a given Appointment into this class for JAXB use, referring to its client, pet and vet technician
+     * by their ids in {@code personIds} and {@code petIds} instead of copying them.
+     * Any of them without an id is copied in full instead.
+     *
+     * @param source future changes to this will not affect the created XmlAdaptedAppointment
+     */
+    public XmlAdaptedAppointment(Appointment source, Map<Person, Integer> personIds, Map<Pet, Integer> petIds) {
+        this(source.getDate().toString(), source.getTime().toString(), source.getDuration().toString(),
+                source.getDescription().toString());
+        if (source.getClientOwnPet() != null) {
+            association = new XmlAdaptedClientOwnPet(source.getClientOwnPet(), personIds, petIds);
+        }
+        if (source.getVetTechnician() != null) {
+            vetTechId = personIds.get(source.getVetTechnician());
+            if (vetTechId == null) {
+                vetTech = new XmlAdaptedPerson(source.getVetTechnician());
+            }
+        }
+    }
+
     /**
      * Converts this jaxb-friendly adapted appointment object into the model's Appointment object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted appointment
      */
     public Appointment toModelType() throws IllegalValueException {
+        return toModelType(Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted appointment object into the model's Appointment object,
+     * looking up the persons and the pet that are referred to by id in {@code personsById} and {@code petsById}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted appointment,
+     *     or it refers to an unknown id
+     */
+    public Appointment toModelType(Map<Integer, Person> personsById, Map<Integer, Pet> petsById)
+            throws IllegalValueException {
 
         Appointment convertedAppointment;
 
@@ -114,11 +153,17 @@ public class XmlAdaptedAppointment {
         convertedAppointment = new Appointment(date, time, duration, description);
 
         if (this.association != null) {
-            ClientOwnPet cop = association.toModelType();
+            ClientOwnPet cop = association.toModelType(personsById, petsById);
             convertedAppointment.setClientOwnPet(cop);
         }
 
-        if (this.vetTech != null) {
+        if (this.vetTechId != null) {
+            Person referredPerson = personsById.get(vetTechId);
+            if (!(referredPerson instanceof VetTechnician)) {
+                throw new IllegalValueException(String.format(UNKNOWN_VETTECH_MESSAGE_FORMAT, vetTechId));
+            }
+            convertedAppointment.setVetTech((VetTechnician) referredPerson);
+        } else if (this.vetTech != null) {
             VetTechnician vetTech = (VetTechnician) this.vetTech.toModelType();
             convertedAppointment.setVetTech(vetTech);
         }
@@ -126,6 +171,13 @@ public class XmlAdaptedAppointment {
         return convertedAppointment;
     }
 
+    /**
+     * Returns true if this refers to its client, pet and vet technician by id only, without copies of them.
+     */
+    boolean isNormalised() {
+        return vetTech == null && (association == null || association.isNormalised());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,22 +1,37 @@
 package seedu.address.storage;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
 import javax.xml.bind.annotation.XmlElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.association.ClientOwnPet;
 import seedu.address.model.client.Client;
+import seedu.address.model.person.Person;
 import seedu.address.model.pet.Pet;
 
 //@@author jonathanwj-reused
 /**
  * JAXV-friendly version of the ClientOwnPet.
+ *
+ * The client and the pet are either referred to by their ids in the same file, or copied in full as in older files.
  */
 public class XmlAdaptedClientOwnPet {
 
-    @XmlElement(required = true)
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Association's %s field is missing!";
+    public static final String UNKNOWN_CLIENT_MESSAGE_FORMAT = "Association refers to an unknown client id %d";
+    public static final String UNKNOWN_PET_MESSAGE_FORMAT = "Association refers to an unknown pet id %d";
+
+    @XmlElement
     private XmlAdaptedPet pet;
-    @XmlElement(required = true)
+    @XmlElement
     private XmlAdaptedPerson client;
+    @XmlElement
+    private Integer petId;
+    @XmlElement
+    private Integer clientId;
 
     /**
      * Constructs an XmlAdaptedClientOwnPet.
@@ -32,19 +47,86 @@ public class XmlAdaptedClientOwnPet {
         this.client = new XmlAdaptedPerson(association.getClient());
     }
 
+    /**
+     * Constructs an {@code XmlAdaptedClientOwnPet} that refers to its client and pet by their ids in
+     * {@code personIds} and {@code petIds}.
+     * A client or pet without an id is copied in full instead.
+     */
+    public XmlAdaptedClientOwnPet(ClientOwnPet association, Map<Person, Integer> personIds,
+                                  Map<Pet, Integer> petIds) {
+        this.clientId = personIds.get(association.getClient());
+        this.petId = petIds.get(association.getPet());
+        if (clientId == null) {
+            this.client = new XmlAdaptedPerson(association.getClient());
+        }
+        if (petId == null) {
+            this.pet = new XmlAdaptedPet(association.getPet());
+        }
+    }
+
     /**
      * Converts this jaxb-friendly adapted association object into the model's ClientOwnPet object.
      */
     public ClientOwnPet toModelType() throws IllegalValueException {
-        return new ClientOwnPet((Client) client.toModelType(), pet.toModelType());
+        return toModelType(Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted association object into the model's ClientOwnPet object,
+     * looking up the client and the pet that are referred to by id in {@code personsById} and {@code petsById}.
+     *
+     * @throws IllegalValueException if the client or the pet is missing or invalid, or refers to an unknown id
+     */
+    public ClientOwnPet toModelType(Map<Integer, Person> personsById, Map<Integer, Pet> petsById)
+            throws IllegalValueException {
+        return new ClientOwnPet(getClient(personsById), getPet(petsById));
     }
 
-    public Pet getPet() throws IllegalValueException {
+    /**
+     * Returns the pet of this association, looking it up in {@code petsById} if it is referred to by id.
+     */
+    private Pet getPet(Map<Integer, Pet> petsById) throws IllegalValueException {
+        if (petId != null) {
+            Pet referredPet = petsById.get(petId);
+            if (referredPet == null) {
+                throw new IllegalValueException(String.format(UNKNOWN_PET_MESSAGE_FORMAT, petId));
+            }
+            return referredPet;
+        }
+        if (pet == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Pet.class.getSimpleName()));
+        }
         return pet.toModelType();
     }
 
-    public Client getClient() throws IllegalValueException {
-        return (Client) client.toModelType();
+    /**
+     * Returns the client of this association, looking it up in {@code personsById} if it is referred to by id.
+     */
+    private Client getClient(Map<Integer, Person> personsById) throws IllegalValueException {
+        if (clientId != null) {
+            Person referredPerson = personsById.get(clientId);
+            if (!(referredPerson instanceof Client)) {
+                throw new IllegalValueException(String.format(UNKNOWN_CLIENT_MESSAGE_FORMAT, clientId));
+            }
+            return (Client) referredPerson;
+        }
+        if (client == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Client.class.getSimpleName()));
+        }
+        Person convertedClient = client.toModelType();
+        if (!(convertedClient instanceof Client)) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Client.class.getSimpleName()));
+        }
+        return (Client) convertedClient;
+    }
+
+    /**
+     * Returns true if this refers to its client and pet by id only, without copies of them.
+     */
+    boolean isNormalised() {
+        return client == null && pet == null;
     }
 
     @Override
@@ -58,6 +140,9 @@ public class XmlAdaptedClientOwnPet {
         }
 
         XmlAdaptedClientOwnPet otherAdapted = (XmlAdaptedClientOwnPet) other;
-        return pet.equals(otherAdapted.pet) && client.equals(otherAdapted.client);
+        return Objects.equals(pet, otherAdapted.pet)
+                && Objects.equals(client, otherAdapted.client)
+                && Objects.equals(petId, otherAdapted.petId)
+                && Objects.equals(clientId, otherAdapted.clientId);
     }
 }
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElements;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * JAXB-friendly record of a change to one list of an address book, in which {@code removed} elements starting at
+ * position {@code from} were replaced by the {@code added} elements.
+ */
+public class XmlAdaptedListChange {
+
+    public static final String INVALID_CHANGE_MESSAGE_FORMAT =
+            "Journal replaces %d element(s) from position %d of a list of %d";
+    public static final String WRONG_ELEMENT_MESSAGE_FORMAT = "Journal adds a %s to a list of %s";
+
+    @XmlAttribute(required = true)
+    private int from;
+    @XmlAttribute(required = true)
+    private int removed;
+    @XmlElements({
+        @XmlElement(name = "person", type = XmlAdaptedPerson.class),
+        @XmlElement(name = "tag", type = XmlAdaptedTag.class),
+        @XmlElement(name = "pet", type = XmlAdaptedPet.class),
+        @XmlElement(name = "appointment", type = XmlAdaptedAppointment.class),
+        @XmlElement(name = "recurringAppointment", type = XmlAdaptedRecurringAppointment.class),
+        @XmlElement(name = "association", type = XmlAdaptedClientOwnPet.class)
+    })
+    private List<Object> added = new ArrayList<>();
+
+    /**
+     * Constructs an XmlAdaptedListChange.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedListChange() {}
+
+    private XmlAdaptedListChange(int from, int removed, List<Object> added) {
+        this.from = from;
+        this.removed = removed;
+        this.added = added;
+    }
+
+    /**
+     * Returns the change that turns {@code before} into {@code after}, with the added elements converted by
+     * {@code adapter}, or null if the lists hold the same elements.
+     * Elements are compared by identity, and only the elements between the longest unchanged beginning and end
+     * of the lists are recorded.
+     */
+    public static <T> XmlAdaptedListChange between(List<? extends T> before, List<? extends T> after,
+                                                   Function<T, Object> adapter) {
+        int maxUnchanged = Math.min(before.size(), after.size());
+        int unchangedBeginning = 0;
+        while (unchangedBeginning < maxUnchanged && before.get(unchangedBeginning) == after.get(unchangedBeginning)) {
+            unchangedBeginning++;
+        }
+        int unchangedEnd = 0;
+        while (unchangedEnd < maxUnchanged - unchangedBeginning
+                && before.get(before.size() - 1 - unchangedEnd) == after.get(after.size() - 1 - unchangedEnd)) {
+            unchangedEnd++;
+        }
+        int removed = before.size() - unchangedBeginning - unchangedEnd;
+        List<Object> added = new ArrayList<>();
+        for (int i = unchangedBeginning; i < after.size() - unchangedEnd; i++) {
+            added.add(adapter.apply(after.get(i)));
+        }
+        return removed == 0 && added.isEmpty() ? null : new XmlAdaptedListChange(unchangedBeginning, removed, added);
+    }
+
+    /**
+     * Makes this change to {@code list}, whose elements are of type {@code elementType}.
+     *
+     * @throws IllegalValueException if the change does not fit in {@code list}, or adds an element of another type.
+     */
+    public <T> void applyTo(List<T> list, Class<T> elementType) throws IllegalValueException {
+        if (from < 0 || removed < 0 || from + removed > list.size()) {
+            throw new IllegalValueException(String.format(INVALID_CHANGE_MESSAGE_FORMAT, removed, from, list.size()));
+        }
+        List<T> addedElements = new ArrayList<>();
+        for (Object element : added) {
+            if (!elementType.isInstance(element)) {
+                throw new IllegalValueException(String.format(WRONG_ELEMENT_MESSAGE_FORMAT,
+                        element.getClass().getSimpleName(), elementType.getSimpleName()));
+            }
+            addedElements.add(elementType.cast(element));
+        }
+        List<T> replaced = list.subList(from, from + removed);
+        replaced.clear();
+        replaced.addAll(addedElements);
+    }
+}
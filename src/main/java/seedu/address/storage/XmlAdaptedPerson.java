@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -43,6 +44,9 @@ public class XmlAdaptedPerson {
     @XmlElement
     private List<XmlAdaptedTag> tagged = new ArrayList<>();
 
+    @XmlAttribute
+    private Integer id;
+
     /**
      * Constructs an XmlAdaptedPerson.
      * This is the no-arg constructor that is required by JAXB.
@@ -65,11 +69,12 @@ public class XmlAdaptedPerson {
     }
 
     /**
-     * Converts a given Person into this class for JAXB use.
+     * Converts a given Person into this class for JAXB use, keeping its id if it has one.
      *
      * @param source future changes to this will not affect the created XmlAdaptedPerson
      */
     public XmlAdaptedPerson(Person source) {
+        id = source.getId() == Person.NO_ID ? null : source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -85,6 +90,22 @@ public class XmlAdaptedPerson {
         }
     }
 
+    /**
+     * Converts a given Person into this class for JAXB use, with {@code id} as the id that appointments and
+     * associations in the same file use to refer to it.
+     */
+    public XmlAdaptedPerson(Person source, int id) {
+        this(source);
+        this.id = id;
+    }
+
+    /**
+     * Returns the id of this person, or null if it has none.
+     */
+    Integer getId() {
+        return id;
+    }
+
     //@@author jonathanwj-reused
     /**
      * Converts this jaxb-friendly adapted person object into the model's Person object.
@@ -142,10 +163,11 @@ public class XmlAdaptedPerson {
         }
         final PersonRole role = new PersonRole(this.role);
 
+        final int id = this.id == null ? Person.NO_ID : this.id;
         if (role.equals(PersonRole.CLIENT_ROLE)) {
-            convertedPerson = new Client(name, phone, email, address, tags);
+            convertedPerson = new Client(id, name, phone, email, address, tags);
         } else {
-            convertedPerson = new VetTechnician(name, phone, email, address, tags);
+            convertedPerson = new VetTechnician(id, name, phone, email, address, tags);
         }
         return convertedPerson;
     }
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -33,6 +34,9 @@ public class XmlAdaptedPet {
     @XmlElement(required = true)
     private List<XmlAdaptedTag> tagged = new ArrayList<>();
 
+    @XmlAttribute
+    private Integer id;
+
     /**
      * Construct an XmlAdaptedPet
      * Thisis the no-arg constructor.
@@ -50,11 +54,12 @@ public class XmlAdaptedPet {
     }
 
     /**
-     * Convers a given Pet into a class for JAXB
+     * Convers a given Pet into a class for JAXB, keeping its id if it has one
      *
      * @param source future changes will not affect the created XmladaptedPet
      */
     public XmlAdaptedPet(Pet source) {
+        id = source.getId() == Pet.NO_ID ? null : source.getId();
         petName = source.getPetName().toString();
         petAge = source.getPetAge().value;
         petGender = source.getPetGender().toString();
@@ -64,6 +69,22 @@ public class XmlAdaptedPet {
         }
     }
 
+    /**
+     * Converts a given Pet into a class for JAXB, with {@code id} as the id that appointments and
+     * associations in the same file use to refer to it.
+     */
+    public XmlAdaptedPet(Pet source, int id) {
+        this(source);
+        this.id = id;
+    }
+
+    /**
+     * Returns the id of this pet, or null if it has none.
+     */
+    Integer getId() {
+        return id;
+    }
+
     /**
      * Convers this to model pet's object
      *
@@ -107,7 +128,7 @@ public class XmlAdaptedPet {
 
         final Set<Tag> tags = new HashSet<>(petTags);
 
-        convertedPet = new Pet(petName, petAge, petGender, tags);
+        convertedPet = new Pet(id == null ? Pet.NO_ID : id, petName, petAge, petGender, tags);
 
         return convertedPet;
     }
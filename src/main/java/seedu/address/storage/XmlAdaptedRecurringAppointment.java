@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import java.util.Objects;
+
+import javax.xml.bind.annotation.XmlElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.RecurringAppointment;
+
+/**
+ * JAXB-friendly version of the RecurringAppointment.
+ */
+public class XmlAdaptedRecurringAppointment {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Recurring appointment's %s field is missing!";
+
+    @XmlElement(required = true)
+    private XmlAdaptedAppointment first;
+    @XmlElement(required = true)
+    private Integer interval;
+    @XmlElement(required = true)
+    private Integer occurrences;
+
+    /**
+     * Constructs an XmlAdaptedRecurringAppointment.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedRecurringAppointment() {}
+
+    /**
+     * Constructs an {@code XmlAdaptedRecurringAppointment} with the given details.
+     */
+    public XmlAdaptedRecurringAppointment(String date, String time, String duration, String description,
+                                          Integer interval, Integer occurrences) {
+        this.first = new XmlAdaptedAppointment(date, time, duration, description);
+        this.interval = interval;
+        this.occurrences = occurrences;
+    }
+
+    /**
+     * Converts a given RecurringAppointment into this class for JAXB use.
+     *
+     * @param source future changes to this will not affect the created XmlAdaptedRecurringAppointment
+     */
+    public XmlAdaptedRecurringAppointment(RecurringAppointment source) {
+        this(source.getDate().toString(), source.getTime().toString(), source.getDuration().toString(),
+                source.getDescription().toString(), source.getInterval(), source.getOccurrences());
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted recurring appointment object into the model's RecurringAppointment object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted recurring appointment
+     */
+    public RecurringAppointment toModelType() throws IllegalValueException {
+        if (this.first == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "first"));
+        }
+        // the first occurrence has the same date, time, duration and description constraints as an appointment
+        final Appointment firstOccurrence = first.toModelType();
+        final Date date = firstOccurrence.getDate();
+
+        if (this.interval == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "interval"));
+        }
+        if (!RecurringAppointment.isValidInterval(this.interval)) {
+            throw new IllegalValueException(RecurringAppointment.MESSAGE_INTERVAL_CONSTRAINTS);
+        }
+
+        if (this.occurrences == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "occurrences"));
+        }
+        if (!RecurringAppointment.isValidOccurrences(this.occurrences)) {
+            throw new IllegalValueException(RecurringAppointment.MESSAGE_OCCURRENCES_CONSTRAINTS);
+        }
+        if (!RecurringAppointment.isValidSpan(date, this.interval, this.occurrences)) {
+            throw new IllegalValueException(RecurringAppointment.MESSAGE_SPAN_CONSTRAINTS);
+        }
+
+        return new RecurringAppointment(date, firstOccurrence.getTime(), firstOccurrence.getDuration(),
+                firstOccurrence.getDescription(), interval, occurrences);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedRecurringAppointment)) {
+            return false;
+        }
+
+        XmlAdaptedRecurringAppointment otherRecurring = (XmlAdaptedRecurringAppointment) other;
+        return Objects.equals(first, otherRecurring.first)
+                && Objects.equals(interval, otherRecurring.interval)
+                && Objects.equals(occurrences, otherRecurring.occurrences);
+    }
+}
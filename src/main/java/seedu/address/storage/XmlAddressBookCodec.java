@@ -0,0 +1,403 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.RecurringAppointment;
+import seedu.address.model.association.ClientOwnPet;
+import seedu.address.model.person.Person;
+import seedu.address.model.pet.Pet;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes address books in the XML format of {@link XmlSerializableAddressBook} one record at a time,
+ * straight from and into the model, so the whole file is never held in memory.
+ *
+ * Files written here are marked with a format version and hold their records in the order
+ * {@link AddressBookLoader} needs them, so they can be read in a single pass.
+ * Since version {@value #NORMALISED_VERSION}, appointments and associations only refer to persons and pets by id,
+ * so every person and pet is written once. Older files, which may hold copies of them, can still be read, and
+ * files without a version may hold their records in any order.
+ * Files written here are also marked with their checkpoint generation, which tells them apart from the files
+ * saved before them, so that a journal can be tied to the file it was recorded against.
+ */
+public class XmlAddressBookCodec {
+
+    public static final int FORMAT_VERSION = 3;
+    /** The version of files written before versions were recorded. */
+    public static final int UNVERSIONED = 1;
+    /** The checkpoint generation of files written before generations were recorded. */
+    public static final long NO_GENERATION = 0;
+
+    private static final int NORMALISED_VERSION = 3;
+    private static final List<String> SUPPORTED_VERSIONS = Arrays.asList("2", "3");
+
+    private static final String ROOT = "addressbook";
+    private static final String VERSION = "version";
+    private static final String GENERATION = "generation";
+    private static final String TAGS = "tags";
+    private static final String PERSONS = "persons";
+    private static final String PETS = "pets";
+    private static final String RECURRING_APPOINTMENTS = "recurringAppointments";
+    private static final String APPOINTMENTS = "appointments";
+    private static final String ASSOCIATIONS = "clientPetAssociations";
+    /** The order records are written in, and must be read in. */
+    private static final List<String> SECTIONS =
+            Arrays.asList(TAGS, PERSONS, PETS, RECURRING_APPOINTMENTS, APPOINTMENTS, ASSOCIATIONS);
+
+    private static final String MESSAGE_NOT_ADDRESS_BOOK = "Root element is not <" + ROOT + ">";
+    private static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported format version %1$s";
+    private static final String MESSAGE_INVALID_GENERATION = "Invalid checkpoint generation %1$s";
+    private static final String MESSAGE_OUT_OF_ORDER = "<%1$s> comes after the records that depend on it";
+    private static final String MESSAGE_NOT_NORMALISED = "<%1$s> holds a copy of a person or pet instead of its id";
+    private static final String MESSAGE_UNKNOWN_REFERENCE =
+            "Cannot write %1$s, which refers to a person or pet that is not in the address book";
+    private static final String RECORD_INDENT = "\n    ";
+
+    /**
+     * Writes {@code addressBook} to {@code file} as checkpoint generation {@code generation}, replacing its contents.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, File file, long generation) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(file);
+
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            XMLStreamWriter writer = XMLOutputFactory.newFactory()
+                    .createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            Marshaller marshaller = getContext().createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+
+            writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            writer.writeCharacters("\n");
+            writer.writeStartElement(ROOT);
+            writer.writeAttribute(VERSION, Integer.toString(FORMAT_VERSION));
+            writer.writeAttribute(GENERATION, Long.toString(generation));
+            writeRecords(writer, marshaller, addressBook);
+            writer.writeCharacters("\n");
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.close();
+        } catch (XMLStreamException | JAXBException e) {
+            throw new IOException("Cannot write address book to " + file, e);
+        }
+    }
+
+    /**
+     * Returns the address book in {@code file}.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not in the expected format.
+     * @throws IllegalValueException if a record in the file breaks the constraints of the model.
+     */
+    public static AddressBook read(File file) throws DataConversionException, IllegalValueException, IOException {
+        requireNonNull(file);
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            XMLStreamReader reader = openRoot(in);
+            try {
+                return readRecords(reader, readVersion(reader));
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the format version of the address book in {@code file}, reading no further than its root element.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not an address book in a supported format.
+     */
+    public static int readFormatVersion(File file) throws DataConversionException, IOException {
+        return readRoot(file, XmlAddressBookCodec::readVersion);
+    }
+
+    /**
+     * Returns the checkpoint generation of the address book in {@code file}, reading no further than its root
+     * element, or {@link #NO_GENERATION} if the file was written before generations were recorded.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not an address book in a supported format.
+     */
+    public static long readGeneration(File file) throws DataConversionException, IOException {
+        return readRoot(file, reader -> {
+            readVersion(reader);
+            String generation = reader.getAttributeValue(null, GENERATION);
+            if (generation == null) {
+                return NO_GENERATION;
+            }
+            try {
+                return Long.parseLong(generation);
+            } catch (NumberFormatException e) {
+                throw new DataConversionException(new XMLStreamException(
+                        String.format(MESSAGE_INVALID_GENERATION, generation), reader.getLocation()));
+            }
+        });
+    }
+
+    /**
+     * Returns what {@code rootReader} reads from the root element of the address book in {@code file}.
+     */
+    private static <T> T readRoot(File file, RootReader<T> rootReader) throws DataConversionException, IOException {
+        requireNonNull(file);
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            XMLStreamReader reader = openRoot(in);
+            try {
+                return rootReader.read(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns a reader of {@code in}, moved to the start of its root element.
+     */
+    private static XMLStreamReader openRoot(InputStream in) throws XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XMLStreamReader reader = factory.createXMLStreamReader(in);
+        reader.nextTag();
+        return reader;
+    }
+
+    /**
+     * Returns the format version of the address book whose root element {@code reader} is at.
+     */
+    private static int readVersion(XMLStreamReader reader) throws DataConversionException {
+        if (!ROOT.equals(reader.getLocalName())) {
+            throw new DataConversionException(new XMLStreamException(MESSAGE_NOT_ADDRESS_BOOK,
+                    reader.getLocation()));
+        }
+        String version = reader.getAttributeValue(null, VERSION);
+        if (version == null) {
+            return UNVERSIONED;
+        }
+        if (!SUPPORTED_VERSIONS.contains(version)) {
+            throw new DataConversionException(new XMLStreamException(
+                    String.format(MESSAGE_UNSUPPORTED_VERSION, version), reader.getLocation()));
+        }
+        return Integer.parseInt(version);
+    }
+
+    /**
+     * Writes every record in {@code addressBook}, in the order of {@link #SECTIONS}.
+     * Persons and pets are written with their ids, and referred to by these ids afterwards.
+     *
+     * @throws IOException if an appointment or association refers to a person or pet that is not in the lists of
+     *     {@code addressBook}, and so has no id.
+     */
+    private static void writeRecords(XMLStreamWriter writer, Marshaller marshaller, ReadOnlyAddressBook addressBook)
+            throws IOException, JAXBException, XMLStreamException {
+        for (Tag tag : addressBook.getTagList()) {
+            writeRecord(writer, marshaller, TAGS, XmlAdaptedTag.class, new XmlAdaptedTag(tag));
+        }
+        Map<Person, Integer> personIds =
+                XmlSerializableAddressBook.idsOf(addressBook.getPersonList(), Person::getId, Person.NO_ID);
+        for (Person person : addressBook.getPersonList()) {
+            writeRecord(writer, marshaller, PERSONS, XmlAdaptedPerson.class,
+                    new XmlAdaptedPerson(person, personIds.get(person)));
+        }
+        Map<Pet, Integer> petIds = XmlSerializableAddressBook.idsOf(addressBook.getPetList(), Pet::getId, Pet.NO_ID);
+        for (Pet pet : addressBook.getPetList()) {
+            writeRecord(writer, marshaller, PETS, XmlAdaptedPet.class, new XmlAdaptedPet(pet, petIds.get(pet)));
+        }
+        for (RecurringAppointment recurringAppointment : addressBook.getRecurringAppointmentList()) {
+            writeRecord(writer, marshaller, RECURRING_APPOINTMENTS, XmlAdaptedRecurringAppointment.class,
+                    new XmlAdaptedRecurringAppointment(recurringAppointment));
+        }
+        for (Appointment appointment : addressBook.getAppointmentList()) {
+            XmlAdaptedAppointment record = new XmlAdaptedAppointment(appointment, personIds, petIds);
+            if (!record.isNormalised()) {
+                throw new IOException(String.format(MESSAGE_UNKNOWN_REFERENCE, appointment));
+            }
+            writeRecord(writer, marshaller, APPOINTMENTS, XmlAdaptedAppointment.class, record);
+        }
+        for (ClientOwnPet association : addressBook.getClientPetAssociations()) {
+            XmlAdaptedClientOwnPet record = new XmlAdaptedClientOwnPet(association, personIds, petIds);
+            if (!record.isNormalised()) {
+                throw new IOException(String.format(MESSAGE_UNKNOWN_REFERENCE, association));
+            }
+            writeRecord(writer, marshaller, ASSOCIATIONS, XmlAdaptedClientOwnPet.class, record);
+        }
+    }
+
+    private static <T> void writeRecord(XMLStreamWriter writer, Marshaller marshaller, String name, Class<T> type,
+                                        T record) throws JAXBException, XMLStreamException {
+        writer.writeCharacters(RECORD_INDENT);
+        marshaller.marshal(new JAXBElement<>(new QName(name), type, record), writer);
+    }
+
+    /**
+     * Reads the records after the start of the root element, up to its end, into a new address book.
+     * Unknown elements are skipped.
+     * Records are converted as they are read, except in files without a version, which may refer to persons and
+     * pets before listing them. The appointments and associations of those files are kept aside until every
+     * person and pet has been read, and are then converted all at once.
+     */
+    private static AddressBook readRecords(XMLStreamReader reader, int version)
+            throws DataConversionException, IllegalValueException, JAXBException, XMLStreamException {
+        Unmarshaller unmarshaller = getContext().createUnmarshaller();
+        AddressBookLoader loader = new AddressBookLoader();
+        List<XmlAdaptedAppointment> appointments = new ArrayList<>();
+        List<XmlAdaptedClientOwnPet> associations = new ArrayList<>();
+        int lastSection = 0;
+        reader.next();
+        for (skipToTag(reader); reader.isStartElement(); skipToTag(reader)) {
+            String name = reader.getLocalName();
+            int section = SECTIONS.indexOf(name);
+            if (section < 0) {
+                skipElement(reader);
+                continue;
+            }
+            if (version != UNVERSIONED && section < lastSection) {
+                throw new DataConversionException(new XMLStreamException(String.format(MESSAGE_OUT_OF_ORDER, name),
+                        reader.getLocation()));
+            }
+            lastSection = section;
+            Location location = reader.getLocation();
+            if (name.equals(APPOINTMENTS)) {
+                XmlAdaptedAppointment appointment =
+                        unmarshaller.unmarshal(reader, XmlAdaptedAppointment.class).getValue();
+                checkNormalised(version, appointment.isNormalised(), name, location);
+                if (version == UNVERSIONED) {
+                    appointments.add(appointment);
+                } else {
+                    loader.add(appointment);
+                }
+            } else if (name.equals(ASSOCIATIONS)) {
+                XmlAdaptedClientOwnPet association =
+                        unmarshaller.unmarshal(reader, XmlAdaptedClientOwnPet.class).getValue();
+                checkNormalised(version, association.isNormalised(), name, location);
+                if (version == UNVERSIONED) {
+                    associations.add(association);
+                } else {
+                    loader.add(association);
+                }
+            } else {
+                readRecord(reader, unmarshaller, name, loader);
+            }
+        }
+        loader.addAppointments(appointments);
+        loader.addAssociations(associations);
+        return loader.getAddressBook();
+    }
+
+    /**
+     * Throws a {@code DataConversionException} if the record {@code name} at {@code location} is not normalised,
+     * but the file is in a version in which every record is.
+     */
+    private static void checkNormalised(int version, boolean isNormalised, String name, Location location)
+            throws DataConversionException {
+        if (version >= NORMALISED_VERSION && !isNormalised) {
+            throw new DataConversionException(new XMLStreamException(String.format(MESSAGE_NOT_NORMALISED, name),
+                    location));
+        }
+    }
+
+    /**
+     * Reads the tag, person, pet or recurring appointment starting at the current element of {@code reader},
+     * and adds it to {@code loader}.
+     * Leaves {@code reader} just after the end of the record.
+     */
+    private static void readRecord(XMLStreamReader reader, Unmarshaller unmarshaller, String name,
+                                   AddressBookLoader loader) throws IllegalValueException, JAXBException {
+        switch (name) {
+        case TAGS:
+            loader.add(unmarshaller.unmarshal(reader, XmlAdaptedTag.class).getValue());
+            break;
+        case PERSONS:
+            loader.add(unmarshaller.unmarshal(reader, XmlAdaptedPerson.class).getValue());
+            break;
+        case PETS:
+            loader.add(unmarshaller.unmarshal(reader, XmlAdaptedPet.class).getValue());
+            break;
+        case RECURRING_APPOINTMENTS:
+            loader.add(unmarshaller.unmarshal(reader, XmlAdaptedRecurringAppointment.class).getValue());
+            break;
+        default:
+            throw new AssertionError("Unknown record " + name);
+        }
+    }
+
+    /**
+     * Moves {@code reader} to the next start or end of an element, unless it is already at one.
+     */
+    private static void skipToTag(XMLStreamReader reader) throws XMLStreamException {
+        while (!reader.isStartElement() && !reader.isEndElement()) {
+            reader.next();
+        }
+    }
+
+    /**
+     * Moves {@code reader} from the start of an element to just after its end.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        for (int depth = 1; depth > 0;) {
+            reader.next();
+            if (reader.isStartElement()) {
+                depth++;
+            } else if (reader.isEndElement()) {
+                depth--;
+            }
+        }
+        reader.next();
+    }
+
+    private static JAXBContext getContext() throws JAXBException {
+        return XmlUtil.getContext(XmlSerializableAddressBook.class);
+    }
+
+    /**
+     * Reads an attribute of the root element that a reader is at.
+     */
+    @FunctionalInterface
+    private interface RootReader<T> {
+        T read(XMLStreamReader reader) throws DataConversionException;
+    }
+}
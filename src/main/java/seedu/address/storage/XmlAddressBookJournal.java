@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+
+/**
+ * A journal of the changes made to an address book since it was last saved in full as an XML file, kept in a file
+ * next to it.
+ *
+ * Each change is appended as a single line of XML and synced to the disk, so saving a change costs about as much
+ * as the change itself. A change that was cut short by a crash can only be the last line, and is skipped.
+ * Each change is marked with the checkpoint generation of the file it was recorded against. Changes left over from
+ * an earlier generation, by a crash between saving the file in full and clearing the journal, are skipped as well.
+ */
+public class XmlAddressBookJournal {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(XmlAddressBookJournal.class);
+
+    private final File file;
+    private int length = -1;
+
+    /**
+     * Creates the journal of the address book saved at {@code addressBookFilePath}.
+     */
+    public XmlAddressBookJournal(String addressBookFilePath) {
+        requireNonNull(addressBookFilePath);
+        file = new File(addressBookFilePath + JOURNAL_FILE_SUFFIX);
+    }
+
+    public String getJournalFilePath() {
+        return file.getPath();
+    }
+
+    /**
+     * Appends {@code change}, recorded against the file of checkpoint generation {@code generation}, to the journal.
+     */
+    public void append(XmlAdaptedAddressBookChange change, long generation) throws IOException {
+        requireNonNull(change);
+        change.setGeneration(generation);
+        int lengthBefore = getLength();
+        FileUtil.createIfMissing(file);
+        byte[] record = (toLine(change) + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            out.write(record);
+            out.getFD().sync();
+        }
+        length = lengthBefore + 1;
+    }
+
+    /**
+     * Returns the changes in the journal that were recorded against the file of checkpoint generation
+     * {@code generation}, in the order they were made.
+     *
+     * @throws DataConversionException if a change other than the last one is not in the expected format.
+     */
+    public List<XmlAdaptedAddressBookChange> readChanges(long generation) throws DataConversionException,
+            IOException {
+        List<XmlAdaptedAddressBookChange> changes = new ArrayList<>();
+        if (!file.exists()) {
+            return changes;
+        }
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        lines.removeIf(String::isEmpty);
+        int skipped = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            try {
+                XmlAdaptedAddressBookChange change = fromLine(lines.get(i));
+                if (change.getGeneration() == generation) {
+                    changes.add(change);
+                } else {
+                    skipped++;
+                }
+            } catch (JAXBException e) {
+                if (i < lines.size() - 1) {
+                    throw new DataConversionException(e);
+                }
+                logger.warning("Skipping the last change in " + file + ", which was not written in full");
+            }
+        }
+        if (skipped > 0) {
+            logger.warning("Skipping " + skipped + " changes in " + file + ", which were recorded against an "
+                    + "earlier save of the address book");
+        }
+        length = changes.size() + skipped;
+        return changes;
+    }
+
+    /**
+     * Returns the number of changes in the journal.
+     */
+    public int getLength() throws IOException {
+        if (length < 0) {
+            length = 0;
+            if (file.exists()) {
+                try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                    length = (int) reader.lines().filter(line -> !line.isEmpty()).count();
+                }
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Removes every change from the journal, once the address book has been saved in full.
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(file.toPath());
+        length = 0;
+    }
+
+    /**
+     * Returns {@code change} as a line of XML.
+     * Line breaks within values are written as character references, which read back the same.
+     */
+    private static String toLine(XmlAdaptedAddressBookChange change) {
+        try {
+            Marshaller marshaller = XmlUtil.getContext(XmlAdaptedAddressBookChange.class).createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            StringWriter writer = new StringWriter();
+            marshaller.marshal(change, writer);
+            return writer.toString().replace("\r", "&#13;").replace("\n", "&#10;");
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage());
+        }
+    }
+
+    private static XmlAdaptedAddressBookChange fromLine(String line) throws JAXBException {
+        return (XmlAdaptedAddressBookChange) XmlUtil.getContext(XmlAdaptedAddressBookChange.class)
+                .createUnmarshaller().unmarshal(new StringReader(line));
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -19,6 +22,8 @@ import seedu.address.model.ReadOnlyAddressBook;
  */
 public class XmlAddressBookStorage implements AddressBookStorage {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
     private static final Logger logger = LogsCenter.getLogger(XmlAddressBookStorage.class);
 
     private String filePath;
@@ -38,11 +43,12 @@ public class XmlAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}
+     * Any changes in the journal next to the file are made to the address book in it.
      * @param filePath location of the data. Cannot be null
-     * @throws DataConversionException if the file is not in the correct format.
+     * @throws DataConversionException if the file or its journal is not in the correct format.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
-                                                                                 FileNotFoundException {
+                                                                                 IOException {
         requireNonNull(filePath);
 
         File addressBookFile = new File(filePath);
@@ -52,8 +58,17 @@ public class XmlAddressBookStorage implements AddressBookStorage {
             return Optional.empty();
         }
 
-        XmlSerializableAddressBook xmlAddressBook = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
+        long generation = XmlAddressBookCodec.readGeneration(addressBookFile);
+        List<XmlAdaptedAddressBookChange> changes = new XmlAddressBookJournal(filePath).readChanges(generation);
         try {
+            if (changes.isEmpty()) {
+                return Optional.of(XmlAddressBookCodec.read(addressBookFile));
+            }
+            // changes are recorded against the records in the file, so every record is needed to replay them
+            XmlSerializableAddressBook xmlAddressBook = XmlFileStorage.loadDataFromSaveFile(addressBookFile);
+            for (XmlAdaptedAddressBookChange change : changes) {
+                xmlAddressBook.apply(change);
+            }
             return Optional.of(xmlAddressBook.toModelType());
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + addressBookFile + ": " + ive.getMessage());
@@ -68,6 +83,10 @@ public class XmlAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * The address book is written to a temporary file which then replaces the file, so a save cut short leaves the
+     * file as it was. The journal next to the file is cleared, as the changes in it are saved in the file as well.
+     * The file is written as the checkpoint generation after the one it replaces, so changes left in the journal by
+     * a crash before it is cleared are not replayed against the new file.
      * @param filePath location of the data. Cannot be null
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
@@ -75,8 +94,42 @@ public class XmlAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         File file = new File(filePath);
-        FileUtil.createIfMissing(file);
-        XmlFileStorage.saveDataToFile(file, new XmlSerializableAddressBook(addressBook));
+        File tempFile = new File(filePath + TEMP_FILE_SUFFIX);
+        long generation = nextGeneration(file);
+        FileUtil.createIfMissing(tempFile);
+        XmlAddressBookCodec.write(addressBook, tempFile, generation);
+        try {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.fine("Cannot replace " + file + " atomically, replacing it as a separate step");
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        new XmlAddressBookJournal(filePath).clear();
     }
 
+    /**
+     * Returns the checkpoint generation to save {@code file} as, which is after the generation of the file it
+     * replaces.
+     * The journal next to a file that is missing or cannot be read can never be replayed, so it is cleared first,
+     * leaving no changes that the new file could be mistaken for.
+     */
+    private static long nextGeneration(File file) throws IOException {
+        try {
+            if (file.exists()) {
+                return XmlAddressBookCodec.readGeneration(file) + 1;
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Cannot read the checkpoint generation of " + file + ": " + e.getMessage());
+        }
+        new XmlAddressBookJournal(file.getPath()).clear();
+        return XmlAddressBookCodec.NO_GENERATION + 1;
+    }
+
+    /**
+     * Does nothing, as every save writes the whole address book.
+     */
+    @Override
+    public void checkpoint() {}
+
 }
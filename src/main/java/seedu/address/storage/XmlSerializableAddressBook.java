@@ -1,7 +1,12 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -10,22 +15,19 @@ import javax.xml.bind.annotation.XmlRootElement;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.appointment.exceptions.AppointmentCloseToNextException;
-import seedu.address.model.appointment.exceptions.AppointmentCloseToPreviousException;
-import seedu.address.model.association.exceptions.ClientAlreadyOwnsPetException;
-import seedu.address.model.association.exceptions.PetAlreadyHasOwnerException;
+import seedu.address.model.person.Person;
+import seedu.address.model.pet.Pet;
 
 
 /**
  * An Immutable AddressBook that is serializable to XML format
+ *
+ * Persons and pets are written with their ids, by which appointments and associations refer to them.
+ * Older files, in which appointments and associations hold full copies of them, can still be read.
  */
 @XmlRootElement(name = "addressbook")
 public class XmlSerializableAddressBook {
 
-    private static final String CLIENT_ALREADY_OWNS_PET = "Client already owns pet";
-    private static final String PET_ALREADY_HAS_OWNER = "Pet already has owner";
-    private static final String APPOINTMENT_CLOSE_PREVIOUS = "New appointment is too close to previous one";
-    private static final String APPOINTMENT_CLOSE_NEXT = "New appointment is too close to next one";
     @XmlElement
     private List<XmlAdaptedPerson> persons;
     @XmlElement
@@ -35,6 +37,8 @@ public class XmlSerializableAddressBook {
     @XmlElement
     private List<XmlAdaptedAppointment> appointments;
     @XmlElement
+    private List<XmlAdaptedRecurringAppointment> recurringAppointments;
+    @XmlElement
     private List<XmlAdaptedClientOwnPet> clientPetAssociations;
 
     /**
@@ -46,6 +50,7 @@ public class XmlSerializableAddressBook {
         tags = new ArrayList<>();
         pets = new ArrayList<>();
         appointments = new ArrayList<>();
+        recurringAppointments = new ArrayList<>();
         clientPetAssociations = new ArrayList<>();
     }
 
@@ -54,13 +59,44 @@ public class XmlSerializableAddressBook {
      */
     public XmlSerializableAddressBook(ReadOnlyAddressBook src) {
         this();
-        persons.addAll(src.getPersonList().stream().map(XmlAdaptedPerson::new).collect(Collectors.toList()));
+        Map<Person, Integer> personIds = idsOf(src.getPersonList(), Person::getId, Person.NO_ID);
+        for (Person person : src.getPersonList()) {
+            persons.add(new XmlAdaptedPerson(person, personIds.get(person)));
+        }
         tags.addAll(src.getTagList().stream().map(XmlAdaptedTag::new).collect(Collectors.toList()));
-        pets.addAll(src.getPetList().stream().map(XmlAdaptedPet::new).collect(Collectors.toList()));
-        appointments.addAll(src.getAppointmentList().stream().map(XmlAdaptedAppointment::new).collect(
-                Collectors.toList()));
-        clientPetAssociations.addAll(src.getClientPetAssociations().stream().map(XmlAdaptedClientOwnPet::new).collect(
-                Collectors.toList()));
+        Map<Pet, Integer> petIds = idsOf(src.getPetList(), Pet::getId, Pet.NO_ID);
+        for (Pet pet : src.getPetList()) {
+            pets.add(new XmlAdaptedPet(pet, petIds.get(pet)));
+        }
+        appointments.addAll(src.getAppointmentList().stream()
+                .map(appointment -> new XmlAdaptedAppointment(appointment, personIds, petIds))
+                .collect(Collectors.toList()));
+        recurringAppointments.addAll(src.getRecurringAppointmentList().stream()
+                .map(XmlAdaptedRecurringAppointment::new).collect(Collectors.toList()));
+        clientPetAssociations.addAll(src.getClientPetAssociations().stream()
+                .map(association -> new XmlAdaptedClientOwnPet(association, personIds, petIds))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the ids to write {@code entities} under, by entity.
+     * These are the ids of the entities in the model, so that they stay the same from one save to the next.
+     * If some entity has no id, or shares it with another, as in address books not built by an {@code AddressBook},
+     * the entities are numbered in order instead.
+     */
+    static <T> Map<T, Integer> idsOf(List<? extends T> entities, ToIntFunction<? super T> idOf, int noId) {
+        Map<T, Integer> ids = new HashMap<>();
+        Set<Integer> usedIds = new HashSet<>();
+        for (T entity : entities) {
+            int id = idOf.applyAsInt(entity);
+            if (id <= noId || !usedIds.add(id)) {
+                ids.clear();
+                entities.forEach(numbered -> ids.put(numbered, ids.size() + 1));
+                return ids;
+            }
+            ids.put(entity, id);
+        }
+        return ids;
     }
 
     /**
@@ -70,37 +106,23 @@ public class XmlSerializableAddressBook {
      * {@code XmlAdaptedPerson} or {@code XmlAdaptedTag}.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (XmlAdaptedTag t : tags) {
-            addressBook.addTag(t.toModelType());
-        }
-
-        for (XmlAdaptedPerson p : persons) {
-            addressBook.addPerson(p.toModelType());
-        }
+        AddressBookLoader loader = new AddressBookLoader();
+        loader.addTags(tags);
+        loader.addPersons(persons);
+        loader.addPets(pets);
+        loader.addRecurringAppointments(recurringAppointments);
+        loader.addAppointments(appointments);
+        loader.addAssociations(clientPetAssociations);
+        return loader.getAddressBook();
+    }
 
-        for (XmlAdaptedPet pet : pets) {
-            addressBook.addPet(pet.toModelType());
-        }
-        for (XmlAdaptedAppointment appointment : appointments) {
-            try {
-                addressBook.scheduleAppointment(appointment.toModelType());
-            } catch (AppointmentCloseToPreviousException ape) {
-                throw new IllegalValueException(APPOINTMENT_CLOSE_PREVIOUS);
-            } catch (AppointmentCloseToNextException ape) {
-                throw new IllegalValueException(APPOINTMENT_CLOSE_NEXT);
-            }
-        }
-        for (XmlAdaptedClientOwnPet association : clientPetAssociations) {
-            try {
-                addressBook.addPetToClient(association.getPet(), association.getClient());
-            } catch (ClientAlreadyOwnsPetException e) {
-                throw new IllegalValueException(CLIENT_ALREADY_OWNS_PET);
-            } catch (PetAlreadyHasOwnerException e) {
-                throw new IllegalValueException(PET_ALREADY_HAS_OWNER);
-            }
-        }
-        return addressBook;
+    /**
+     * Makes the changes in {@code change}, which were recorded in a journal after this address book was saved.
+     *
+     * @throws IllegalValueException if a change does not fit in its list.
+     */
+    public void apply(XmlAdaptedAddressBookChange change) throws IllegalValueException {
+        change.applyTo(persons, tags, pets, appointments, recurringAppointments, clientPetAssociations);
     }
 
     @Override
@@ -118,6 +140,7 @@ public class XmlSerializableAddressBook {
                 && tags.equals(otherAb.tags)
                 && pets.equals(otherAb.pets)
                 && appointments.equals(otherAb.appointments)
+                && recurringAppointments.equals(otherAb.recurringAppointments)
                 && clientPetAssociations.equals(otherAb.clientPetAssociations);
     }
 }
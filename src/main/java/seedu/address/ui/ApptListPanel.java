@@ -38,23 +38,19 @@ public class ApptListPanel extends UiPart<Region> {
         ObservableList<ApptDayPanelCard> mappedList = FXCollections.observableArrayList();
         Appointment lastAppt = null;
         int startIndex = 0;
-        int endIndex;
+        int endIndex = 0;
 
         for (Appointment currAppt : apptList) {
             if (lastAppt != null && !currAppt.getDate().equals(lastAppt.getDate())) {
-                endIndex = apptList.indexOf(currAppt);
-
                 ObservableList<Appointment> apptDayList =
                         FXCollections.observableList(apptList.subList(startIndex, endIndex));
                 mappedList.add(new ApptDayPanelCard(apptDayList, lastAppt.getDate().toString(), startIndex));
 
                 startIndex = endIndex;
-                lastAppt = currAppt;
-            } else {
-                lastAppt = currAppt;
             }
+            lastAppt = currAppt;
+            endIndex++;
         }
-        endIndex = apptList.size();
         ObservableList<Appointment> apptDayList = FXCollections.observableList(apptList.subList(startIndex, endIndex));
         mappedList.add(new ApptDayPanelCard(apptDayList, apptList.get(endIndex - 1).getDate().toString(), startIndex));
 
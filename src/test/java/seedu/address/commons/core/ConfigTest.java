@@ -16,7 +16,10 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "App title : Address App\n"
                 + "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Undo limit : 100\n"
+                + "Undo byte budget : 33554432\n"
+                + "Save debounce : 200";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
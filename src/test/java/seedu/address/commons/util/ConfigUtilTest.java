@@ -76,6 +76,9 @@ public class ConfigUtilTest {
         config.setAppTitle("Typical App Title");
         config.setLogLevel(Level.INFO);
         config.setUserPrefsFilePath("C:\\preferences.json");
+        config.setUndoLimit(20);
+        config.setUndoByteBudget(1048576);
+        config.setSaveDebounce(50);
         return config;
     }
 
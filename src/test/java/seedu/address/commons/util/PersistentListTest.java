@@ -0,0 +1,84 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b", "c"));
+
+    @Test
+    public void of_keepsIterationOrder() {
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+        assertEquals(3, list.size());
+        assertEquals("b", list.get(1));
+    }
+
+    @Test
+    public void plus_leavesOriginalUnchanged() {
+        assertEquals(Arrays.asList("a", "d", "b", "c"), list.plus(1, "d"));
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+    }
+
+    @Test
+    public void minus_leavesOriginalUnchanged() {
+        assertEquals(Arrays.asList("a", "c"), list.minus(1));
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+    }
+
+    @Test
+    public void with_leavesOriginalUnchanged() {
+        assertEquals(Arrays.asList("a", "b", "d"), list.with(2, "d"));
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        list.get(3);
+    }
+
+    @Test
+    public void add_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        list.add("d");
+    }
+
+    @Test
+    public void randomChanges_matchArrayList() {
+        Random random = new Random(0);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            }
+        }
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+}
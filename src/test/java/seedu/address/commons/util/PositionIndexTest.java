@@ -0,0 +1,69 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class PositionIndexTest {
+
+    private final List<String> list = new ArrayList<>(Arrays.asList("a", "b", "c"));
+    private final PositionIndex<String> positions = new PositionIndex<>();
+
+    @Test
+    public void rebuild_indexesEveryElement() {
+        positions.rebuild(list);
+        assertEquals(0, positions.indexOf("a"));
+        assertEquals(2, positions.indexOf("c"));
+        assertTrue(positions.contains("b"));
+        assertEquals(-1, positions.indexOf("d"));
+        assertFalse(positions.contains("d"));
+    }
+
+    @Test
+    public void inserted_movesLaterElementsBack() {
+        positions.rebuild(list);
+        list.add(1, "d");
+        positions.inserted(list, 1);
+        assertEquals(0, positions.indexOf("a"));
+        assertEquals(1, positions.indexOf("d"));
+        assertEquals(2, positions.indexOf("b"));
+        assertEquals(3, positions.indexOf("c"));
+    }
+
+    @Test
+    public void removed_movesLaterElementsForward() {
+        positions.rebuild(list);
+        positions.removed(list, list.remove(0), 0);
+        assertFalse(positions.contains("a"));
+        assertEquals(0, positions.indexOf("b"));
+        assertEquals(1, positions.indexOf("c"));
+    }
+
+    @Test
+    public void removedAll_movesLaterElementsForward() {
+        list.add("d");
+        positions.rebuild(list);
+        list.remove(3);
+        list.remove(1);
+        positions.removedAll(list, Arrays.asList("b", "d"), 1);
+        assertFalse(positions.contains("b"));
+        assertFalse(positions.contains("d"));
+        assertEquals(0, positions.indexOf("a"));
+        assertEquals(1, positions.indexOf("c"));
+    }
+
+    @Test
+    public void replaced_keepsPosition() {
+        positions.rebuild(list);
+        positions.replaced(list, list.set(1, "d"), 1);
+        assertFalse(positions.contains("b"));
+        assertEquals(1, positions.indexOf("d"));
+        assertEquals(2, positions.indexOf("c"));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -155,5 +156,25 @@ public class StringUtilTest {
         StringUtil.getDetails(null);
     }
 
+    //---------------- Tests for getCollationKey --------------------------------------
+
+    @Test
+    public void getCollationKey_nullGiven_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.getCollationKey(null);
+    }
+
+    @Test
+    public void getCollationKey_validInputs_correctResult() {
+        // case is ignored
+        assertEquals(0, StringUtil.getCollationKey("Alice").compareTo(StringUtil.getCollationKey("alice")));
+
+        // alphabetical order
+        assertTrue(StringUtil.getCollationKey("alice").compareTo(StringUtil.getCollationKey("Bob")) < 0);
+
+        // a space comes before any letter
+        assertTrue(StringUtil.getCollationKey("Carl Kurz").compareTo(StringUtil.getCollationKey("carla")) < 0);
+    }
+
 
 }
@@ -84,6 +84,51 @@ public class UndoRedoStackTest {
         assertStackStatus(Collections.singletonList(dummyUndoableCommandOne), Collections.emptyList());
     }
 
+    @Test
+    public void push_undoLimitReached_oldestCommandDiscarded() {
+        undoRedoStack = new UndoRedoStack(2, Long.MAX_VALUE);
+        DummyUndoableCommand dummyUndoableCommandThree = new DummyUndoableCommand();
+        undoRedoStack.push(dummyUndoableCommandOne);
+        undoRedoStack.push(dummyUndoableCommandTwo);
+        undoRedoStack.push(dummyUndoableCommandThree);
+
+        assertEquals(2, undoRedoStack.getUndoLevels());
+        assertEquals(dummyUndoableCommandThree, undoRedoStack.popUndo());
+        assertEquals(dummyUndoableCommandTwo, undoRedoStack.popUndo());
+        assertFalse(undoRedoStack.canUndo());
+    }
+
+    @Test
+    public void push_byteBudgetExceeded_oldestCommandsDiscardedButLatestKept() {
+        undoRedoStack = new UndoRedoStack(10, 100);
+        undoRedoStack.push(new SizedUndoableCommand(40));
+        undoRedoStack.push(new SizedUndoableCommand(40));
+        assertEquals(2, undoRedoStack.getUndoLevels());
+
+        // over budget -> oldest discarded
+        undoRedoStack.push(new SizedUndoableCommand(40));
+        assertEquals(2, undoRedoStack.getUndoLevels());
+
+        // latest command alone over budget -> still kept
+        SizedUndoableCommand large = new SizedUndoableCommand(1000);
+        undoRedoStack.push(large);
+        assertEquals(1, undoRedoStack.getUndoLevels());
+        assertEquals(large, undoRedoStack.popUndo());
+    }
+
+    @Test
+    public void shrink_discardsOlderHalf() {
+        undoRedoStack = prepareStack(Arrays.asList(dummyUndoableCommandOne, dummyUndoableCommandTwo,
+                dummyUndoableCommandOne, dummyUndoableCommandTwo), Collections.emptyList());
+        undoRedoStack.shrink();
+        assertStackStatus(Arrays.asList(dummyUndoableCommandOne, dummyUndoableCommandTwo), Collections.emptyList());
+
+        // latest command kept
+        undoRedoStack = prepareStack(Collections.singletonList(dummyUndoableCommandOne), Collections.emptyList());
+        undoRedoStack.shrink();
+        assertStackStatus(Collections.singletonList(dummyUndoableCommandOne), Collections.emptyList());
+    }
+
     @Test
     public void canUndo() {
         // empty undo stack
@@ -244,4 +289,17 @@ public class UndoRedoStackTest {
             return new CommandResult("");
         }
     }
+
+    class SizedUndoableCommand extends DummyUndoableCommand {
+        private final long estimatedRetainedBytes;
+
+        SizedUndoableCommand(long estimatedRetainedBytes) {
+            this.estimatedRetainedBytes = estimatedRetainedBytes;
+        }
+
+        @Override
+        public long getEstimatedRetainedBytes() {
+            return estimatedRetainedBytes;
+        }
+    }
 }
@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -22,9 +24,12 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.UndoRedoStack;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.FreeSlot;
+import seedu.address.model.appointment.RecurringAppointment;
 import seedu.address.model.appointment.exceptions.AppointmentListIsEmptyException;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
@@ -131,6 +136,22 @@ public class AddPetCommandTest {
             return null;
         }
 
+        @Override
+        public AddressBookChange startRecordingChanges() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void stopRecordingChanges() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void undoChanges(AddressBookChange changes) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) throws PersonNotFoundException {
             fail("This method should not be called.");
@@ -195,6 +216,18 @@ public class AddPetCommandTest {
             return null;
         }
 
+        @Override
+        public List<Pet> getPetsOf(Client client) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public List<Appointment> getAppointmentsOf(Pet pet) {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public void addPetToClient(Pet pet, Client client) throws ClientAlreadyOwnsPetException {
             fail("This method should not be called.");
@@ -216,6 +249,34 @@ public class AddPetCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public List<FreeSlot> getFreeSlots(long from, int minLength, int count, Optional<VetTechnician> vetTech) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void scheduleRecurringAppointment(RecurringAppointment recurringAppointment) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void unscheduleRecurringAppointment(RecurringAppointment recurringAppointment) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<RecurringAppointment> getRecurringAppointmentList() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public List<Appointment> getRecurringOccurrencesBetween(long from, long to) {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public ObservableList<Appointment> getFilteredAppointmentList() {
             fail("This method should not be called.");
@@ -335,8 +396,12 @@ public class AddPetCommandTest {
         }
 
         @Override
-        public ReadOnlyAddressBook getAddressBook() {
-            return new AddressBook();
+        public AddressBookChange startRecordingChanges() {
+            return new AddressBook().startRecording();
+        }
+
+        @Override
+        public void stopRecordingChanges() {
         }
     }
 
@@ -359,8 +424,12 @@ public class AddPetCommandTest {
         }
 
         @Override
-        public ReadOnlyAddressBook getAddressBook() {
-            return new AddressBook();
+        public AddressBookChange startRecordingChanges() {
+            return new AddressBook().startRecording();
+        }
+
+        @Override
+        public void stopRecordingChanges() {
         }
 
         @Override
@@ -25,6 +25,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.vettechnician.VetTechnician;
+import seedu.address.testutil.AppointmentBuilder;
 
 //@@author jonathanwj-reused
 /**
@@ -203,6 +204,20 @@ public class AddVetTechToAppointmentCommandTest {
         assertCommandFailure(avttcCommand, model, AddVetTechToAppointmentCommand.MESSAGE_APPOINTMENT_HAS_TECH);
     }
 
+    @Test
+    public void execute_vetTechnicianHasOverlappingAppointment_throwsCommandException() throws Exception {
+        prepareCommand(INDEX_FIRST, INDEX_FIRST).execute();
+        // same date and time as the first appointment, which now has a different vet technician
+        Appointment overlapping = new AppointmentBuilder(model.getFilteredAppointmentList()
+                .get(INDEX_FIRST.getZeroBased())).build();
+        model.scheduleAppointment(overlapping);
+
+        AddVetTechToAppointmentCommand avttcCommand = prepareCommand(INDEX_FIRST, INDEX_SECOND);
+
+        assertCommandFailure(avttcCommand, model,
+                AddVetTechToAppointmentCommand.MESSAGE_TECH_HAS_OVERLAPPING_APPOINTMENT);
+    }
+
     @Test
     public void equals() throws Exception {
         final AddVetTechToAppointmentCommand standardCommand = prepareCommand(INDEX_FIRST, INDEX_FIRST);
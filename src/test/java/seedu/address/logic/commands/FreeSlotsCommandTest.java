@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_1;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.Duration;
+import seedu.address.model.appointment.FreeSlot;
+import seedu.address.model.appointment.Time;
+import seedu.address.testutil.TypicalAddressBook;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FreeSlotsCommand}.
+ */
+public class FreeSlotsCommandTest {
+
+    private Model model = new ModelManager(TypicalAddressBook.getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_slotBeforeAppointmentTooShort_listsSlotsAfterAppointment() {
+        // APPOINTMENT_1 is on 2018-02-01 from 14:30 to 15:30
+        Date date = new Date("2018-02-01");
+        Time time = new Time("14:00");
+        Duration duration = new Duration("60");
+        FreeSlotsCommand command = prepareCommand(date, time, duration, Optional.empty());
+
+        long dayStart = (long) date.getEpochDay() * Time.MINUTES_PER_DAY;
+        StringBuilder expectedMessage = new StringBuilder(
+                String.format(FreeSlotsCommand.MESSAGE_SUCCESS, duration, date, time));
+        expectedMessage.append("\n1. ").append(new FreeSlot(APPOINTMENT_1.getEnd(), dayStart + Time.MINUTES_PER_DAY));
+        for (int i = 1; i < FreeSlotsCommand.NUMBER_OF_SLOTS; i++) {
+            long start = dayStart + i * Time.MINUTES_PER_DAY;
+            expectedMessage.append("\n").append(i + 1).append(". ")
+                    .append(new FreeSlot(start, start + Time.MINUTES_PER_DAY));
+        }
+
+        assertCommandSuccess(command, model, expectedMessage.toString(),
+                new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs()));
+    }
+
+    @Test
+    public void execute_invalidVetTechIndex_failure() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredVetTechnicianList().size() + 1);
+        FreeSlotsCommand command = prepareCommand(new Date("2018-02-01"), new Time("14:00"), new Duration("60"),
+                Optional.of(outOfBoundIndex));
+
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        FreeSlotsCommand firstCommand = new FreeSlotsCommand(new Date("2018-02-01"), new Time("14:00"),
+                new Duration("60"), Optional.empty());
+        FreeSlotsCommand secondCommand = new FreeSlotsCommand(new Date("2018-02-01"), new Time("14:00"),
+                new Duration("60"), Optional.of(INDEX_FIRST_PERSON));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new FreeSlotsCommand(new Date("2018-02-01"), new Time("14:00"),
+                new Duration("60"), Optional.empty())));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different vet technician -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    /**
+     * Returns a {@code FreeSlotsCommand} with the given parameters.
+     */
+    private FreeSlotsCommand prepareCommand(Date date, Time time, Duration duration, Optional<Index> vetTechIndex) {
+        FreeSlotsCommand command = new FreeSlotsCommand(date, time, duration, vetTechIndex);
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        return command;
+    }
+}
@@ -13,13 +13,15 @@ import seedu.address.model.ModelManager;
 public class HistoryCommandTest {
     private HistoryCommand historyCommand;
     private CommandHistory history;
+    private UndoRedoStack undoRedoStack;
 
     @Before
     public void setUp() {
         Model model = new ModelManager();
         history = new CommandHistory();
         historyCommand = new HistoryCommand();
-        historyCommand.setData(model, history, new UndoRedoStack());
+        undoRedoStack = new UndoRedoStack();
+        historyCommand.setData(model, history, undoRedoStack);
     }
 
     @Test
@@ -28,7 +30,8 @@ public class HistoryCommandTest {
 
         String command1 = "clear";
         history.add(command1);
-        assertCommandResult(historyCommand, String.format(HistoryCommand.MESSAGE_SUCCESS, command1));
+        assertCommandResult(historyCommand, String.format(HistoryCommand.MESSAGE_SUCCESS, command1)
+                + String.format(HistoryCommand.MESSAGE_UNDO_LEVELS, 0));
 
         String command2 = "randomCommand";
         String command3 = "select 1";
@@ -36,9 +39,16 @@ public class HistoryCommandTest {
         history.add(command3);
 
         String expectedMessage = String.format(HistoryCommand.MESSAGE_SUCCESS,
-                String.join("\n", command3, command2, command1));
+                String.join("\n", command3, command2, command1))
+                + String.format(HistoryCommand.MESSAGE_UNDO_LEVELS, 0);
 
         assertCommandResult(historyCommand, expectedMessage);
+
+        undoRedoStack.push(new ClearCommand());
+        expectedMessage = String.format(HistoryCommand.MESSAGE_SUCCESS,
+                String.join("\n", command3, command2, command1))
+                + String.format(HistoryCommand.MESSAGE_UNDO_LEVELS, 1);
+        assertCommandResult(historyCommand, expectedMessage);
     }
 
     /**
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.Description;
+import seedu.address.model.appointment.Duration;
+import seedu.address.model.appointment.RecurringAppointment;
+import seedu.address.model.appointment.Time;
+import seedu.address.testutil.TypicalAddressBook;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ListRecurringCommand}.
+ */
+public class ListRecurringCommandTest {
+
+    // every Thursday at 09:00 from 2018-01-25, for four weeks
+    private static final RecurringAppointment WEEKLY = new RecurringAppointment(new Date("2018-01-25"),
+            new Time("09:00"), new Duration("30"), new Description("Physiotherapy"), 7, 4);
+
+    private Model model;
+
+    @Before
+    public void setUp() throws Exception {
+        model = new ModelManager(TypicalAddressBook.getTypicalAddressBook(), new UserPrefs());
+        model.scheduleRecurringAppointment(WEEKLY);
+    }
+
+    @Test
+    public void execute_noUpcomingOccurrence_listsWithIndexes() {
+        // a week after the last occurrence, on 2018-02-15
+        ListRecurringCommand command = prepareCommand("2018-02-22T12:00:00Z");
+
+        assertCommandSuccess(command, model, String.format(ListRecurringCommand.MESSAGE_SUCCESS, 1) + "\n1. " + WEEKLY,
+                new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs()));
+    }
+
+    @Test
+    public void execute_upcomingOccurrence_listsOccurrence() {
+        ListRecurringCommand command = prepareCommand("2018-01-24T12:00:00Z");
+
+        // only the first occurrence, on 2018-01-25, falls in the next 7 days
+        assertCommandSuccess(command, model, String.format(ListRecurringCommand.MESSAGE_SUCCESS, 1) + "\n1. " + WEEKLY
+                + "\n" + String.format(ListRecurringCommand.MESSAGE_UPCOMING_OCCURRENCES,
+                ListRecurringCommand.UPCOMING_DAYS) + "\n" + WEEKLY.getOccurrence(0),
+                new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs()));
+    }
+
+    /**
+     * Returns a {@code ListRecurringCommand} that takes {@code now} as the current time.
+     */
+    private ListRecurringCommand prepareCommand(String now) {
+        ListRecurringCommand command = new ListRecurringCommand(Clock.fixed(Instant.parse(now), ZoneOffset.UTC));
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        return command;
+    }
+}
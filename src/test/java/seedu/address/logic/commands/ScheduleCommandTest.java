@@ -9,6 +9,8 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -20,11 +22,14 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.UndoRedoStack;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.FreeSlot;
+import seedu.address.model.appointment.RecurringAppointment;
 import seedu.address.model.appointment.exceptions.AppointmentListIsEmptyException;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
@@ -138,6 +143,22 @@ public class ScheduleCommandTest {
             return null;
         }
 
+        @Override
+        public AddressBookChange startRecordingChanges() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void stopRecordingChanges() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void undoChanges(AddressBookChange changes) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) throws PersonNotFoundException {
             fail("This method should not be called.");
@@ -202,6 +223,18 @@ public class ScheduleCommandTest {
             return null;
         }
 
+        @Override
+        public List<Pet> getPetsOf(Client client) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public List<Appointment> getAppointmentsOf(Pet pet) {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public void addPetToClient(Pet pet, Client client) throws ClientAlreadyOwnsPetException {
             fail("This method should not be called.");
@@ -223,6 +256,34 @@ public class ScheduleCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public List<FreeSlot> getFreeSlots(long from, int minLength, int count, Optional<VetTechnician> vetTech) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void scheduleRecurringAppointment(RecurringAppointment recurringAppointment) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void unscheduleRecurringAppointment(RecurringAppointment recurringAppointment) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<RecurringAppointment> getRecurringAppointmentList() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public List<Appointment> getRecurringOccurrencesBetween(long from, long to) {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public ObservableList<Appointment> getFilteredAppointmentList() {
             return model.getFilteredAppointmentList();
@@ -329,8 +390,12 @@ public class ScheduleCommandTest {
         }
 
         @Override
-        public ReadOnlyAddressBook getAddressBook() {
-            return new AddressBook();
+        public AddressBookChange startRecordingChanges() {
+            return new AddressBook().startRecording();
+        }
+
+        @Override
+        public void stopRecordingChanges() {
         }
     }
 
@@ -347,8 +412,12 @@ public class ScheduleCommandTest {
         }
 
         @Override
-        public ReadOnlyAddressBook getAddressBook() {
-            return new AddressBook();
+        public AddressBookChange startRecordingChanges() {
+            return new AddressBook().startRecording();
+        }
+
+        @Override
+        public void stopRecordingChanges() {
         }
     }
 
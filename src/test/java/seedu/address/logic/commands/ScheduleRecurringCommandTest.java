@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_APPT;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_APPT;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.Description;
+import seedu.address.model.appointment.Duration;
+import seedu.address.model.appointment.RecurringAppointment;
+import seedu.address.model.appointment.Time;
+import seedu.address.testutil.TypicalAddressBook;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ScheduleRecurringCommand} and
+ * {@code UnscheduleRecurringCommand}.
+ */
+public class ScheduleRecurringCommandTest {
+
+    // every Thursday at 09:00 from 2018-01-25, clear of the typical appointments
+    private static final RecurringAppointment WEEKLY = new RecurringAppointment(new Date("2018-01-25"),
+            new Time("09:00"), new Duration("30"), new Description("Physiotherapy"), 7, 4);
+
+    private Model model = new ModelManager(TypicalAddressBook.getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noClash_success() throws Exception {
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.scheduleRecurringAppointment(WEEKLY);
+
+        assertCommandSuccess(prepareScheduleCommand(WEEKLY), model,
+                String.format(ScheduleRecurringCommand.MESSAGE_SUCCESS, WEEKLY), expectedModel);
+    }
+
+    @Test
+    public void execute_occurrenceOverlapsAppointment_failure() {
+        // the second occurrence overlaps APPOINTMENT_1 on 2018-02-01 from 14:30 to 15:30
+        RecurringAppointment clashing = new RecurringAppointment(new Date("2018-01-25"), new Time("14:00"),
+                new Duration("60"), new Description("Physiotherapy"), 7, 4);
+
+        assertCommandFailure(prepareScheduleCommand(clashing), model,
+                ScheduleRecurringCommand.MESSAGE_RECURRING_APPOINTMENT_CLASH);
+    }
+
+    @Test
+    public void execute_duplicate_failure() throws Exception {
+        model.scheduleRecurringAppointment(WEEKLY);
+
+        assertCommandFailure(prepareScheduleCommand(WEEKLY), model,
+                ScheduleRecurringCommand.MESSAGE_DUPLICATE_RECURRING_APPOINTMENT);
+    }
+
+    @Test
+    public void execute_unscheduleRecurring_success() throws Exception {
+        model.scheduleRecurringAppointment(WEEKLY);
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.unscheduleRecurringAppointment(WEEKLY);
+
+        UnscheduleRecurringCommand command = new UnscheduleRecurringCommand(INDEX_FIRST_APPT);
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        assertCommandSuccess(command, model, String.format(
+                UnscheduleRecurringCommand.MESSAGE_UNSCHEDULE_RECURRING_APPOINTMENT_SUCCESS, WEEKLY), expectedModel);
+    }
+
+    @Test
+    public void execute_unscheduleRecurringInvalidIndex_failure() {
+        UnscheduleRecurringCommand command = new UnscheduleRecurringCommand(INDEX_FIRST_APPT);
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_RECURRING_APPOINTMENT_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        ScheduleRecurringCommand scheduleCommand = new ScheduleRecurringCommand(WEEKLY);
+
+        // same object -> returns true
+        assertTrue(scheduleCommand.equals(scheduleCommand));
+
+        // same values -> returns true
+        assertTrue(scheduleCommand.equals(new ScheduleRecurringCommand(WEEKLY)));
+
+        // different types -> returns false
+        assertFalse(scheduleCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(scheduleCommand.equals(null));
+
+        // different recurring appointment -> returns false
+        assertFalse(scheduleCommand.equals(new ScheduleRecurringCommand(new RecurringAppointment(
+                new Date("2018-01-25"), new Time("09:00"), new Duration("30"), new Description("Physiotherapy"),
+                7, 5))));
+
+        // different index -> returns false
+        assertFalse(new UnscheduleRecurringCommand(INDEX_FIRST_APPT).equals(
+                new UnscheduleRecurringCommand(INDEX_SECOND_APPT)));
+    }
+
+    /**
+     * Returns a {@code ScheduleRecurringCommand} with the given recurring appointment.
+     */
+    private ScheduleRecurringCommand prepareScheduleCommand(RecurringAppointment recurringAppointment) {
+        ScheduleRecurringCommand command = new ScheduleRecurringCommand(recurringAppointment);
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        return command;
+    }
+}
@@ -14,6 +14,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.Rule;
@@ -28,17 +29,24 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FreeSlotsCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListRecurringCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemoveVetTechFromAppointmentCommand;
 import seedu.address.logic.commands.RescheduleCommand;
 import seedu.address.logic.commands.RescheduleCommand.RescheduleAppointmentDescriptor;
 import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.ScheduleRecurringCommand;
 import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.UnscheduleRecurringCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.Duration;
+import seedu.address.model.appointment.Time;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.AppointmentBuilder;
@@ -70,6 +78,24 @@ public class AddressBookParserTest {
         assertEquals(new ScheduleCommand(appointment), command);
     }
 
+    @Test
+    public void parseCommand_freeSlots() throws Exception {
+        FreeSlotsCommand command = (FreeSlotsCommand) parser.parseCommand(FreeSlotsCommand.COMMAND_WORD
+                + " da/2018-05-01 tm/09:00 du/60");
+        assertEquals(new FreeSlotsCommand(new Date("2018-05-01"), new Time("09:00"), new Duration("60"),
+                Optional.empty()), command);
+    }
+
+    @Test
+    public void parseCommand_recurring() throws Exception {
+        assertTrue(parser.parseCommand(ListRecurringCommand.COMMAND_WORD) instanceof ListRecurringCommand);
+        UnscheduleRecurringCommand command = (UnscheduleRecurringCommand) parser.parseCommand(
+                UnscheduleRecurringCommand.COMMAND_WORD + " " + INDEX_FIRST_APPT.getOneBased());
+        assertEquals(new UnscheduleRecurringCommand(INDEX_FIRST_APPT), command);
+        assertTrue(parser.parseCommand(ScheduleRecurringCommand.COMMAND_WORD
+                + " da/2018-05-01 tm/09:00 du/30 desc/Physiotherapy rpt/7 occ/10") instanceof ScheduleRecurringCommand);
+    }
+
     //@@author Godxin-test
     @Test
     public void parseCommand_reschedule() throws Exception {
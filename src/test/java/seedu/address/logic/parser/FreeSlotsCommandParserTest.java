@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.FreeSlotsCommand;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.Duration;
+import seedu.address.model.appointment.Time;
+
+public class FreeSlotsCommandParserTest {
+
+    private FreeSlotsCommandParser parser = new FreeSlotsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsFreeSlotsCommand() {
+        FreeSlotsCommand expectedCommand = new FreeSlotsCommand(new Date("2018-05-01"), new Time("09:00"),
+                new Duration("60"), Optional.empty());
+        assertParseSuccess(parser, " da/2018-05-01 tm/09:00 du/60", expectedCommand);
+
+        // with vet technician index
+        expectedCommand = new FreeSlotsCommand(new Date("2018-05-01"), new Time("09:00"),
+                new Duration("60"), Optional.of(INDEX_FIRST_PERSON));
+        assertParseSuccess(parser, " da/2018-05-01 tm/09:00 du/60 vt/1", expectedCommand);
+    }
+
+    @Test
+    public void parse_missingPrefix_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " tm/09:00 du/60", expectedMessage);
+        assertParseFailure(parser, " da/2018-05-01 du/60", expectedMessage);
+        assertParseFailure(parser, " da/2018-05-01 tm/09:00", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertParseFailure(parser, " da/2018-05-01 tm/09:00 du/60 vt/a",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " da/2018-05-01 tm/09:00 du/5", Duration.MESSAGE_DURATION_CONSTRAINTS);
+    }
+}
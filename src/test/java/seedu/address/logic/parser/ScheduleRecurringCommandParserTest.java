@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ScheduleRecurringCommand;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.Description;
+import seedu.address.model.appointment.Duration;
+import seedu.address.model.appointment.RecurringAppointment;
+import seedu.address.model.appointment.Time;
+
+public class ScheduleRecurringCommandParserTest {
+
+    private ScheduleRecurringCommandParser parser = new ScheduleRecurringCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsScheduleRecurringCommand() {
+        RecurringAppointment expected = new RecurringAppointment(new Date("2018-05-01"), new Time("09:00"),
+                new Duration("30"), new Description("Physiotherapy"), 7, 10);
+        assertParseSuccess(parser, " da/2018-05-01 tm/09:00 du/30 desc/Physiotherapy rpt/7 occ/10",
+                new ScheduleRecurringCommand(expected));
+    }
+
+    @Test
+    public void parse_missingPrefix_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleRecurringCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " da/2018-05-01 tm/09:00 du/30 desc/Physiotherapy occ/10", expectedMessage);
+        assertParseFailure(parser, " da/2018-05-01 tm/09:00 du/30 desc/Physiotherapy rpt/7", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertParseFailure(parser, " da/2018-05-01 tm/09:00 du/30 desc/Physiotherapy rpt/0 occ/10",
+                RecurringAppointment.MESSAGE_INTERVAL_CONSTRAINTS);
+        assertParseFailure(parser, " da/2018-05-01 tm/09:00 du/30 desc/Physiotherapy rpt/7 occ/1",
+                RecurringAppointment.MESSAGE_OCCURRENCES_CONSTRAINTS);
+    }
+}
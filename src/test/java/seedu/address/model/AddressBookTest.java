@@ -1,8 +1,17 @@
 package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPets.LOTSO;
+import static seedu.address.testutil.TypicalPets.PICKLES;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -10,6 +19,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 import org.fxmisc.easybind.EasyBind;
 import org.junit.Rule;
@@ -19,15 +31,34 @@ import org.junit.rules.ExpectedException;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.Description;
+import seedu.address.model.appointment.Duration;
+import seedu.address.model.appointment.FreeSlot;
+import seedu.address.model.appointment.RecurringAppointment;
+import seedu.address.model.appointment.Time;
+import seedu.address.model.appointment.exceptions.AppointmentCloseToPreviousException;
+import seedu.address.model.appointment.exceptions.RecurringAppointmentClashException;
 import seedu.address.model.association.ClientOwnPet;
+import seedu.address.model.association.exceptions.ClientPetAssociationNotFoundException;
 import seedu.address.model.client.Client;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.pet.Pet;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.vettechnician.VetTechnician;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PetBuilder;
+import seedu.address.testutil.TypicalAddressBook;
 
 public class AddressBookTest {
 
+    // every Tuesday at 09:00 for 30 minutes, from 2018-05-01 to 2018-05-29
+    private static final RecurringAppointment WEEKLY = new RecurringAppointment(new Date("2018-05-01"),
+            new Time("09:00"), new Duration("30"), new Description("Physiotherapy"), 7, 5);
+
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
@@ -75,6 +106,54 @@ public class AddressBookTest {
         addressBook.getTagList().remove(0);
     }
 
+    @Test
+    public void scheduleAppointment_overlapsRecurringOccurrence_throwsAppointmentCloseToPreviousException()
+            throws Exception {
+        addressBook.scheduleRecurringAppointment(WEEKLY);
+
+        thrown.expect(AppointmentCloseToPreviousException.class);
+        addressBook.scheduleAppointment(new AppointmentBuilder().withDate("2018-05-15").withTime("09:15").build());
+    }
+
+    @Test
+    public void scheduleRecurringAppointment_overlapsAppointment_throwsRecurringAppointmentClashException()
+            throws Exception {
+        addressBook.scheduleAppointment(new AppointmentBuilder().withDate("2018-05-29").withTime("08:45").build());
+
+        thrown.expect(RecurringAppointmentClashException.class);
+        addressBook.scheduleRecurringAppointment(WEEKLY);
+    }
+
+    @Test
+    public void getFreeSlots_recurringOccurrence_splitsSlot() throws Exception {
+        addressBook.scheduleRecurringAppointment(WEEKLY);
+        Appointment occurrence = WEEKLY.getOccurrence(0);
+        long dayStart = (long) occurrence.getDate().getEpochDay() * Time.MINUTES_PER_DAY;
+
+        assertEquals(Arrays.asList(new FreeSlot(dayStart, occurrence.getStart()),
+                new FreeSlot(occurrence.getEnd(), dayStart + Time.MINUTES_PER_DAY)),
+                addressBook.getFreeSlots(dayStart, 60, 2, Optional.empty()));
+    }
+
+    @Test
+    public void getFreeSlots_vetTechnicianAndRecurringOccurrence_splitsSlot() throws Exception {
+        addressBook.addPerson(GEORGE);
+        addressBook.scheduleRecurringAppointment(WEEKLY);
+        Appointment occurrence = WEEKLY.getOccurrence(0);
+        long dayStart = (long) occurrence.getDate().getEpochDay() * Time.MINUTES_PER_DAY;
+
+        assertEquals(Arrays.asList(new FreeSlot(dayStart, occurrence.getStart()),
+                new FreeSlot(occurrence.getEnd(), dayStart + Time.MINUTES_PER_DAY)),
+                addressBook.getFreeSlots(dayStart, 60, 2, Optional.of((VetTechnician) GEORGE)));
+    }
+
+    /**
+     * Returns the ids of {@code entities}, in order.
+     */
+    private static <T> List<Integer> getIds(List<T> entities, ToIntFunction<T> idOf) {
+        return entities.stream().map(idOf::applyAsInt).collect(Collectors.toList());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons and tags lists can violate interface constraints.
      */
@@ -83,6 +162,7 @@ public class AddressBookTest {
 
         private final ObservableList<Tag> tags = FXCollections.observableArrayList();
         private final ObservableList<Appointment> appointments = FXCollections.observableArrayList();
+        private final ObservableList<RecurringAppointment> recurringAppointments = FXCollections.observableArrayList();
         private final ObservableList<Pet> pets = FXCollections.observableArrayList();
         private final ObservableList<ClientOwnPet> associations = FXCollections.observableArrayList();
 
@@ -110,6 +190,11 @@ public class AddressBookTest {
             return appointments;
         }
 
+        @Override
+        public ObservableList<RecurringAppointment> getRecurringAppointmentList() {
+            return recurringAppointments;
+        }
+
         @Override
         public ObservableList<Pet> getPetList() {
             return pets;
@@ -147,4 +232,191 @@ public class AddressBookTest {
         }
     }
 
+
+    @Test
+    public void removePerson_lastPersonWithTag_dropsTag() throws Exception {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        assertTrue(addressBook.getTagList().contains(new Tag("owesMoney")));
+
+        addressBook.removePerson(BENSON);
+        assertFalse(addressBook.getTagList().contains(new Tag("owesMoney")));
+        assertTrue(addressBook.getTagList().contains(new Tag("friends")));
+    }
+
+    @Test
+    public void addPerson_duplicatePerson_doesNotKeepNewTags() throws Exception {
+        addressBook.addPerson(ALICE);
+        Person aliceWithNewTag = new PersonBuilder(ALICE).withTags("colleagues").buildWithRoleClient();
+        try {
+            addressBook.addPerson(aliceWithNewTag);
+            fail("Expected a DuplicatePersonException");
+        } catch (DuplicatePersonException e) {
+            assertFalse(addressBook.getTagList().contains(new Tag("colleagues")));
+        }
+    }
+
+    @Test
+    public void addPerson_afterRemovingLastPerson_newId() throws Exception {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        int bensonId = addressBook.getPersonList().get(1).getId();
+        assertTrue(bensonId > addressBook.getPersonList().get(0).getId());
+
+        addressBook.removePerson(BENSON);
+        addressBook.addPerson(GEORGE);
+        assertTrue(addressBook.getPersonList().get(1).getId() > bensonId);
+    }
+
+    @Test
+    public void updatePerson_editedPerson_keepsId() throws Exception {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        int fionaId = typicalAddressBook.getPersonList().get(typicalAddressBook.getPersonList().indexOf(FIONA)).getId();
+        Person editedFiona = new PersonBuilder(FIONA).withPhone("91234567").buildWithRoleClient();
+        typicalAddressBook.updatePerson(FIONA, editedFiona);
+
+        List<Person> persons = typicalAddressBook.getPersonList();
+        assertEquals(fionaId, persons.get(persons.indexOf(editedFiona)).getId());
+        ClientOwnPet association = typicalAddressBook.getClientPetAssociations().stream()
+                .filter(clientOwnPet -> clientOwnPet.getClient().equals(editedFiona)).findFirst().get();
+        assertEquals(fionaId, association.getClient().getId());
+    }
+
+    @Test
+    public void resetData_copyOfAddressBook_keepsIds() {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        addressBook.resetData(typicalAddressBook);
+        assertEquals(getIds(typicalAddressBook.getPersonList(), Person::getId),
+                getIds(addressBook.getPersonList(), Person::getId));
+        assertEquals(getIds(typicalAddressBook.getPetList(), Pet::getId), getIds(addressBook.getPetList(), Pet::getId));
+    }
+
+    @Test
+    public void updatePerson_duplicateClient_leavesAssociationsUnchanged() throws Exception {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        List<ClientOwnPet> expectedAssociations = new ArrayList<>(typicalAddressBook.getClientPetAssociations());
+        try {
+            typicalAddressBook.updatePerson(FIONA, new PersonBuilder(ALICE).buildWithRoleClient());
+            fail("Expected a DuplicatePersonException");
+        } catch (DuplicatePersonException e) {
+            assertEquals(expectedAssociations, typicalAddressBook.getClientPetAssociations());
+        }
+    }
+
+    @Test
+    public void updatePerson_targetNotFound_leavesAddressBookUnchanged() throws Exception {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        AddressBook expectedAddressBook = new AddressBook(typicalAddressBook);
+        Person notInAddressBook = new PersonBuilder(ALICE).withName("Alice Nomad").buildWithRoleClient();
+        try {
+            typicalAddressBook.updatePerson(notInAddressBook, new PersonBuilder(ALICE).withName("Alice Settled")
+                    .buildWithRoleClient());
+            fail("Expected a PersonNotFoundException");
+        } catch (PersonNotFoundException e) {
+            assertEquals(expectedAddressBook, typicalAddressBook);
+        }
+    }
+
+    @Test
+    public void removePet_petWithoutOwner_leavesAppointmentsUnchanged() throws Exception {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        AddressBook expectedAddressBook = new AddressBook(typicalAddressBook);
+        AddressBookChange change = typicalAddressBook.startRecording();
+        try {
+            typicalAddressBook.removePet(new PetBuilder().withPetName("Stray").build());
+            fail("Expected a ClientPetAssociationNotFoundException");
+        } catch (ClientPetAssociationNotFoundException e) {
+            typicalAddressBook.stopRecording();
+            assertTrue(change.isEmpty());
+            assertEquals(expectedAddressBook, typicalAddressBook);
+        }
+    }
+
+    @Test
+    public void undo_removeClientWithPetAndAppointment_restoresAddressBook() throws Exception {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        typicalAddressBook.addAppointmentToPet(typicalAddressBook.getAppointmentList().get(0), LOTSO);
+        AddressBook expectedAddressBook = new AddressBook(typicalAddressBook);
+
+        AddressBookChange change = typicalAddressBook.startRecording();
+        typicalAddressBook.removePerson(FIONA);
+        typicalAddressBook.stopRecording();
+        assertFalse(typicalAddressBook.getPetList().contains(LOTSO));
+        assertNull(typicalAddressBook.getAppointmentList().get(0).getClientOwnPet());
+
+        typicalAddressBook.undo(change);
+        assertEquals(expectedAddressBook, typicalAddressBook);
+        assertEquals(expectedAddressBook.getClientPetAssociations(), typicalAddressBook.getClientPetAssociations());
+        assertEquals(expectedAddressBook.getAppointmentList().get(0).getClientOwnPet(),
+                typicalAddressBook.getAppointmentList().get(0).getClientOwnPet());
+    }
+
+    @Test
+    public void undo_removeVetTechnicianWithAppointment_restoresAddressBook() throws Exception {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        typicalAddressBook.addVetTechToAppointment((VetTechnician) GEORGE,
+                typicalAddressBook.getAppointmentList().get(0));
+        AddressBook expectedAddressBook = new AddressBook(typicalAddressBook);
+
+        AddressBookChange change = typicalAddressBook.startRecording();
+        typicalAddressBook.removePerson(GEORGE);
+        typicalAddressBook.stopRecording();
+
+        typicalAddressBook.undo(change);
+        assertEquals(expectedAddressBook, typicalAddressBook);
+        assertEquals(expectedAddressBook.getVetTechnicianList(), typicalAddressBook.getVetTechnicianList());
+    }
+
+    @Test
+    public void undo_severalChanges_revertsInReverseOrder() throws Exception {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        AddressBook expectedAddressBook = new AddressBook(typicalAddressBook);
+
+        AddressBookChange change = typicalAddressBook.startRecording();
+        typicalAddressBook.removePet(PICKLES);
+        typicalAddressBook.sortClientList();
+        typicalAddressBook.unscheduleAppointment(typicalAddressBook.getAppointmentList().get(0));
+        typicalAddressBook.stopRecording();
+
+        typicalAddressBook.undo(change);
+        assertEquals(expectedAddressBook, typicalAddressBook);
+        assertEquals(expectedAddressBook.getClientPetAssociations(), typicalAddressBook.getClientPetAssociations());
+    }
+
+    @Test
+    public void stopRecording_laterChangesNotRecorded() throws Exception {
+        AddressBookChange change = addressBook.startRecording();
+        addressBook.stopRecording();
+        addressBook.addPerson(ALICE);
+        assertTrue(change.isEmpty());
+    }
+
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() throws Exception {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        AddressBook expectedAddressBook = new AddressBook(typicalAddressBook);
+        AddressBookSnapshot snapshot = typicalAddressBook.snapshot();
+
+        typicalAddressBook.removePerson(FIONA);
+        typicalAddressBook.addPerson(new PersonBuilder().withName("Zack Lim").buildWithRoleClient());
+        typicalAddressBook.sortClientList();
+
+        assertEquals(expectedAddressBook, new AddressBook(snapshot));
+        assertEquals(expectedAddressBook.getClientList(), snapshot.getClientList());
+        assertEquals(expectedAddressBook.getClientPetAssociations(), snapshot.getClientPetAssociations());
+    }
+
+    @Test
+    public void undo_resetData_restoresAddressBook() throws Exception {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        AddressBook expectedAddressBook = new AddressBook(typicalAddressBook);
+
+        AddressBookChange change = typicalAddressBook.startRecording();
+        typicalAddressBook.resetData(new AddressBook());
+        typicalAddressBook.stopRecording();
+        assertTrue(typicalAddressBook.getPersonList().isEmpty());
+
+        typicalAddressBook.undo(change);
+        assertEquals(expectedAddressBook, typicalAddressBook);
+    }
 }
@@ -1,21 +1,36 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_1;
 import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_1_1;
 import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_2;
 import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_2_2;
+import static seedu.address.testutil.TypicalAssociations.FIONA_LOTSO;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPets.LOTSO;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.UniqueAppointmentList;
 import seedu.address.model.appointment.exceptions.AppointmentCloseToNextException;
 import seedu.address.model.appointment.exceptions.AppointmentCloseToPreviousException;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.association.ClientOwnPet;
+import seedu.address.model.client.Client;
+import seedu.address.model.vettechnician.VetTechnician;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 //@@author Godxin-test
 public class UniqueAppointmentListTest {
@@ -66,6 +81,157 @@ public class UniqueAppointmentListTest {
         uniqueAppointmentList.add(APPOINTMENT_2_2);
     }
 
+    @Test
+    public void addAppointment_runsPastMidnightIntoNextDateAppointment_addSuccessful() throws
+            DuplicateAppointmentException, AppointmentCloseToPreviousException, AppointmentCloseToNextException {
+        // as before, only appointments on the same date are checked
+        uniqueAppointmentList.add(new AppointmentBuilder().withDate("2018-05-02").withTime("00:00").build());
+        uniqueAppointmentList.add(new AppointmentBuilder().withDate("2018-05-01").withTime("23:30")
+                .withDuration("60").build());
+        assertEquals(2, uniqueAppointmentList.asObservableList().size());
+    }
+
+    @Test
+    public void getAppointmentsBetween_returnsAppointmentsStartingInRange() throws
+            DuplicateAppointmentException, AppointmentCloseToPreviousException, AppointmentCloseToNextException {
+        uniqueAppointmentList.add(APPOINTMENT_2);
+        uniqueAppointmentList.add(APPOINTMENT_1);
+        assertEquals(Collections.singletonList(APPOINTMENT_1), new ArrayList<>(
+                uniqueAppointmentList.getAppointmentsBetween(APPOINTMENT_1.getStart(), APPOINTMENT_2.getStart())));
+        assertEquals(Arrays.asList(APPOINTMENT_1, APPOINTMENT_2), new ArrayList<>(
+                uniqueAppointmentList.getAppointmentsBetween(APPOINTMENT_1.getStart(), APPOINTMENT_2.getEnd())));
+    }
+
+    @Test
+    public void addInOrder_unsortedList_insertsAtSortedPosition() throws
+            DuplicateAppointmentException, AppointmentCloseToPreviousException, AppointmentCloseToNextException {
+        Appointment earliest = new AppointmentBuilder().withDate("2018-01-15").withTime("09:00").build();
+        uniqueAppointmentList.add(APPOINTMENT_2);
+        uniqueAppointmentList.add(APPOINTMENT_1);
+        uniqueAppointmentList.addInOrder(earliest);
+        assertEquals(Arrays.asList(earliest, APPOINTMENT_1, APPOINTMENT_2), uniqueAppointmentList.asObservableList());
+
+        Appointment latest = new AppointmentBuilder().withDate("2018-03-02").withTime("18:00").build();
+        Appointment middle = new AppointmentBuilder().withDate("2018-02-20").withTime("10:00").build();
+        uniqueAppointmentList.addInOrder(latest);
+        uniqueAppointmentList.addInOrder(middle);
+        assertEquals(Arrays.asList(earliest, APPOINTMENT_1, middle, APPOINTMENT_2, latest),
+                uniqueAppointmentList.asObservableList());
+    }
+
+    @Test
+    public void setAppointments_closeToPreviousOutOfOrder_throwsAppointmentCloseToPreviousException() throws
+            DuplicateAppointmentException, AppointmentCloseToPreviousException, AppointmentCloseToNextException {
+        thrown.expect(AppointmentCloseToPreviousException.class);
+        uniqueAppointmentList.setAppointments(Arrays.asList(APPOINTMENT_1_1, APPOINTMENT_1));
+    }
+
+    @Test
+    public void setAppointments_duplicateAppointments_throwsDuplicateAppointmentException() throws
+            DuplicateAppointmentException, AppointmentCloseToPreviousException, AppointmentCloseToNextException {
+        thrown.expect(DuplicateAppointmentException.class);
+        uniqueAppointmentList.setAppointments(Arrays.asList(APPOINTMENT_2, APPOINTMENT_1, APPOINTMENT_2));
+    }
+
+    @Test
+    public void setAppointments_unsortedList_keepsOrderAndSortsOnInsert() throws
+            DuplicateAppointmentException, AppointmentCloseToPreviousException, AppointmentCloseToNextException {
+        uniqueAppointmentList.setAppointments(Arrays.asList(APPOINTMENT_2, APPOINTMENT_1));
+        assertEquals(Arrays.asList(APPOINTMENT_2, APPOINTMENT_1), uniqueAppointmentList.asObservableList());
+        assertTrue(uniqueAppointmentList.contains(APPOINTMENT_1));
+
+        Appointment earliest = new AppointmentBuilder().withDate("2018-01-15").withTime("09:00").build();
+        uniqueAppointmentList.addInOrder(earliest);
+        assertEquals(Arrays.asList(earliest, APPOINTMENT_1, APPOINTMENT_2), uniqueAppointmentList.asObservableList());
+    }
+
+    @Test
+    public void setAppointment_vetTechnicianChanged_updatesVetTechnicianIndex() throws Exception {
+        VetTechnician george = (VetTechnician) GEORGE;
+        uniqueAppointmentList.add(APPOINTMENT_1);
+        uniqueAppointmentList.add(APPOINTMENT_2);
+        Appointment withVetTech = new Appointment(APPOINTMENT_2);
+        withVetTech.setVetTech(george);
+        uniqueAppointmentList.setAppointment(APPOINTMENT_2, withVetTech);
+
+        assertEquals(Collections.singletonList(withVetTech), uniqueAppointmentList.getAppointmentsOf(george));
+        assertTrue(uniqueAppointmentList.isVetTechnicianBooked(george, new AppointmentBuilder()
+                .withDate("2018-03-02").withTime("17:00").build()));
+        assertFalse(uniqueAppointmentList.isVetTechnicianBooked(george, APPOINTMENT_1));
+
+        uniqueAppointmentList.remove(withVetTech);
+        assertFalse(uniqueAppointmentList.hasAppointmentsOf(george));
+    }
+
+    @Test
+    public void replaceVetTechnician_updatesAppointmentsOfVetTechnician() throws Exception {
+        VetTechnician george = (VetTechnician) GEORGE;
+        VetTechnician editedGeorge = (VetTechnician) new PersonBuilder(GEORGE).withPhone("91234567")
+                .buildWithRoleVetTechnician();
+        Appointment withVetTech = new Appointment(APPOINTMENT_1);
+        withVetTech.setVetTech(george);
+        uniqueAppointmentList.add(withVetTech);
+        uniqueAppointmentList.add(APPOINTMENT_2);
+
+        uniqueAppointmentList.replaceVetTechnician(george, editedGeorge);
+        assertFalse(uniqueAppointmentList.hasAppointmentsOf(george));
+        Appointment withEditedVetTech = new Appointment(APPOINTMENT_1);
+        withEditedVetTech.setVetTech(editedGeorge);
+        assertEquals(Collections.singletonList(withEditedVetTech),
+                uniqueAppointmentList.getAppointmentsOf(editedGeorge));
+        assertEquals(george, withVetTech.getVetTechnician());
+    }
+
+    @Test
+    public void removePetFromAppointments_updatesPetAndClientIndexes() throws Exception {
+        Appointment withPet = new Appointment(APPOINTMENT_1);
+        withPet.setClientOwnPet(FIONA_LOTSO);
+        uniqueAppointmentList.add(withPet);
+        uniqueAppointmentList.add(APPOINTMENT_2);
+        assertEquals(Collections.singletonList(withPet), uniqueAppointmentList.getAppointmentsOf(LOTSO));
+        assertTrue(uniqueAppointmentList.hasAppointmentsOf(FIONA_LOTSO.getClient()));
+
+        uniqueAppointmentList.removePetFromAppointments(LOTSO);
+        assertNull(uniqueAppointmentList.asObservableList().get(0).getClientOwnPet());
+        // the original appointment is replaced rather than changed
+        assertEquals(FIONA_LOTSO, withPet.getClientOwnPet());
+        assertEquals(Collections.emptyList(), uniqueAppointmentList.getAppointmentsOf(LOTSO));
+        assertFalse(uniqueAppointmentList.hasAppointmentsOf(FIONA_LOTSO.getClient()));
+    }
+
+    @Test
+    public void removeVetTechnicianFromAppointments_detachesOnlyVetTechnician() throws Exception {
+        Appointment withVetTech = new Appointment(APPOINTMENT_1);
+        withVetTech.setClientOwnPet(FIONA_LOTSO);
+        withVetTech.setVetTech((VetTechnician) GEORGE);
+        uniqueAppointmentList.add(withVetTech);
+        uniqueAppointmentList.add(APPOINTMENT_2);
+
+        uniqueAppointmentList.removeVetTechnicianFromAppointments((VetTechnician) GEORGE);
+        Appointment detached = uniqueAppointmentList.asObservableList().get(0);
+        assertFalse(detached.getOptionalVetTechnician().isPresent());
+        assertEquals(FIONA_LOTSO, detached.getClientOwnPet());
+        assertFalse(uniqueAppointmentList.hasAppointmentsOf((VetTechnician) GEORGE));
+        assertEquals(Collections.singletonList(detached), uniqueAppointmentList.getAppointmentsOf(LOTSO));
+        assertEquals(APPOINTMENT_2, uniqueAppointmentList.asObservableList().get(1));
+    }
+
+    @Test
+    public void replaceClient_updatesAppointmentsOfClient() throws Exception {
+        Client fiona = FIONA_LOTSO.getClient();
+        Client editedFiona = (Client) new PersonBuilder(fiona).withPhone("91234567").buildWithRoleClient();
+        Appointment withPet = new Appointment(APPOINTMENT_1);
+        withPet.setClientOwnPet(FIONA_LOTSO);
+        uniqueAppointmentList.add(withPet);
+
+        uniqueAppointmentList.replaceClient(fiona, editedFiona);
+        assertFalse(uniqueAppointmentList.hasAppointmentsOf(fiona));
+        assertTrue(uniqueAppointmentList.hasAppointmentsOf(editedFiona));
+        assertEquals(new ClientOwnPet(editedFiona, LOTSO), uniqueAppointmentList.get(0).getClientOwnPet());
+        assertEquals(FIONA_LOTSO, withPet.getClientOwnPet());
+        assertEquals(Collections.singletonList(withPet), uniqueAppointmentList.getAppointmentsOf(LOTSO));
+    }
+
     @Test
     public void removeAppointment_appointmentNotInList_throwsAppointmentNotFoundException()
             throws AppointmentNotFoundException {
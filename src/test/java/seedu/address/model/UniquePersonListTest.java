@@ -1,10 +1,24 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
     @Rule
@@ -16,4 +30,69 @@ public class UniquePersonListTest {
         thrown.expect(UnsupportedOperationException.class);
         uniquePersonList.asObservableList().remove(0);
     }
+
+    @Test
+    public void asClientList_mixedRoles_keepsClientsInListOrder() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, GEORGE, BENSON, BOON));
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asClientList());
+        assertEquals(Arrays.asList(GEORGE, BOON), uniquePersonList.asVetTechnicianList());
+
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Arrays.asList(BENSON, CARL), uniquePersonList.asClientList());
+        assertEquals(Arrays.asList(GEORGE, BOON), uniquePersonList.asVetTechnicianList());
+    }
+
+    @Test
+    public void setPerson_roleChanged_movesPersonToOtherRoleInListOrder() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, GEORGE, BENSON, BOON));
+        Person bensonAsVetTechnician = new PersonBuilder(BENSON).buildWithRoleVetTechnician();
+
+        uniquePersonList.setPerson(BENSON, bensonAsVetTechnician);
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asClientList());
+        assertEquals(Arrays.asList(GEORGE, bensonAsVetTechnician, BOON), uniquePersonList.asVetTechnicianList());
+
+        uniquePersonList.setPerson(GEORGE, new PersonBuilder(GEORGE).withPhone("91234567")
+                .buildWithRoleVetTechnician());
+        assertEquals("91234567", uniquePersonList.asVetTechnicianList().get(0).getPhone().value);
+    }
+
+    @Test
+    public void sort_thenAddAndEdit_keepsNameOrder() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(Arrays.asList(GEORGE, CARL, ALICE));
+        uniquePersonList.sort();
+        assertTrue(uniquePersonList.isSortedByName());
+
+        uniquePersonList.add(BOON);
+        uniquePersonList.add(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, BOON, CARL, GEORGE), uniquePersonList.asObservableList());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asClientList());
+
+        // names are compared ignoring case
+        Person renamedAlice = new PersonBuilder(ALICE).withName("carla").buildWithRoleClient();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertEquals(Arrays.asList(BENSON, BOON, CARL, renamedAlice, GEORGE), uniquePersonList.asObservableList());
+        assertEquals(Arrays.asList(BENSON, CARL, renamedAlice), uniquePersonList.asClientList());
+    }
+
+    @Test
+    public void setPersons_afterSort_stopsKeepingNameOrder() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.sort();
+        uniquePersonList.setPersons(Arrays.asList(GEORGE, ALICE));
+        assertFalse(uniquePersonList.isSortedByName());
+
+        uniquePersonList.add(BENSON);
+        assertEquals(Arrays.asList(GEORGE, ALICE, BENSON), uniquePersonList.asObservableList());
+    }
+
+    @Test
+    public void asClientList_modifyList_throwsUnsupportedOperationException() {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        thrown.expect(UnsupportedOperationException.class);
+        uniquePersonList.asClientList().remove(0);
+    }
 }
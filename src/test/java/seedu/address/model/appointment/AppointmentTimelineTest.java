@@ -0,0 +1,180 @@
+package seedu.address.model.appointment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.testutil.AppointmentBuilder;
+
+public class AppointmentTimelineTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Appointment morning = new AppointmentBuilder().withDate("2018-05-01").withTime("09:00").build();
+    private final Appointment noon = new AppointmentBuilder().withDate("2018-05-01").withTime("12:00").build();
+    private final Appointment evening = new AppointmentBuilder().withDate("2018-05-01").withTime("18:30").build();
+    private final Appointment nextDay = new AppointmentBuilder().withDate("2018-05-02").withTime("10:00").build();
+
+    private AppointmentTimeline timeline;
+
+    @Before
+    public void setUp() {
+        timeline = new AppointmentTimeline();
+        timeline.add(evening);
+        timeline.add(morning);
+        timeline.add(nextDay);
+    }
+
+    @Test
+    public void getPrevious_returnsClosestEarlierAppointmentOnSameDate() {
+        assertEquals(Optional.of(morning), timeline.getPrevious(noon));
+        assertEquals(Optional.of(morning), timeline.getPrevious(evening));
+        assertEquals(Optional.empty(), timeline.getPrevious(morning));
+        assertEquals(Optional.empty(), timeline.getPrevious(nextDay));
+    }
+
+    @Test
+    public void getNext_returnsClosestLaterAppointmentOnSameDate() {
+        assertEquals(Optional.of(evening), timeline.getNext(noon));
+        assertEquals(Optional.of(evening), timeline.getNext(morning));
+        assertEquals(Optional.empty(), timeline.getNext(evening));
+        assertEquals(Optional.empty(), timeline.getNext(nextDay));
+    }
+
+    @Test
+    public void remove_removesOnlyGivenInstance() {
+        Appointment morningCopy = new Appointment(morning);
+        assertFalse(timeline.remove(morningCopy));
+        assertSame(morning, timeline.getPrevious(noon).get());
+
+        assertTrue(timeline.remove(morning));
+        assertEquals(Optional.empty(), timeline.getPrevious(noon));
+        assertFalse(timeline.remove(morning));
+    }
+
+    @Test
+    public void clear_removesAllAppointments() {
+        timeline.clear();
+        assertEquals(Optional.empty(), timeline.getNext(morning));
+        assertEquals(Optional.empty(), timeline.getPrevious(evening));
+    }
+
+    @Test
+    public void getAppointmentsBetween_followsLaterChanges() {
+        long dayStart = morning.getStart() - morning.getStart() % Time.MINUTES_PER_DAY;
+        Collection<Appointment> firstDay = timeline.getAppointmentsBetween(dayStart, dayStart + Time.MINUTES_PER_DAY);
+        assertEquals(Arrays.asList(morning, evening), new ArrayList<>(firstDay));
+        assertEquals(2, firstDay.size());
+
+        timeline.add(noon);
+        assertEquals(Arrays.asList(morning, noon, evening), new ArrayList<>(firstDay));
+
+        timeline.remove(morning);
+        timeline.remove(evening);
+        assertEquals(Collections.singletonList(noon), new ArrayList<>(firstDay));
+
+        // the end is exclusive
+        assertTrue(timeline.getAppointmentsBetween(dayStart, noon.getStart()).isEmpty());
+    }
+
+    @Test
+    public void getAppointmentsBetween_modified_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        timeline.getAppointmentsBetween(morning.getStart(), nextDay.getEnd()).add(noon);
+    }
+
+    @Test
+    public void hasOverlap() {
+        // the default appointment lasts 30 minutes
+        assertTrue(timeline.hasOverlap(morning.getStart() + 29, morning.getStart() + 40));
+        assertTrue(timeline.hasOverlap(morning.getStart() - 10, morning.getStart() + 1));
+        assertFalse(timeline.hasOverlap(morning.getEnd(), noon.getStart()));
+        assertFalse(timeline.hasOverlap(morning.getStart() - 60, morning.getStart()));
+    }
+
+    @Test
+    public void findFreeSlots_skipsGapsThatAreTooShort() {
+        timeline.add(noon);
+        long from = morning.getStart() - 60;
+        // the default appointment lasts 30 minutes
+        List<FreeSlot> expected = Arrays.asList(
+                new FreeSlot(morning.getEnd(), noon.getStart()),
+                new FreeSlot(noon.getEnd(), evening.getStart()),
+                new FreeSlot(evening.getEnd(), from - from % Time.MINUTES_PER_DAY + Time.MINUTES_PER_DAY));
+        assertEquals(expected, timeline.findFreeSlots(from, 90, 3));
+    }
+
+    @Test
+    public void findFreeSlots_continuesOnFollowingDates() {
+        long from = evening.getStart();
+        long nextDayStart = nextDay.getStart() - nextDay.getStart() % Time.MINUTES_PER_DAY;
+        List<FreeSlot> expected = Arrays.asList(
+                new FreeSlot(nextDayStart, nextDay.getStart()),
+                new FreeSlot(nextDay.getEnd(), nextDayStart + Time.MINUTES_PER_DAY),
+                new FreeSlot(nextDayStart + Time.MINUTES_PER_DAY, nextDayStart + 2 * Time.MINUTES_PER_DAY));
+        assertEquals(expected, timeline.findFreeSlots(from, 330, 3));
+    }
+
+    @Test
+    public void findFreeSlots_startsInsideGap_clipsSlotStart() {
+        long from = morning.getEnd() + 15;
+        assertEquals(Collections.singletonList(new FreeSlot(from, evening.getStart())),
+                timeline.findFreeSlots(from, 60, 1));
+
+        // the gap index is rebuilt once the date changes
+        timeline.add(noon);
+        assertEquals(Collections.singletonList(new FreeSlot(from, noon.getStart())),
+                timeline.findFreeSlots(from, 60, 1));
+    }
+
+    @Test
+    public void findFreeSlots_appointmentCrossesMidnight_nextDateBusyUntilItEnds() {
+        Appointment thirdDay = new AppointmentBuilder().withDate("2018-05-03").withTime("10:00").build();
+        timeline.add(thirdDay);
+        long thirdDayStart = thirdDay.getStart() - thirdDay.getStart() % Time.MINUTES_PER_DAY;
+        assertEquals(Collections.singletonList(new FreeSlot(thirdDayStart, thirdDay.getStart())),
+                timeline.findFreeSlots(thirdDayStart, 60, 1));
+
+        // from 23:30 on 2018-05-02 to 00:30 on 2018-05-03
+        Appointment lateNight = new AppointmentBuilder().withDate("2018-05-02").withTime("23:30")
+                .withDuration("60").build();
+        timeline.add(lateNight);
+        assertEquals(Collections.singletonList(new FreeSlot(lateNight.getEnd(), thirdDay.getStart())),
+                timeline.findFreeSlots(thirdDayStart, 60, 1));
+
+        // the next date is free from midnight again once the appointment is removed
+        timeline.remove(lateNight);
+        assertEquals(Collections.singletonList(new FreeSlot(thirdDayStart, thirdDay.getStart())),
+                timeline.findFreeSlots(thirdDayStart, 60, 1));
+    }
+
+    @Test
+    public void findFreeSlots_appointmentCrossesMidnightIntoEmptyDate_nextDateBusyUntilItEnds() {
+        Appointment lateNight = new AppointmentBuilder().withDate("2018-05-02").withTime("23:30")
+                .withDuration("60").build();
+        timeline.add(lateNight);
+        long thirdDayStart = lateNight.getEnd() - lateNight.getEnd() % Time.MINUTES_PER_DAY;
+        assertEquals(Collections.singletonList(new FreeSlot(lateNight.getEnd(), thirdDayStart + Time.MINUTES_PER_DAY)),
+                timeline.findFreeSlots(thirdDayStart, 60, 1));
+    }
+
+    @Test
+    public void findFreeSlots_invalidLength_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        timeline.findFreeSlots(morning.getStart(), 0, 1);
+    }
+}
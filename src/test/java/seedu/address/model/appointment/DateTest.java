@@ -1,5 +1,6 @@
 package seedu.address.model.appointment;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -56,4 +57,13 @@ public class DateTest {
         assertTrue(Date.isValidDaysInMonth("2019-12-31")); //non-leap year big month
         assertTrue(Date.isValidDaysInMonth("2019-11-30")); //non-leap year small month
     }
+
+    @Test
+    public void compareToDate() {
+        Date date = new Date("2018-03-01");
+        assertEquals(0, date.compareToDate(new Date("2018-03-01")));
+        assertTrue(date.compareToDate(new Date("2018-02-28")) > 0);
+        assertTrue(date.compareToDate(new Date("2019-01-01")) < 0);
+        assertEquals(new Date("2018-02-28").getEpochDay() + 1, date.getEpochDay());
+    }
 }
@@ -0,0 +1,89 @@
+package seedu.address.model.appointment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.Assert;
+
+public class RecurringAppointmentTest {
+
+    // every Tuesday at 09:00 for 30 minutes, from 2018-05-01 to 2018-05-29
+    private final RecurringAppointment weekly = new RecurringAppointment(new Date("2018-05-01"), new Time("09:00"),
+            new Duration("30"), new Description("Physiotherapy"), 7, 5);
+
+    @Test
+    public void constructor_invalidRule_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new RecurringAppointment(new Date("2018-05-01"),
+                new Time("09:00"), new Duration("30"), new Description("Physiotherapy"), 0, 5));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new RecurringAppointment(new Date("2018-05-01"),
+                new Time("09:00"), new Duration("30"), new Description("Physiotherapy"), 7, 1));
+    }
+
+    @Test
+    public void isValidSpan() {
+        assertTrue(RecurringAppointment.isValidSpan(new Date("2018-05-01"), 7, 5));
+        assertTrue(RecurringAppointment.isValidSpan(new Date("2018-05-01"), RecurringAppointment.MAX_INTERVAL,
+                RecurringAppointment.MAX_OCCURRENCES));
+    }
+
+    @Test
+    public void getOccurrence() {
+        assertEquals(new Appointment(new Date("2018-05-01"), new Time("09:00"), new Duration("30"),
+                new Description("Physiotherapy")), weekly.getOccurrence(0));
+        assertEquals(new Appointment(new Date("2018-05-29"), new Time("09:00"), new Duration("30"),
+                new Description("Physiotherapy")), weekly.getOccurrence(4));
+    }
+
+    @Test
+    public void getOverlappingOccurrence() {
+        Appointment overlapping = new AppointmentBuilder().withDate("2018-05-15").withTime("09:15").build();
+        assertEquals(Optional.of(weekly.getOccurrence(2)),
+                weekly.getOverlappingOccurrence(overlapping.getStart(), overlapping.getEnd()));
+
+        // right after an occurrence
+        Appointment after = new AppointmentBuilder().withDate("2018-05-15").withTime("09:30").build();
+        assertEquals(Optional.empty(), weekly.getOverlappingOccurrence(after.getStart(), after.getEnd()));
+
+        // same time, but after the last occurrence
+        Appointment pastLast = new AppointmentBuilder().withDate("2018-06-05").withTime("09:00").build();
+        assertEquals(Optional.empty(), weekly.getOverlappingOccurrence(pastLast.getStart(), pastLast.getEnd()));
+
+        // same time, but before the first occurrence
+        Appointment beforeFirst = new AppointmentBuilder().withDate("2018-04-24").withTime("09:00").build();
+        assertEquals(Optional.empty(), weekly.getOverlappingOccurrence(beforeFirst.getStart(), beforeFirst.getEnd()));
+    }
+
+    @Test
+    public void getOccurrencesBetween() {
+        long from = weekly.getOccurrence(1).getStart() + 10;
+        long to = weekly.getOccurrence(3).getStart() + 1;
+        assertEquals(Arrays.asList(weekly.getOccurrence(1), weekly.getOccurrence(2), weekly.getOccurrence(3)),
+                weekly.getOccurrencesBetween(from, to));
+
+        // window between two occurrences
+        assertEquals(Collections.emptyList(), weekly.getOccurrencesBetween(weekly.getOccurrence(1).getEnd(),
+                weekly.getOccurrence(2).getStart()));
+    }
+
+    @Test
+    public void overlaps() {
+        // every two weeks from 2018-05-15, overlapping the third occurrence of weekly
+        RecurringAppointment fortnightly = new RecurringAppointment(new Date("2018-05-15"), new Time("09:20"),
+                new Duration("30"), new Description("Grooming"), 14, 2);
+        assertTrue(weekly.overlaps(fortnightly));
+        assertTrue(fortnightly.overlaps(weekly));
+
+        // same days, later in the day
+        RecurringAppointment afternoon = new RecurringAppointment(new Date("2018-05-01"), new Time("14:00"),
+                new Duration("30"), new Description("Grooming"), 7, 5);
+        assertFalse(weekly.overlaps(afternoon));
+    }
+}
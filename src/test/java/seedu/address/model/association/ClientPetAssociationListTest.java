@@ -0,0 +1,134 @@
+package seedu.address.model.association;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPets.GARFIELD;
+import static seedu.address.testutil.TypicalPets.LOTSO;
+import static seedu.address.testutil.TypicalPets.PICKLES;
+import static seedu.address.testutil.TypicalPets.SCOOBY;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.client.Client;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class ClientPetAssociationListTest {
+
+    private static final Client ELLE = (Client) TypicalPersons.ELLE;
+    private static final Client FIONA = (Client) TypicalPersons.FIONA;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private ClientPetAssociationList associations;
+
+    @Before
+    public void setUp() {
+        associations = new ClientPetAssociationList();
+        associations.add(new ClientOwnPet(FIONA, SCOOBY));
+        associations.add(new ClientOwnPet(ELLE, PICKLES));
+        associations.add(new ClientOwnPet(FIONA, GARFIELD));
+    }
+
+    @Test
+    public void asObservableList_modifyList_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        associations.asObservableList().remove(0);
+    }
+
+    @Test
+    public void lookups_useIndexes() {
+        assertTrue(associations.contains(new ClientOwnPet(FIONA, GARFIELD)));
+        assertFalse(associations.contains(new ClientOwnPet(ELLE, GARFIELD)));
+        assertTrue(associations.hasOwner(PICKLES));
+        assertFalse(associations.hasOwner(LOTSO));
+        assertEquals(Arrays.asList(SCOOBY, GARFIELD), associations.getPetsOf(FIONA));
+        assertEquals(Collections.emptyList(), associations.getPetsOf((Client) TypicalPersons.ALICE));
+    }
+
+    @Test
+    public void replaceClient_keepsPositions() {
+        Client editedFiona = (Client) new PersonBuilder(FIONA).withPhone("12345678").buildWithRoleClient();
+        associations.replaceClient(FIONA, editedFiona);
+
+        assertEquals(Arrays.asList(new ClientOwnPet(editedFiona, SCOOBY), new ClientOwnPet(ELLE, PICKLES),
+                new ClientOwnPet(editedFiona, GARFIELD)), associations.asObservableList());
+        assertFalse(associations.hasPets(FIONA));
+        assertEquals(Arrays.asList(SCOOBY, GARFIELD), associations.getPetsOf(editedFiona));
+    }
+
+    @Test
+    public void replaceClient_clientAlreadyOwnsPets_mergesPets() {
+        Client fionaEditedToElle = (Client) new PersonBuilder(ELLE).buildWithRoleClient();
+        associations.replaceClient(FIONA, fionaEditedToElle);
+
+        assertEquals(Arrays.asList(SCOOBY, PICKLES, GARFIELD), associations.getPetsOf(ELLE));
+        assertTrue(associations.hasOwner(SCOOBY));
+        assertFalse(associations.hasPets(FIONA));
+    }
+
+    @Test
+    public void removeClientAndReplaceClient_singleChangeEach() {
+        List<ListChangeListener.Change<? extends ClientOwnPet>> changes = new ArrayList<>();
+        associations.asObservableList().addListener((ListChangeListener<ClientOwnPet>) changes::add);
+        Client editedFiona = (Client) new PersonBuilder(FIONA).withPhone("12345678").buildWithRoleClient();
+
+        associations.replaceClient(FIONA, editedFiona);
+        associations.removeClient(editedFiona);
+
+        assertEquals(2, changes.size());
+        assertEquals(Collections.singletonList(new ClientOwnPet(ELLE, PICKLES)), associations.asObservableList());
+        assertEquals(0, associations.indexOf(new ClientOwnPet(ELLE, PICKLES)));
+        assertFalse(associations.hasOwner(GARFIELD));
+    }
+
+    @Test
+    public void removeClientAndPet_updateIndexes() {
+        assertTrue(associations.removePet(PICKLES));
+        assertFalse(associations.removePet(PICKLES));
+        assertFalse(associations.hasPets(ELLE));
+
+        associations.removeClient(FIONA);
+        assertTrue(associations.isEmpty());
+        assertFalse(associations.hasOwner(SCOOBY));
+    }
+
+    @Test
+    public void sortByPetName_petsOfClientFollowListOrder() {
+        associations.sortByPetName();
+
+        assertEquals(Arrays.asList(GARFIELD, SCOOBY), associations.getPetsOf(FIONA));
+    }
+
+    @Test
+    public void add_afterSortByPetName_insertsInPetNameOrder() {
+        associations.sortByPetName();
+        associations.add(new ClientOwnPet(FIONA, LOTSO));
+
+        assertEquals(Arrays.asList(GARFIELD, LOTSO, PICKLES, SCOOBY), associations.asObservableList().stream()
+                .map(ClientOwnPet::getPet).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(GARFIELD, LOTSO, SCOOBY), associations.getPetsOf(FIONA));
+    }
+
+    @Test
+    public void setAssociations_afterSortByPetName_stopsKeepingPetNameOrder() {
+        associations.sortByPetName();
+        associations.setAssociations(Collections.singletonList(new ClientOwnPet(FIONA, SCOOBY)));
+        assertFalse(associations.isSortedByPetName());
+
+        associations.add(new ClientOwnPet(FIONA, LOTSO));
+        assertEquals(Arrays.asList(SCOOBY, LOTSO), associations.getPetsOf(FIONA));
+    }
+}
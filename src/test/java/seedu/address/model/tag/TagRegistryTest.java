@@ -0,0 +1,73 @@
+package seedu.address.model.tag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class TagRegistryTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final TagRegistry registry = new TagRegistry();
+
+    @Test
+    public void acquire_equivalentTags_returnsSameTagObject() {
+        Tag first = registry.acquire(Collections.singleton(new Tag("friends"))).iterator().next();
+        Tag second = registry.acquire(Collections.singleton(new Tag("friends"))).iterator().next();
+        assertSame(first, second);
+        assertEquals(Collections.singletonList(first), registry.asObservableList());
+    }
+
+    @Test
+    public void release_lastUse_dropsTag() {
+        registry.acquire(Collections.singleton(new Tag("friends")));
+        registry.acquire(Collections.singleton(new Tag("friends")));
+
+        registry.release(Collections.singleton(new Tag("friends")));
+        assertTrue(registry.contains(new Tag("friends")));
+
+        registry.release(Collections.singleton(new Tag("friends")));
+        assertFalse(registry.contains(new Tag("friends")));
+        assertTrue(registry.asObservableList().isEmpty());
+    }
+
+    @Test
+    public void release_tagNotInUse_keepsTag() throws Exception {
+        registry.add(new Tag("friends"));
+        registry.release(Collections.singleton(new Tag("friends")));
+        assertTrue(registry.contains(new Tag("friends")));
+    }
+
+    @Test
+    public void add_duplicateTag_throwsDuplicateTagException() throws Exception {
+        registry.add(new Tag("friends"));
+        thrown.expect(UniqueTagList.DuplicateTagException.class);
+        registry.add(new Tag("friends"));
+    }
+
+    @Test
+    public void equals() throws Exception {
+        registry.setTags(new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("colleagues"))));
+        TagRegistry other = new TagRegistry();
+        other.add(new Tag("colleagues"));
+        other.add(new Tag("friends"));
+
+        // same tags in a different order -> returns true
+        assertEquals(registry, other);
+        assertEquals(registry.hashCode(), other.hashCode());
+
+        // different tags -> returns false
+        other.acquire(Collections.singleton(new Tag("family")));
+        assertFalse(registry.equals(other));
+    }
+}
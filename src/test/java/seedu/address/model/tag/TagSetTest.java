@@ -0,0 +1,60 @@
+package seedu.address.model.tag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class TagSetTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Set<Tag> hashSet = new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("colleagues")));
+
+    @Test
+    public void of_duplicateTags_keepsDistinctTagsInNameOrder() {
+        TagSet tags = TagSet.of(Arrays.asList(new Tag("friends"), new Tag("colleagues"), new Tag("friends")));
+        assertEquals(2, tags.size());
+        assertEquals(Arrays.asList(new Tag("colleagues"), new Tag("friends")), Arrays.asList(tags.toArray()));
+        assertTrue(tags.contains(new Tag("friends")));
+        assertFalse(tags.contains(new Tag("family")));
+        assertFalse(tags.contains("friends"));
+    }
+
+    @Test
+    public void of_tagSet_returnsSameSet() {
+        TagSet tags = TagSet.of(hashSet);
+        assertSame(tags, TagSet.of(tags));
+    }
+
+    @Test
+    public void equals_setOfSameTags_returnsTrue() {
+        TagSet tags = TagSet.of(hashSet);
+        assertEquals(hashSet, tags);
+        assertEquals(tags, hashSet);
+        assertEquals(hashSet.hashCode(), tags.hashCode());
+        assertEquals(tags, TagSet.of(new HashSet<>(hashSet)));
+        assertFalse(tags.equals(TagSet.of(Arrays.asList(new Tag("friends")))));
+    }
+
+    @Test
+    public void add_anyTag_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        TagSet.of(hashSet).add(new Tag("family"));
+    }
+
+    @Test
+    public void remove_anyTag_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        TagSet.of(hashSet).remove(new Tag("friends"));
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookSaverTest {
+
+    private static final long LONG_DEBOUNCE = 60_000;
+
+    @Test
+    public void submit_severalChanges_onlyLatestSaved() {
+        RecordingStorageStub storage = new RecordingStorageStub();
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, LONG_DEBOUNCE, e -> { });
+        AddressBook latest = new AddressBook();
+        saver.submit(new AddressBook());
+        saver.submit(new AddressBook());
+        saver.submit(latest);
+        assertEquals(3, saver.getPendingChanges());
+        assertTrue(storage.saved.isEmpty());
+
+        saver.flush();
+        assertEquals(0, saver.getPendingChanges());
+        assertEquals(1, storage.saved.size());
+        assertSame(latest, storage.saved.get(0));
+        assertTrue(saver.getLastSaveLatency() >= 0);
+
+        // nothing pending -> nothing saved
+        saver.flush();
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void submit_saveFails_failureReported() {
+        List<IOException> failures = new ArrayList<>();
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(new XmlAddressBookStorage("dummy") {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw new IOException("dummy exception");
+            }
+        }, 0, failures::add);
+        saver.submit(new AddressBook());
+        saver.flush();
+        assertEquals(1, failures.size());
+    }
+
+    @Test
+    public void run_changePending_savedBeforeAction() throws Exception {
+        RecordingStorageStub storage = new RecordingStorageStub();
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, LONG_DEBOUNCE, e -> { });
+        saver.submit(new AddressBook());
+        saver.run(() -> assertEquals(1, storage.saved.size()));
+    }
+
+    /**
+     * A stub that records the address books saved instead of writing them.
+     */
+    private class RecordingStorageStub extends XmlAddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+
+        RecordingStorageStub() {
+            super("dummy");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+            saved.add(addressBook);
+        }
+    }
+}
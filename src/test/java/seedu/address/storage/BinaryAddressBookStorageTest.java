@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.pet.Pet;
+import seedu.address.testutil.TypicalAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String filePath;
+    private String xmlFilePath;
+    private AddressBook addressBook;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().getPath() + File.separator + "TempAddressBook.bin";
+        xmlFilePath = testFolder.getRoot().getPath() + File.separator + "TempAddressBook.xml";
+        addressBook = TypicalAddressBook.getTypicalAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readSave_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        assertReadBackEquals(addressBook, storage.readAddressBook().get());
+
+        // save over the existing file
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertReadBackEquals(addressBook, storage.readAddressBook().get());
+
+        // smaller than the same address book in XML
+        new XmlAddressBookStorage(xmlFilePath).saveAddressBook(addressBook);
+        assertTrue(new File(filePath).length() < new File(xmlFilePath).length());
+    }
+
+    @Test
+    public void readAddressBook_onlyXmlFile_xmlImported() throws Exception {
+        new XmlAddressBookStorage(xmlFilePath).saveAddressBook(addressBook);
+        assertReadBackEquals(addressBook, new BinaryAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_xmlFilePath_xmlExported() throws Exception {
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook, xmlFilePath);
+        assertFalse(new File(filePath).exists());
+        assertReadBackEquals(addressBook, new XmlAddressBookStorage(xmlFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataConversionException() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        try (RandomAccessFile file = new RandomAccessFile(filePath, "rw")) {
+            file.seek(file.length() / 2);
+            int middle = file.read();
+            file.seek(file.length() / 2);
+            file.write(middle ^ 0xFF);
+        }
+
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFile_throwsDataConversionException() throws Exception {
+        new XmlAddressBookStorage(xmlFilePath).saveAddressBook(addressBook);
+        Files.copy(new File(xmlFilePath).toPath(), new File(filePath).toPath());
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    /**
+     * Asserts that {@code readBack} holds the same records as {@code expected}, with the same ids.
+     */
+    private void assertReadBackEquals(AddressBook expected, ReadOnlyAddressBook readBack) {
+        assertEquals(expected, new AddressBook(readBack));
+        assertEquals(expected.getClientPetAssociations(), new AddressBook(readBack).getClientPetAssociations());
+        assertEquals(getIds(expected.getPersonList(), Person::getId), getIds(readBack.getPersonList(), Person::getId));
+        assertEquals(getIds(expected.getPetList(), Pet::getId), getIds(readBack.getPetList(), Pet::getId));
+    }
+
+    /**
+     * Returns the ids of {@code entities}, in order.
+     */
+    private static <T> List<Integer> getIds(List<T> entities, ToIntFunction<T> idOf) {
+        return entities.stream().map(idOf::applyAsInt).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPets.PICKLES;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.TypicalAddressBook;
+
+public class JournaledAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String filePath;
+    private AddressBook addressBook;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().getPath() + File.separator + "TempAddressBook.xml";
+        addressBook = TypicalAddressBook.getTypicalAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_unversionedFile_migratedToCurrentFormat() throws Exception {
+        File unversionedFile = new File(FileUtil.getPath(
+                "src/test/data/XmlSerializableAddressBookTest/typicalAddressBookWithAssociations.xml"));
+        Files.copy(unversionedFile.toPath(), new File(filePath).toPath());
+        ReadOnlyAddressBook original = new JournaledAddressBookStorage(new XmlAddressBookStorage(filePath))
+                .readAddressBook().get();
+
+        assertEquals(XmlAddressBookCodec.FORMAT_VERSION, XmlAddressBookCodec.readFormatVersion(new File(filePath)));
+        ReadOnlyAddressBook migrated = new XmlAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, migrated);
+        assertEquals(original.getClientPetAssociations(), migrated.getClientPetAssociations());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_journaledAndReadBack() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new XmlAddressBookStorage(filePath));
+
+        // first save -> saved in full
+        storage.saveAddressBook(addressBook.snapshot());
+        assertEquals(0, getJournalLength());
+
+        // later saves -> journaled
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook.snapshot());
+        addressBook.removePerson(FIONA);
+        addressBook.removePet(PICKLES);
+        addressBook.sortClientList();
+        storage.saveAddressBook(addressBook.snapshot());
+        assertEquals(2, getJournalLength());
+
+        // no change -> nothing journaled
+        storage.saveAddressBook(addressBook.snapshot());
+        assertEquals(2, getJournalLength());
+
+        assertReadBackEquals(addressBook);
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_savedInFull() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new XmlAddressBookStorage(filePath),
+                1, Long.MAX_VALUE);
+        storage.saveAddressBook(addressBook.snapshot());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook.snapshot());
+        assertEquals(1, getJournalLength());
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook.snapshot());
+        assertEquals(0, getJournalLength());
+        assertReadBackEquals(addressBook);
+    }
+
+    @Test
+    public void saveAddressBook_notSnapshot_savedInFull() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new XmlAddressBookStorage(filePath));
+        storage.saveAddressBook(addressBook.snapshot());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(0, getJournalLength());
+        assertReadBackEquals(addressBook);
+    }
+
+    @Test
+    public void checkpoint_journalNotEmpty_savedInFull() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new XmlAddressBookStorage(filePath));
+        storage.saveAddressBook(addressBook.snapshot());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook.snapshot());
+        assertEquals(1, getJournalLength());
+
+        storage.checkpoint();
+        assertEquals(0, getJournalLength());
+        assertTrue(new File(filePath).exists());
+        assertReadBackEquals(addressBook);
+    }
+
+    @Test
+    public void readAddressBook_crashBeforeJournalCleared_journalNotReplayed() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new XmlAddressBookStorage(filePath));
+        storage.saveAddressBook(addressBook.snapshot());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook.snapshot());
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook.snapshot());
+        assertEquals(2, getJournalLength());
+
+        // a checkpoint that replaced the file, but crashed before clearing the journal
+        File file = new File(filePath);
+        XmlAddressBookCodec.write(addressBook, file, XmlAddressBookCodec.readGeneration(file) + 1);
+        assertEquals(2, getJournalLength());
+
+        assertReadBackEquals(addressBook);
+    }
+
+    @Test
+    public void saveAddressBook_savedInFull_nextGeneration() throws Exception {
+        XmlAddressBookStorage storage = new XmlAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        long generation = XmlAddressBookCodec.readGeneration(new File(filePath));
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(generation + 1, XmlAddressBookCodec.readGeneration(new File(filePath)));
+    }
+
+    /**
+     * Returns the number of changes in the journal of {@code filePath}, as counted from the file.
+     */
+    private int getJournalLength() throws Exception {
+        return new XmlAddressBookJournal(filePath).getLength();
+    }
+
+    /**
+     * Asserts that the address book read back from {@code filePath} by a new storage equals {@code expected}.
+     */
+    private void assertReadBackEquals(AddressBook expected) throws Exception {
+        ReadOnlyAddressBook readBack = new XmlAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(expected, new AddressBook(readBack));
+        assertEquals(expected.getClientPetAssociations(), new AddressBook(readBack).getClientPetAssociations());
+    }
+}
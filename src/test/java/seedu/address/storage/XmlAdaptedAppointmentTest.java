@@ -4,18 +4,53 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_1;
 import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_2;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 
+import java.util.Collections;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.vettechnician.VetTechnician;
+import seedu.address.testutil.AppointmentBuilder;
 
 //@@author md-azsa
 public class XmlAdaptedAppointmentTest {
 
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     @Test
     public void toModelType_validAppointment_returnsModel() throws Exception {
         XmlAdaptedAppointment appointment = new XmlAdaptedAppointment(APPOINTMENT_1);
         assertEquals(APPOINTMENT_1, appointment.toModelType());
     }
 
+    @Test
+    public void toModelType_vetTechnicianReferencedById_returnsReferredVetTechnician() throws Exception {
+        Appointment appointment = new AppointmentBuilder().build();
+        appointment.setVetTech((VetTechnician) GEORGE);
+        XmlAdaptedAppointment adapted = new XmlAdaptedAppointment(appointment, Collections.singletonMap(GEORGE, 7),
+                Collections.emptyMap());
+        assertEquals(GEORGE, adapted.toModelType(Collections.singletonMap(7, GEORGE), Collections.emptyMap())
+                .getVetTechnician());
+    }
+
+    @Test
+    public void toModelType_unknownVetTechnicianId_throwsIllegalValueException() throws Exception {
+        Appointment appointment = new AppointmentBuilder().build();
+        appointment.setVetTech((VetTechnician) GEORGE);
+        XmlAdaptedAppointment adapted = new XmlAdaptedAppointment(appointment, Collections.singletonMap(GEORGE, 7),
+                Collections.emptyMap());
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(XmlAdaptedAppointment.UNKNOWN_VETTECH_MESSAGE_FORMAT, 7));
+        adapted.toModelType(Collections.singletonMap(7, ALICE), Collections.emptyMap());
+    }
+
     @Test
     public void equals() {
         XmlAdaptedAppointment apptOne = new XmlAdaptedAppointment(APPOINTMENT_1);
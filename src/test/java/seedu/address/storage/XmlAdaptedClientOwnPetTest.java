@@ -3,17 +3,55 @@ package seedu.address.storage;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static seedu.address.testutil.TypicalAssociations.FIONA_LOTSO;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPets.LOTSO;
 
+import java.util.Collections;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
 
 public class XmlAdaptedClientOwnPetTest {
 
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     @Test
     public void toModelType_validAssociation_returnsAssociation() throws Exception {
         XmlAdaptedClientOwnPet association = new XmlAdaptedClientOwnPet(FIONA_LOTSO);
         assertEquals(FIONA_LOTSO, association.toModelType());
     }
 
+    @Test
+    public void toModelType_referencedByIds_returnsReferredAssociation() throws Exception {
+        XmlAdaptedClientOwnPet association = new XmlAdaptedClientOwnPet(FIONA_LOTSO,
+                Collections.singletonMap(FIONA, 1), Collections.singletonMap(LOTSO, 2));
+        assertEquals(FIONA_LOTSO, association.toModelType(Collections.singletonMap(1, FIONA),
+                Collections.singletonMap(2, LOTSO)));
+    }
+
+    @Test
+    public void toModelType_unknownPetId_throwsIllegalValueException() throws Exception {
+        XmlAdaptedClientOwnPet association = new XmlAdaptedClientOwnPet(FIONA_LOTSO,
+                Collections.singletonMap(FIONA, 1), Collections.singletonMap(LOTSO, 2));
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(XmlAdaptedClientOwnPet.UNKNOWN_PET_MESSAGE_FORMAT, 2));
+        association.toModelType(Collections.singletonMap(1, FIONA), Collections.emptyMap());
+    }
+
+    @Test
+    public void toModelType_clientIdOfVetTechnician_throwsIllegalValueException() throws Exception {
+        XmlAdaptedClientOwnPet association = new XmlAdaptedClientOwnPet(FIONA_LOTSO,
+                Collections.singletonMap(FIONA, 1), Collections.singletonMap(LOTSO, 2));
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(XmlAdaptedClientOwnPet.UNKNOWN_CLIENT_MESSAGE_FORMAT, 1));
+        association.toModelType(Collections.singletonMap(1, GEORGE), Collections.singletonMap(2, LOTSO));
+    }
+
     @Test
     public void equals() {
         XmlAdaptedClientOwnPet associationOne = new XmlAdaptedClientOwnPet(FIONA_LOTSO);
@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.TypicalAddressBook;
+
+public class XmlAddressBookCodecTest {
+
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("src/test/data/XmlAddressBookCodecTest/");
+    private static final File UNVERSIONED_FILE = new File(
+            FileUtil.getPath("src/test/data/XmlSerializableAddressBookTest/typicalAddressBookWithAssociations.xml"));
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void write_typicalAddressBook_readBackEqual() throws Exception {
+        File file = testFolder.newFile("TempAddressBook.xml");
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        XmlAddressBookCodec.write(original, file, 7);
+
+        AddressBook readBack = XmlAddressBookCodec.read(file);
+        assertEquals(original, readBack);
+        assertEquals(original.getClientPetAssociations(), readBack.getClientPetAssociations());
+
+        // same records as the JAXB format
+        assertEquals(new XmlSerializableAddressBook(original),
+                XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class));
+        assertEquals(XmlAddressBookCodec.FORMAT_VERSION, XmlAddressBookCodec.readFormatVersion(file));
+        assertEquals(7, XmlAddressBookCodec.readGeneration(file));
+    }
+
+    @Test
+    public void write_savedAgainAfterRemovingFirstPerson_idsKept() throws Exception {
+        File file = testFolder.newFile("TempAddressBook.xml");
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        XmlAddressBookCodec.write(original, file, 1);
+        AddressBook readBack = XmlAddressBookCodec.read(file);
+        assertEquals(getPersonIds(original), getPersonIds(readBack));
+
+        readBack.removePerson(readBack.getPersonList().get(0));
+        XmlAddressBookCodec.write(readBack, file, 2);
+        AddressBook readAgain = XmlAddressBookCodec.read(file);
+        assertEquals(getPersonIds(readBack), getPersonIds(readAgain));
+        assertEquals(getPersonIds(original).subList(1, original.getPersonList().size()), getPersonIds(readAgain));
+    }
+
+    @Test
+    public void read_unversionedFile_sameAsJaxb() throws Exception {
+        AddressBook expected = XmlUtil.getDataFromFile(UNVERSIONED_FILE, XmlSerializableAddressBook.class)
+                .toModelType();
+        assertEquals(expected, XmlAddressBookCodec.read(UNVERSIONED_FILE));
+        assertEquals(XmlAddressBookCodec.UNVERSIONED, XmlAddressBookCodec.readFormatVersion(UNVERSIONED_FILE));
+    }
+
+    @Test
+    public void read_unversionedFileReferringAhead_success() throws Exception {
+        AddressBook readBack = XmlAddressBookCodec.read(new File(TEST_DATA_FOLDER
+                + "unversionedOutOfOrderAddressBook.xml"));
+        assertEquals(1, readBack.getClientPetAssociations().size());
+    }
+
+    @Test
+    public void read_copyInNormalisedVersion_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlAddressBookCodec.read(new File(TEST_DATA_FOLDER + "copiedPersonAddressBook.xml"));
+    }
+
+    @Test
+    public void read_recordsOutOfOrder_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlAddressBookCodec.read(new File(TEST_DATA_FOLDER + "outOfOrderAddressBook.xml"));
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlAddressBookCodec.read(new File(TEST_DATA_FOLDER + "unsupportedVersionAddressBook.xml"));
+    }
+
+    private static List<Integer> getPersonIds(AddressBook addressBook) {
+        return addressBook.getPersonList().stream().map(Person::getId).collect(Collectors.toList());
+    }
+}
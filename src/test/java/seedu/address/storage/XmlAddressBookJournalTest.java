@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.testutil.TypicalAddressBook;
+
+public class XmlAddressBookJournalTest {
+
+    private static final long GENERATION = 3;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private XmlAddressBookJournal journal;
+    private XmlAdaptedAddressBookChange change;
+
+    @Before
+    public void setUp() throws Exception {
+        journal = new XmlAddressBookJournal(testFolder.getRoot().getPath() + File.separator + "TempAddressBook.xml");
+        AddressBook addressBook = TypicalAddressBook.getTypicalAddressBook();
+        AddressBookSnapshot before = addressBook.snapshot();
+        addressBook.addPerson(HOON);
+        change = new XmlAdaptedAddressBookChange(before, addressBook.snapshot());
+    }
+
+    @Test
+    public void readChanges_noJournal_emptyList() throws Exception {
+        assertTrue(journal.readChanges(GENERATION).isEmpty());
+        assertEquals(0, journal.getLength());
+    }
+
+    @Test
+    public void readChanges_lastChangeCutShort_lastChangeSkipped() throws Exception {
+        journal.append(change, GENERATION);
+        appendToJournal("<change><persons from=\"3\"");
+
+        assertEquals(1, journal.readChanges(GENERATION).size());
+    }
+
+    @Test
+    public void readChanges_earlierChangeInvalid_throwsDataConversionException() throws Exception {
+        appendToJournal("not a change" + System.lineSeparator());
+        journal.append(change, GENERATION);
+
+        thrown.expect(DataConversionException.class);
+        journal.readChanges(GENERATION);
+    }
+
+    @Test
+    public void readChanges_changeOfEarlierGeneration_skipped() throws Exception {
+        journal.append(change, GENERATION - 1);
+        journal.append(change, GENERATION);
+
+        assertEquals(1, journal.readChanges(GENERATION).size());
+        assertEquals(2, journal.getLength());
+    }
+
+    @Test
+    public void clear_removesChanges() throws Exception {
+        journal.append(change, GENERATION);
+        journal.append(change, GENERATION);
+        assertEquals(2, journal.getLength());
+
+        journal.clear();
+        assertEquals(0, journal.getLength());
+        assertTrue(journal.readChanges(GENERATION).isEmpty());
+    }
+
+    private void appendToJournal(String text) throws Exception {
+        Files.write(new File(journal.getJournalFilePath()).toPath(), text.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
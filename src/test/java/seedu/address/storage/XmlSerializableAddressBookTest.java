@@ -1,6 +1,9 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalAssociations.FIONA_LOTSO;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 
 import java.io.File;
 
@@ -12,6 +15,10 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.vettechnician.VetTechnician;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.TestUtil;
 import seedu.address.testutil.TypicalAddressBook;
 import seedu.address.testutil.TypicalPersons;
 
@@ -22,6 +29,7 @@ public class XmlSerializableAddressBookTest {
     private static final File INVALID_PERSON_FILE = new File(TEST_DATA_FOLDER + "invalidPersonAddressBook.xml");
     private static final File INVALID_TAG_FILE = new File(TEST_DATA_FOLDER + "invalidTagAddressBook.xml");
     private static final File TYPICAL_FILE = new File(TEST_DATA_FOLDER + "typicalAddressBookWithAssociations.xml");
+    private static final File TEMP_FILE = new File(TestUtil.getFilePathInSandboxFolder("tempAddressBook.xml"));
 
 
     @Rule
@@ -60,4 +68,26 @@ public class XmlSerializableAddressBookTest {
         AddressBook typicalPersonsAddressBook = TypicalAddressBook.getTypicalAddressBook();
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
+
+    @Test
+    public void toModelType_savedWithIds_referencesRestored() throws Exception {
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        Appointment appointment = new AppointmentBuilder().withDate("2018-04-01").build();
+        appointment.setClientOwnPet(FIONA_LOTSO);
+        appointment.setVetTech((VetTechnician) GEORGE);
+        original.scheduleAppointment(appointment);
+
+        TEMP_FILE.createNewFile();
+        XmlUtil.saveDataToFile(TEMP_FILE, new XmlSerializableAddressBook(original));
+        // appointments and associations refer to persons and pets instead of copying them
+        assertFalse(FileUtil.readFromFile(TEMP_FILE).contains("<client>"));
+
+        AddressBook addressBookFromFile = XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableAddressBook.class)
+                .toModelType();
+        assertEquals(original, addressBookFromFile);
+        assertEquals(original.getClientPetAssociations(), addressBookFromFile.getClientPetAssociations());
+        Appointment appointmentFromFile = addressBookFromFile.getAppointmentList().get(2);
+        assertEquals(FIONA_LOTSO, appointmentFromFile.getClientOwnPet());
+        assertEquals(GEORGE, appointmentFromFile.getVetTechnician());
+    }
 }